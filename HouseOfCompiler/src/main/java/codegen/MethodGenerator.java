@@ -8,12 +8,14 @@ import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
 
 import codegen.utils.GenUtils;
+import codegen.utils.InstructionCounter;
 import codegen.utils.LocalVarStack;
 import common.BaseType;
 import common.Primitives;
 import common.PrintableVector;
 import common.ReferenceType;
 import common.Type;
+import common.jfr.MethodGenerationEvent;
 import context.Context;
 import syntaxtree.expressions.Binary;
 import syntaxtree.expressions.BoolExpr;
@@ -41,6 +43,9 @@ public class MethodGenerator implements MethodCodeVisitor {
 
     private final static int TRUE = Opcodes.ICONST_1;
     private final static int FALSE = Opcodes.ICONST_0;
+    // EventType.isEnabled would load the JFR metadata even without a
+    // recording, isEnabled of any event instance only reads a static flag
+    private final static MethodGenerationEvent EVENT_PROBE = new MethodGenerationEvent();
 
     private final String className;
     private final Context context;
@@ -52,6 +57,8 @@ public class MethodGenerator implements MethodCodeVisitor {
 
     private String lastClass;
 
+    private MethodGenerationEvent event; // null while no recording listens
+
     public MethodGenerator(String className, Context context, ClassWriter cw) {
         this.className = className;
         this.cw = cw;
@@ -68,9 +75,8 @@ public class MethodGenerator implements MethodCodeVisitor {
         PrintableVector<Type> parameterTypes = constructorDecl.getParameterDeclarations().stream()
                 .map(MethodParameter::getType).collect(Collectors.toCollection(PrintableVector::new));
 
-        mv = cw.visitMethod(GenUtils.resolveAccessModifier(constructorDecl.getAccessModifier()), "<init>",
-                GenUtils.generateDescriptor(parameterTypes, constructorDecl.getType()), null, null);
-        mv.visitCode();
+        beginMethod(GenUtils.resolveAccessModifier(constructorDecl.getAccessModifier()), "<init>",
+                GenUtils.generateDescriptor(parameterTypes, constructorDecl.getType()));
 
         localVars.push("this");
         constructorDecl.getParameterDeclarations().forEach(parameter -> localVars.push(parameter.getIdentifier()));
@@ -80,8 +86,7 @@ public class MethodGenerator implements MethodCodeVisitor {
         constructorDecl.getBlock().accept(this);
         mv.visitInsn(Opcodes.RETURN);
 
-        mv.visitMaxs(0, 0);
-        mv.visitEnd();
+        endMethod();
     }
 
     /**
@@ -92,9 +97,8 @@ public class MethodGenerator implements MethodCodeVisitor {
         PrintableVector<Type> parameterTypes = methodDecl.getParameters().stream().map(MethodParameter::getType)
                 .collect(Collectors.toCollection(PrintableVector::new));
 
-        mv = cw.visitMethod(GenUtils.resolveAccessModifier(methodDecl.getAccessModifier()), methodDecl.getIdentifier(),
-                GenUtils.generateDescriptor(parameterTypes, methodDecl.getType()), null, null);
-        mv.visitCode();
+        beginMethod(GenUtils.resolveAccessModifier(methodDecl.getAccessModifier()), methodDecl.getIdentifier(),
+                GenUtils.generateDescriptor(parameterTypes, methodDecl.getType()));
 
         localVars.push("this");
         methodDecl.getParameters().forEach(parameter -> localVars.push(parameter.getIdentifier()));
@@ -106,15 +110,13 @@ public class MethodGenerator implements MethodCodeVisitor {
             }
         }
 
-        mv.visitMaxs(0, 0);
-        mv.visitEnd();
+        endMethod();
     }
 
     @Override
     public void visit(MainMethodDecl mainDecl) {
-        mv = cw.visitMethod(GenUtils.resolveAccessModifier(mainDecl.getAccessModifier()), mainDecl.getIdentifier(),
-                "([Ljava/lang/String;)V", null, null);
-        mv.visitCode();
+        beginMethod(GenUtils.resolveAccessModifier(mainDecl.getAccessModifier()), mainDecl.getIdentifier(),
+                "([Ljava/lang/String;)V");
 
         localVars.push("this");
         localVars.push("+args");
@@ -122,8 +124,51 @@ public class MethodGenerator implements MethodCodeVisitor {
         mainDecl.getBlock().accept(this);
         mv.visitInsn(Opcodes.RETURN);
 
+        endMethod();
+    }
+
+    /**
+     * Starts the method and, while a flight recording listens, the
+     * MethodGenerationEvent with an instruction counter around the visitor.
+     * Without a recording no event, counter or timestamp is created.
+     *
+     * @param access
+     * @param name
+     * @param descriptor
+     */
+    private void beginMethod(int access, String name, String descriptor) {
+        event = null;
+        if (EVENT_PROBE.isEnabled()) {
+            event = new MethodGenerationEvent();
+            event.begin();
+        }
+        mv = cw.visitMethod(access, name, descriptor, null, null);
+        if (event != null) {
+            event.methodName = name;
+            event.descriptor = descriptor;
+            mv = new InstructionCounter(mv);
+        }
+        mv.visitCode();
+    }
+
+    private void endMethod() {
+        if (event == null) {
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+            return;
+        }
+        long frameStart = System.nanoTime();
         mv.visitMaxs(0, 0);
+        long frameTime = System.nanoTime() - frameStart;
         mv.visitEnd();
+        event.end();
+        if (event.shouldCommit()) {
+            event.className = className;
+            event.instructionCount = ((InstructionCounter) mv).getCount();
+            event.frameComputationTime = frameTime;
+            event.commit();
+        }
+        event = null;
     }
 
     /**************
@@ -309,7 +354,7 @@ public class MethodGenerator implements MethodCodeVisitor {
         newDecl.getArguments().forEach(expression -> expression.accept(this));
         mv.visitMethodInsn(Opcodes.INVOKESPECIAL, newDecl.getIdentifier(), "<init>",
                 GenUtils.generateDescriptor(GenUtils.expressionsToTypes(newDecl.getArguments()),
-                        new BaseType(Primitives.VOID)),
+                        BaseType.of(Primitives.VOID)),
                 false);
     }
 
@@ -1,24 +1,44 @@
 package codegen;
 
+import common.CompileListener;
+import common.CompilePhase;
+import common.ExecutionMode;
 import common.IProgramGenerator;
+import common.PhaseStats;
+import common.PhaseTimer;
 import context.Context;
 import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.util.Textifier;
 import org.objectweb.asm.util.TraceClassVisitor;
+import syntaxtree.structure.ClassDecl;
 import syntaxtree.structure.Program;
 import visitor.codevisitor.ProgramCodeVisitor;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.HashMap;
+import java.util.stream.IntStream;
 
 public class ProgramGenerator implements ProgramCodeVisitor, IProgramGenerator {
 
     private final HashMap<String, byte[]> classes;
+    private final ExecutionMode mode;
+    private final CompileListener listener; // null skips the per class measurements
+    private PhaseTimer phaseTimer; // the whole generation, collects the classes generated on other threads
     private Context context;
 
     public ProgramGenerator() {
-        classes = new HashMap<>();
+        this(ExecutionMode.SERIAL);
+    }
+
+    public ProgramGenerator(ExecutionMode mode) {
+        this(mode, null);
+    }
+
+    public ProgramGenerator(ExecutionMode mode, CompileListener listener) {
+        this.classes = new HashMap<>();
+        this.mode = mode;
+        this.listener = listener;
     }
 
     /**
@@ -26,8 +46,12 @@ public class ProgramGenerator implements ProgramCodeVisitor, IProgramGenerator {
      * @return HashMap<String, byte[]>
      */
     public HashMap<String, byte[]> generateBytecode(Program program) {
+        phaseTimer = listener == null ? null : PhaseTimer.start();
         context = new Context(program);
         program.accept(this);
+        if (listener != null) {
+            listener.phaseFinished(phaseTimer.stop(CompilePhase.CODEGEN, null));
+        }
         return classes;
     }
 
@@ -42,6 +66,32 @@ public class ProgramGenerator implements ProgramCodeVisitor, IProgramGenerator {
         return pg.getBytecode();
     }
 
+    /**
+     * Generates every class on its own ClassWriter in parallel. The result is
+     * byte-for-byte the same as {@link #generate(Program)}.
+     *
+     * @param program
+     * @return HashMap<String, byte[]>
+     */
+    public static HashMap<String, byte[]> generateParallel(Program program) {
+        ProgramGenerator pg = new ProgramGenerator(ExecutionMode.PARALLEL);
+        pg.generateBytecode(program);
+        return pg.getBytecode();
+    }
+
+    /**
+     * @param program
+     * @param mode
+     * @param listener receives the measurements of every generated class and
+     *                 of the whole code generation
+     * @return HashMap<String, byte[]>
+     */
+    public static HashMap<String, byte[]> generate(Program program, ExecutionMode mode, CompileListener listener) {
+        ProgramGenerator pg = new ProgramGenerator(mode, listener);
+        pg.generateBytecode(program);
+        return pg.getBytecode();
+    }
+
     public HashMap<String, byte[]> getBytecode() {
         return classes;
     }
@@ -52,11 +102,43 @@ public class ProgramGenerator implements ProgramCodeVisitor, IProgramGenerator {
     @Override
     public void visit(Program program) {
         classes.clear();
-        program.getClasses().forEach(clazz -> {
-            ClassGenerator classGen = new ClassGenerator(context);
-            clazz.accept(classGen);
-            classes.put(clazz.getIdentifier(), classGen.getBytecode());
-        });
+        if (mode == ExecutionMode.PARALLEL) {
+            visitParallel(program);
+        } else {
+            program.getClasses().forEach(clazz -> classes.put(clazz.getIdentifier(), generateClass(clazz)));
+        }
+    }
+
+    /**
+     * Each task writes only its own slot, the map is filled afterwards in
+     * declaration order so duplicate identifiers resolve like the serial path.
+     *
+     * @param program
+     */
+    private void visitParallel(Program program) {
+        var classDecls = program.getClasses();
+        byte[][] bytecode = new byte[classDecls.size()][];
+        IntStream.range(0, classDecls.size()).parallel()
+                .forEach(i -> bytecode[i] = generateClass(classDecls.get(i)));
+        for (int i = 0; i < bytecode.length; i++) {
+            classes.put(classDecls.get(i).getIdentifier(), bytecode[i]);
+        }
+    }
+
+    /**
+     * @param clazz
+     * @return byte[]
+     */
+    private byte[] generateClass(ClassDecl clazz) {
+        PhaseTimer timer = listener == null ? null : PhaseTimer.start();
+        ClassGenerator classGen = new ClassGenerator(context);
+        clazz.accept(classGen);
+        if (timer != null) {
+            PhaseStats stats = timer.stop(CompilePhase.CODEGEN, clazz.getIdentifier());
+            phaseTimer.addClass(stats);
+            listener.phaseFinished(stats);
+        }
+        return classGen.getBytecode();
     }
 
 
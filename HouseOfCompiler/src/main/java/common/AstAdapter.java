@@ -2,18 +2,54 @@ package common;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.function.Function;
 
+import org.antlr.v4.runtime.BailErrorStrategy;
 import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 
+import common.jfr.AstAdaptationEvent;
+import common.jfr.ParseEvent;
+import parser.DirectAstBuilder;
+import parser.JavaSubsetScanner;
+import parser.RecursiveDescentParser;
+import parser.SymbolTokenFactory;
 import parser.adapter.ProgramAdapter;
-import parser.generated.JavaSubsetLexer;
 import parser.generated.JavaSubsetParser;
 import syntaxtree.structure.Program;
 
 public class AstAdapter implements IAstAdapter {
 
+    private final ParseMode mode;
+    private final AstMode astMode;
+    private final LexMode lexMode;
+
+    public AstAdapter() {
+        this(ParseMode.SLL_FIRST);
+    }
+
+    public AstAdapter(ParseMode mode) {
+        this(mode, AstMode.ADAPTERS);
+    }
+
+    public AstAdapter(ParseMode mode, AstMode astMode) {
+        this(mode, astMode, LexMode.ANTLR);
+    }
+
+    public AstAdapter(ParseMode mode, AstMode astMode, LexMode lexMode) {
+        this.mode = mode;
+        this.astMode = astMode;
+        this.lexMode = lexMode;
+    }
+
     /**
      * @param stream
      * @return Program
@@ -27,13 +63,177 @@ public class AstAdapter implements IAstAdapter {
         } catch (IOException e) {
             e.printStackTrace();
         }
-        JavaSubsetLexer lexer = new JavaSubsetLexer(charStream);
+        return getAst(charStream);
+    }
+
+    /**
+     * Lexes the memory mapped file without copying it first
+     *
+     * @param file
+     * @return Program
+     * @throws IOException
+     */
+    @Override
+    public Program getAst(Path file) throws IOException {
+        return getAst(MappedCharStream.open(file));
+    }
+
+    /**
+     * @param charStream
+     * @return Program
+     */
+    public Program getAst(CharStream charStream) {
+        ParseEvent parseEvent = new ParseEvent();
+        parseEvent.begin();
+        if (astMode == AstMode.RECURSIVE_DESCENT || astMode == AstMode.RECOVERING) {
+            Program program = astMode == AstMode.RECOVERING ? parseRecovering(charStream)
+                    : RecursiveDescentParser.parse(createLexer(charStream));
+            parseEvent.end();
+            if (parseEvent.shouldCommit()) {
+                parseEvent.characters = charStream.size();
+                parseEvent.commit();
+            }
+            return program;
+        }
+        DfaCache dfaCache = DfaCache.getShared();
+        long missesBefore = dfaCache.getMisses();
+        JavaSubsetParser parser = dfaCache.createParser(new CommonTokenStream(createLexer(charStream)));
+        DirectAstBuilder builder = null;
+        if (astMode == AstMode.DIRECT) {
+            builder = new DirectAstBuilder();
+            builder.attach(parser);
+        }
+        var tree = parse(parser, mode);
+        dfaCache.parsed(charStream, missesBefore);
+        parseEvent.end();
+        if (parseEvent.shouldCommit()) {
+            parseEvent.characters = charStream.size();
+            parseEvent.tokens = parser.getTokenStream().size();
+            parseEvent.commit();
+        }
+        if (builder != null) {
+            return builder.getProgram();
+        }
+
+        AstAdaptationEvent adaptationEvent = new AstAdaptationEvent();
+        adaptationEvent.begin();
+        Program program = ProgramAdapter.adapt(tree);
+        adaptationEvent.end();
+        if (adaptationEvent.shouldCommit()) {
+            adaptationEvent.classes = program.getClasses().size();
+            adaptationEvent.commit();
+        }
+        return program;
+    }
+
+    /**
+     * @param charStream
+     * @return Program
+     * @throws SyntaxError with every syntax error of the charStream and the
+     *                     partial Program
+     */
+    private Program parseRecovering(CharStream charStream) {
+        CollectingErrorListener errors = new CollectingErrorListener();
+        Lexer lexer = createLexer(charStream);
         lexer.removeErrorListeners();
-        lexer.addErrorListener(ThrowingErrorListener.INSTANCE);
-        CommonTokenStream tokens = new CommonTokenStream(lexer);
-        JavaSubsetParser parser = new JavaSubsetParser(tokens);
-        parser.removeErrorListeners();
-        parser.addErrorListener(ThrowingErrorListener.INSTANCE);
-        return ProgramAdapter.adapt(parser.program());
+        lexer.addErrorListener(errors);
+        Program program = RecursiveDescentParser.parse(lexer, errors);
+        if (errors.hasErrors()) {
+            throw new SyntaxError(errors.getErrors(), program);
+        }
+        return program;
+    }
+
+    /**
+     * @param charStream
+     * @return Lexer of the LexMode reporting every syntax error through the
+     *         ThrowingErrorListener
+     */
+    private Lexer createLexer(CharStream charStream) {
+        return createLexer(charStream, lexMode);
+    }
+
+    /**
+     * @param charStream
+     * @param lexMode
+     * @return Lexer of the LexMode reporting every syntax error through the
+     *         ThrowingErrorListener
+     */
+    static Lexer createLexer(CharStream charStream, LexMode lexMode) {
+        if (lexMode == LexMode.SCANNER) {
+            Lexer scanner = new JavaSubsetScanner(charStream);
+            scanner.setTokenFactory(SymbolTokenFactory.INSTANCE);
+            scanner.removeErrorListeners();
+            scanner.addErrorListener(ThrowingErrorListener.INSTANCE);
+            return scanner;
+        }
+        return DfaCache.getShared().createLexer(charStream);
+    }
+
+    /**
+     * Lexer and parser on the shared DfaCache reporting every syntax error
+     * through the ThrowingErrorListener
+     *
+     * @param charStream
+     * @return JavaSubsetParser
+     */
+    public static JavaSubsetParser createParser(CharStream charStream) {
+        return DfaCache.getShared().createParser(charStream);
+    }
+
+    /**
+     * With SLL_FIRST the input is parsed with the cheaper SLL prediction and
+     * the BailErrorStrategy first. SLL only fails on syntax errors or on
+     * inputs that need full context, so only then the tokens are rewound and
+     * parsed again with full LL, which reports the errors through the
+     * ThrowingErrorListener like a plain LL parse.
+     *
+     * @param parser created by createParser
+     * @param mode
+     * @return ProgramContext
+     */
+    public static JavaSubsetParser.ProgramContext parse(JavaSubsetParser parser, ParseMode mode) {
+        return parse(parser, mode, JavaSubsetParser::program);
+    }
+
+    /**
+     * Like parse, but for a token stream holding a single class
+     *
+     * @param parser
+     * @param mode
+     * @return ClassdeclContext
+     */
+    public static JavaSubsetParser.ClassdeclContext parseClass(JavaSubsetParser parser, ParseMode mode) {
+        return parse(parser, mode, JavaSubsetParser::classdecl);
+    }
+
+    /**
+     * @param <T>
+     * @param parser
+     * @param mode
+     * @param rule   entry rule
+     * @return T
+     */
+    private static <T extends ParserRuleContext> T parse(JavaSubsetParser parser, ParseMode mode,
+            Function<JavaSubsetParser, T> rule) {
+        if (mode == ParseMode.SLL_FIRST) {
+            parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+            parser.setErrorHandler(new BailErrorStrategy());
+            // keep other listeners, e.g. a DirectAstBuilder
+            parser.removeErrorListener(ThrowingErrorListener.INSTANCE);
+            try {
+                return rule.apply(parser);
+            } catch (ParseCancellationException e) {
+                // lexer errors come from the ThrowingErrorListener without a cause
+                if (!(e.getCause() instanceof RecognitionException)) {
+                    throw e;
+                }
+            }
+            parser.reset();
+            parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+            parser.setErrorHandler(new DefaultErrorStrategy());
+            parser.addErrorListener(ThrowingErrorListener.INSTANCE);
+        }
+        return rule.apply(parser);
     }
 }
@@ -0,0 +1,166 @@
+package common;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import syntaxtree.structure.Program;
+
+/**
+ * Unchecked ASTs of already parsed sources keyed by the SHA-256 of the source
+ * bytes. The ASTs are kept serialized by the AstSerializer, so every hit hands
+ * out a fresh Program the semantic check can annotate without touching the
+ * cached one. The least recently used entries are dropped once the cache
+ * holds more than maxEntries sources; with a directory every entry is also
+ * written to and looked up in a file named after its hash.
+ */
+public class AstCache {
+
+    public static final int DEFAULT_MAX_ENTRIES = 256;
+
+    private static final String EXTENSION = ".ast";
+
+    private final Path directory;
+    private final LinkedHashMap<String, byte[]> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public AstCache() {
+        this(DEFAULT_MAX_ENTRIES, null);
+    }
+
+    /**
+     * @param maxEntries sources kept in memory
+     * @param directory  on disk cache, may be null
+     */
+    public AstCache(int maxEntries, Path directory) {
+        this.directory = directory;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, byte[]> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * @param source
+     * @return String hex SHA-256 of the source
+     */
+    public static String hash(byte[] source) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(source);
+            StringBuilder hex = new StringBuilder();
+            for (byte b : hash) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @param hash of the source
+     * @return Program a fresh copy of the cached AST or null
+     */
+    public Program get(String hash) {
+        byte[] serialized;
+        synchronized (entries) {
+            serialized = entries.get(hash);
+        }
+        if (serialized != null) {
+            hits.increment();
+            return AstSerializer.read(serialized);
+        }
+        Program program = directory == null ? null : load(hash);
+        if (program == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return program;
+    }
+
+    /**
+     * Has to be called before the program is checked
+     *
+     * @param hash    of the source
+     * @param program unchecked AST of the source
+     */
+    public void put(String hash, Program program) {
+        byte[] serialized = AstSerializer.write(program);
+        synchronized (entries) {
+            entries.put(hash, serialized);
+        }
+        if (directory != null) {
+            store(hash, serialized);
+        }
+    }
+
+    /**
+     * Reads the file and keeps its bytes in memory. The file is only read
+     * into a Program once, that Program is the result of this first hit.
+     *
+     * @param hash
+     * @return Program or null if there is no valid file for the hash
+     */
+    private Program load(String hash) {
+        Path file = directory.resolve(hash + EXTENSION);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try {
+            byte[] serialized = Files.readAllBytes(file);
+            // files of an older format are rejected here
+            Program program = AstSerializer.read(serialized);
+            synchronized (entries) {
+                entries.put(hash, serialized);
+            }
+            return program;
+        } catch (IOException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Writes the file through a temporary file, so concurrent compilers never
+     * read half written entries
+     *
+     * @param hash
+     * @param serialized
+     */
+    private void store(String hash, byte[] serialized) {
+        try {
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, hash, ".tmp");
+            Files.write(temp, serialized);
+            Files.move(temp, directory.resolve(hash + EXTENSION), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // the cache is only an optimization
+            e.printStackTrace();
+        }
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+}
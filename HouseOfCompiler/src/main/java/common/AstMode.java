@@ -0,0 +1,8 @@
+package common;
+
+public enum AstMode {
+    ADAPTERS, // parse tree adapted by parser.adapter
+    DIRECT, // syntaxtree built by the DirectAstBuilder while parsing, no parse tree
+    RECURSIVE_DESCENT, // hand written RecursiveDescentParser instead of the ANTLR parser
+    RECOVERING // RecursiveDescentParser reporting every syntax error in one SyntaxError
+}
@@ -0,0 +1,677 @@
+package common;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+
+import parser.SymbolTokenFactory;
+import syntaxtree.expressions.Binary;
+import syntaxtree.expressions.BoolExpr;
+import syntaxtree.expressions.CharExpr;
+import syntaxtree.expressions.IExpression;
+import syntaxtree.expressions.InstVar;
+import syntaxtree.expressions.IntegerExpr;
+import syntaxtree.expressions.LocalOrFieldVar;
+import syntaxtree.expressions.Null;
+import syntaxtree.expressions.StringExpr;
+import syntaxtree.expressions.This;
+import syntaxtree.expressions.Unary;
+import syntaxtree.statementexpression.Assign;
+import syntaxtree.statementexpression.CrementStmtExpr;
+import syntaxtree.statementexpression.IStatementExpression;
+import syntaxtree.statementexpression.MethodCall;
+import syntaxtree.statementexpression.NewDecl;
+import syntaxtree.statements.Block;
+import syntaxtree.statements.ForStmt;
+import syntaxtree.statements.IStatement;
+import syntaxtree.statements.IfStmt;
+import syntaxtree.statements.LocalVarDecl;
+import syntaxtree.statements.ReturnStmt;
+import syntaxtree.statements.WhileStmt;
+import syntaxtree.structure.ClassDecl;
+import syntaxtree.structure.ConstructorDecl;
+import syntaxtree.structure.FieldDecl;
+import syntaxtree.structure.MainMethodDecl;
+import syntaxtree.structure.MethodDecl;
+import syntaxtree.structure.MethodParameter;
+import syntaxtree.structure.Program;
+
+/**
+ * Compact binary form of the AST, unchecked as the adapters build it or typed
+ * after the SemanticCheck. Every node is written with its source position and
+ * the Type the check set on it, so a typed Program read back goes straight to
+ * the code generation without parsing or checking it again.
+ *
+ * Numbers are written as varints and every string only once: its first use
+ * appends it to the string table, later uses refer to its index.
+ */
+public class AstSerializer {
+
+    private static final int MAGIC = 0x484f4341; // "HOCA"
+    private static final int VERSION = 2;
+
+    // node tags, 0 is a missing node
+    private static final int NULL = 0;
+    private static final int BINARY = 1;
+    private static final int BOOL = 2;
+    private static final int CHAR = 3;
+    private static final int INST_VAR = 4;
+    private static final int INTEGER = 5;
+    private static final int LOCAL_OR_FIELD_VAR = 6;
+    private static final int NULL_VALUE = 7;
+    private static final int STRING = 8;
+    private static final int THIS = 9;
+    private static final int UNARY = 10;
+    private static final int ASSIGN = 11;
+    private static final int CREMENT = 12;
+    private static final int METHOD_CALL = 13;
+    private static final int NEW_DECL = 14;
+    private static final int BLOCK = 15;
+    private static final int FOR = 16;
+    private static final int IF = 17;
+    private static final int LOCAL_VAR_DECL = 18;
+    private static final int RETURN = 19;
+    private static final int WHILE = 20;
+
+    // type tags: 0 is no type, 1 to 4 the Primitives
+    private static final int REFERENCE_TYPE = 5;
+
+    private static final Primitives[] PRIMITIVES = Primitives.values();
+    private static final BaseType[] BASE_TYPES = Arrays.stream(PRIMITIVES).map(BaseType::of)
+            .toArray(BaseType[]::new);
+    private static final Operator[] OPERATORS = Operator.values();
+    private static final AccessModifier[] ACCESS_MODIFIERS = AccessModifier.values();
+
+    private AstSerializer() {
+    }
+
+    /**
+     * @param program
+     * @return byte[]
+     */
+    public static byte[] write(Program program) {
+        Output out = new Output();
+        out.writeInt(MAGIC);
+        out.writeVarint(VERSION);
+        out.writeVarint(program.getClasses().size());
+        for (ClassDecl classDecl : program.getClasses()) {
+            writeClass(out, classDecl);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * @param bytes written by write(Program)
+     * @return Program
+     * @throws IllegalArgumentException if the bytes are no serialized Program
+     *                                  of this version
+     */
+    public static Program read(byte[] bytes) {
+        Input in = new Input(bytes);
+        try {
+            if (in.readInt() != MAGIC || in.readVarint() != VERSION) {
+                throw new IllegalArgumentException("Not a serialized Program of version " + VERSION);
+            }
+            PrintableVector<ClassDecl> classes = new PrintableVector<>();
+            for (int i = in.readVarint(); i > 0; i--) {
+                classes.add(readClass(in));
+            }
+            return new Program(classes);
+        } catch (IndexOutOfBoundsException | ClassCastException e) {
+            throw new IllegalArgumentException("Corrupt serialized Program", e);
+        }
+    }
+
+    private static void writeClass(Output out, ClassDecl classDecl) {
+        out.writeString(classDecl.getIdentifier());
+        out.writeVarint(classDecl.getFieldDelcarations().size());
+        for (FieldDecl field : classDecl.getFieldDelcarations()) {
+            out.writeVarint(field.getAccessModifier().ordinal());
+            writeType(out, field.getType());
+            out.writeString(field.getIdentifier());
+            writePosition(out, field.line, field.column);
+        }
+        out.writeVarint(classDecl.getConstructorDeclarations().size());
+        for (ConstructorDecl constructor : classDecl.getConstructorDeclarations()) {
+            out.writeVarint(constructor.getAccessModifier().ordinal());
+            writeParameters(out, constructor.getParameterDeclarations());
+            writeNode(out, constructor.getBlock());
+            writePosition(out, constructor.line, constructor.column);
+        }
+        out.writeVarint(classDecl.getMethodDeclarations().size());
+        for (MethodDecl method : classDecl.getMethodDeclarations()) {
+            if (method instanceof MainMethodDecl) {
+                out.writeVarint(1);
+                writeNode(out, method.getBlock());
+                continue;
+            }
+            out.writeVarint(0);
+            out.writeVarint(method.getAccessModifier().ordinal());
+            writeType(out, method.getType());
+            out.writeString(method.getIdentifier());
+            writeParameters(out, method.getParameters());
+            writeNode(out, method.getBlock());
+            writePosition(out, method.line, method.column);
+        }
+    }
+
+    private static ClassDecl readClass(Input in) {
+        String identifier = in.readSymbol();
+        PrintableVector<FieldDecl> fields = new PrintableVector<>();
+        for (int i = in.readVarint(); i > 0; i--) {
+            AccessModifier accessModifier = ACCESS_MODIFIERS[in.readVarint()];
+            fields.add(new FieldDecl(accessModifier, readType(in), in.readSymbol(), in.readVarint(),
+                    in.readVarint()));
+        }
+        PrintableVector<ConstructorDecl> constructors = new PrintableVector<>();
+        for (int i = in.readVarint(); i > 0; i--) {
+            AccessModifier accessModifier = ACCESS_MODIFIERS[in.readVarint()];
+            var parameters = readParameters(in);
+            constructors.add(new ConstructorDecl(accessModifier, parameters, (Block) readNode(in), in.readVarint(),
+                    in.readVarint()));
+        }
+        PrintableVector<MethodDecl> methods = new PrintableVector<>();
+        for (int i = in.readVarint(); i > 0; i--) {
+            if (in.readVarint() == 1) {
+                methods.add(new MainMethodDecl((Block) readNode(in)));
+                continue;
+            }
+            AccessModifier accessModifier = ACCESS_MODIFIERS[in.readVarint()];
+            Type type = readType(in);
+            String name = in.readSymbol();
+            var parameters = readParameters(in);
+            methods.add(new MethodDecl(accessModifier, type, name, parameters, (Block) readNode(in),
+                    in.readVarint(), in.readVarint()));
+        }
+        return new ClassDecl(identifier, fields, constructors, methods);
+    }
+
+    private static void writeParameters(Output out, PrintableVector<MethodParameter> parameters) {
+        out.writeVarint(parameters.size());
+        for (MethodParameter parameter : parameters) {
+            writeType(out, parameter.getType());
+            out.writeString(parameter.getIdentifier());
+            writePosition(out, parameter.line, parameter.column);
+        }
+    }
+
+    private static PrintableVector<MethodParameter> readParameters(Input in) {
+        PrintableVector<MethodParameter> parameters = new PrintableVector<>();
+        for (int i = in.readVarint(); i > 0; i--) {
+            parameters.add(new MethodParameter(readType(in), in.readSymbol(), in.readVarint(), in.readVarint()));
+        }
+        return parameters;
+    }
+
+    private static void writeType(Output out, Type type) {
+        if (type instanceof BaseType baseType) {
+            out.writeVarint(baseType.getIdentifier().ordinal() + 1);
+        } else if (type instanceof ReferenceType referenceType) {
+            out.writeVarint(REFERENCE_TYPE);
+            out.writeString(referenceType.getIdentifier());
+            writePosition(out, referenceType.line, referenceType.column);
+        } else {
+            out.writeVarint(NULL);
+        }
+    }
+
+    /**
+     * @param in
+     * @return Type or null, base types are shared between the nodes
+     */
+    private static Type readType(Input in) {
+        int tag = in.readVarint();
+        if (tag == NULL) {
+            return null;
+        } else if (tag == REFERENCE_TYPE) {
+            return new ReferenceType(in.readSymbol(), in.readVarint(), in.readVarint());
+        }
+        return BASE_TYPES[tag - 1];
+    }
+
+    private static void writePosition(Output out, int line, int column) {
+        out.writeVarint(line);
+        out.writeVarint(column);
+    }
+
+    private static void writeNodes(Output out, PrintableVector<?> nodes) {
+        out.writeVarint(nodes.size());
+        for (Object node : nodes) {
+            writeNode(out, node);
+        }
+    }
+
+    private static PrintableVector<IExpression> readExpressions(Input in) {
+        PrintableVector<IExpression> expressions = new PrintableVector<>();
+        for (int i = in.readVarint(); i > 0; i--) {
+            expressions.add((IExpression) readNode(in));
+        }
+        return expressions;
+    }
+
+    /**
+     * Tag, children, Type and position of the node
+     *
+     * @param out
+     * @param node IStatement, IStatementExpression, IExpression or null
+     */
+    private static void writeNode(Output out, Object node) {
+        if (node == null) {
+            out.writeVarint(NULL);
+        } else if (node instanceof Block block) {
+            out.writeVarint(BLOCK);
+            writeNodes(out, block.getStatements());
+            writeType(out, block.getType());
+            writePosition(out, block.line, block.column);
+        } else if (node instanceof LocalVarDecl localVarDecl) {
+            out.writeVarint(LOCAL_VAR_DECL);
+            out.writeString(localVarDecl.getIdentifier());
+            writeNode(out, localVarDecl.getExpression());
+            writeType(out, localVarDecl.getType());
+            writePosition(out, localVarDecl.line, localVarDecl.column);
+        } else if (node instanceof ReturnStmt returnStmt) {
+            out.writeVarint(RETURN);
+            writeNode(out, returnStmt.getExpression());
+            writeType(out, returnStmt.getType());
+            writePosition(out, returnStmt.line, returnStmt.column);
+        } else if (node instanceof WhileStmt whileStmt) {
+            out.writeVarint(WHILE);
+            writeNode(out, whileStmt.getExpression());
+            writeNode(out, whileStmt.getBlock());
+            writeType(out, whileStmt.getType());
+            writePosition(out, whileStmt.line, whileStmt.column);
+        } else if (node instanceof ForStmt forStmt) {
+            out.writeVarint(FOR);
+            writeNode(out, forStmt.getInit());
+            writeNode(out, forStmt.getCondition());
+            writeNode(out, forStmt.getUpdate());
+            writeNode(out, forStmt.getStatement());
+            writeType(out, forStmt.getType());
+            writePosition(out, forStmt.line, forStmt.column);
+        } else if (node instanceof IfStmt ifStmt) {
+            out.writeVarint(IF);
+            writeNode(out, ifStmt.getCondition());
+            writeNode(out, ifStmt.getBlockIf());
+            writeNode(out, ifStmt.getBlockElse());
+            writeType(out, ifStmt.getType());
+            writePosition(out, ifStmt.line, ifStmt.column);
+        } else if (node instanceof Assign assign) {
+            out.writeVarint(ASSIGN);
+            writeNode(out, assign.getlExpression());
+            writeNode(out, assign.getrExpression());
+            writeType(out, assign.getType());
+            writePosition(out, assign.line, assign.column);
+        } else if (node instanceof CrementStmtExpr crement) {
+            out.writeVarint(CREMENT);
+            writeNode(out, crement.getExpression());
+            out.writeVarint(crement.getOperator().ordinal());
+            writeType(out, crement.getType());
+            writePosition(out, crement.line, crement.column);
+        } else if (node instanceof MethodCall methodCall) {
+            out.writeVarint(METHOD_CALL);
+            out.writeString(methodCall.getIdentifier());
+            writeNode(out, methodCall.getReceiver());
+            writeNodes(out, methodCall.getArguments());
+            writeType(out, methodCall.getType());
+            writePosition(out, methodCall.line, methodCall.column);
+        } else if (node instanceof NewDecl newDecl) {
+            out.writeVarint(NEW_DECL);
+            out.writeString(newDecl.getIdentifier());
+            writeNodes(out, newDecl.getArguments());
+            writeType(out, newDecl.getType());
+            writePosition(out, newDecl.line, newDecl.column);
+        } else if (node instanceof Binary binary) {
+            out.writeVarint(BINARY);
+            writeNode(out, binary.getlExpression());
+            out.writeVarint(binary.getOperator().ordinal());
+            writeNode(out, binary.getrExpression());
+            writeType(out, binary.getType());
+            writePosition(out, binary.line, binary.column);
+        } else if (node instanceof Unary unary) {
+            out.writeVarint(UNARY);
+            writeNode(out, unary.getExpression());
+            out.writeVarint(unary.getOperator().ordinal());
+            writeType(out, unary.getType());
+            writePosition(out, unary.line, unary.column);
+        } else if (node instanceof InstVar instVar) {
+            out.writeVarint(INST_VAR);
+            out.writeString(instVar.getIdentifier());
+            writeNode(out, instVar.getExpression());
+            out.writeVarint(instVar.isStatic() ? 1 : 0);
+            writeType(out, instVar.getType());
+            writePosition(out, instVar.line, instVar.column);
+        } else if (node instanceof LocalOrFieldVar localOrFieldVar) {
+            out.writeVarint(LOCAL_OR_FIELD_VAR);
+            out.writeString(localOrFieldVar.getIdentifier());
+            writeType(out, localOrFieldVar.getType());
+            writePosition(out, localOrFieldVar.line, localOrFieldVar.column);
+        } else if (node instanceof IntegerExpr integerExpr) {
+            out.writeVarint(INTEGER);
+            out.writeSignedVarint(integerExpr.getValue());
+            writeType(out, integerExpr.getType());
+            writePosition(out, integerExpr.line, integerExpr.column);
+        } else if (node instanceof BoolExpr boolExpr) {
+            // the types of the literals are fixed by their constructors
+            out.writeVarint(BOOL);
+            out.writeVarint(boolExpr.getValue() ? 1 : 0);
+            writePosition(out, boolExpr.line, boolExpr.column);
+        } else if (node instanceof CharExpr charExpr) {
+            out.writeVarint(CHAR);
+            out.writeVarint(charExpr.getValue());
+            writePosition(out, charExpr.line, charExpr.column);
+        } else if (node instanceof StringExpr stringExpr) {
+            out.writeVarint(STRING);
+            out.writeString(stringExpr.getValue());
+        } else if (node instanceof Null nullValue) {
+            out.writeVarint(NULL_VALUE);
+            writeType(out, nullValue.getType());
+            writePosition(out, nullValue.line, nullValue.column);
+        } else if (node instanceof This thisExpr) {
+            out.writeVarint(THIS);
+            writeType(out, thisExpr.getType());
+            writePosition(out, thisExpr.line, thisExpr.column);
+        } else {
+            throw new IllegalArgumentException("Can't serialize " + node.getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * @param in
+     * @return Object IStatement, IStatementExpression, IExpression or null
+     */
+    private static Object readNode(Input in) {
+        int tag = in.readVarint();
+        switch (tag) {
+            case NULL:
+                return null;
+            case BLOCK: {
+                PrintableVector<IStatement> statements = new PrintableVector<>();
+                for (int i = in.readVarint(); i > 0; i--) {
+                    statements.add((IStatement) readNode(in));
+                }
+                Type type = readType(in);
+                Block block = new Block(statements, in.readVarint(), in.readVarint());
+                block.setType(type);
+                return block;
+            }
+            case LOCAL_VAR_DECL: {
+                String identifier = in.readSymbol();
+                IExpression expression = (IExpression) readNode(in);
+                return new LocalVarDecl(readType(in), identifier, expression, in.readVarint(), in.readVarint());
+            }
+            case RETURN: {
+                IExpression expression = (IExpression) readNode(in);
+                Type type = readType(in);
+                ReturnStmt returnStmt = new ReturnStmt(expression, in.readVarint(), in.readVarint());
+                returnStmt.setType(type);
+                return returnStmt;
+            }
+            case WHILE: {
+                IExpression expression = (IExpression) readNode(in);
+                Block block = (Block) readNode(in);
+                Type type = readType(in);
+                WhileStmt whileStmt = new WhileStmt(expression, block, in.readVarint(), in.readVarint());
+                whileStmt.setType(type);
+                return whileStmt;
+            }
+            case FOR: {
+                IStatement init = (IStatement) readNode(in);
+                IExpression condition = (IExpression) readNode(in);
+                IStatementExpression update = (IStatementExpression) readNode(in);
+                IStatement statement = (IStatement) readNode(in);
+                return new ForStmt(readType(in), init, condition, update, statement, in.readVarint(),
+                        in.readVarint());
+            }
+            case IF: {
+                IExpression condition = (IExpression) readNode(in);
+                IStatement blockIf = (IStatement) readNode(in);
+                IStatement blockElse = (IStatement) readNode(in);
+                Type type = readType(in);
+                IfStmt ifStmt = new IfStmt(condition, blockIf, blockElse, in.readVarint(), in.readVarint());
+                ifStmt.setType(type);
+                return ifStmt;
+            }
+            case ASSIGN: {
+                IExpression lExpression = (IExpression) readNode(in);
+                IExpression rExpression = (IExpression) readNode(in);
+                Type type = readType(in);
+                Assign assign = new Assign(lExpression, rExpression, in.readVarint(), in.readVarint());
+                assign.setType(type);
+                return assign;
+            }
+            case CREMENT: {
+                IExpression expression = (IExpression) readNode(in);
+                Operator operator = OPERATORS[in.readVarint()];
+                Type type = readType(in);
+                CrementStmtExpr crement = new CrementStmtExpr(expression, operator, in.readVarint(),
+                        in.readVarint());
+                crement.setType(type);
+                return crement;
+            }
+            case METHOD_CALL: {
+                String identifier = in.readSymbol();
+                IExpression receiver = (IExpression) readNode(in);
+                PrintableVector<IExpression> arguments = readExpressions(in);
+                Type type = readType(in);
+                MethodCall methodCall = new MethodCall(identifier, receiver, arguments, in.readVarint(),
+                        in.readVarint());
+                methodCall.setType(type);
+                return methodCall;
+            }
+            case NEW_DECL: {
+                String identifier = in.readSymbol();
+                PrintableVector<IExpression> arguments = readExpressions(in);
+                Type type = readType(in);
+                NewDecl newDecl = new NewDecl(identifier, arguments, in.readVarint(), in.readVarint());
+                newDecl.setType(type);
+                return newDecl;
+            }
+            default:
+                return readExpression(in, tag);
+        }
+    }
+
+    /**
+     * @param in
+     * @param tag of an expression that is no statement expression
+     * @return IExpression
+     */
+    private static IExpression readExpression(Input in, int tag) {
+        switch (tag) {
+            case BINARY: {
+                IExpression lExpression = (IExpression) readNode(in);
+                Operator operator = OPERATORS[in.readVarint()];
+                IExpression rExpression = (IExpression) readNode(in);
+                Type type = readType(in);
+                Binary binary = new Binary(lExpression, rExpression, operator, in.readVarint(), in.readVarint());
+                binary.setType(type);
+                return binary;
+            }
+            case UNARY: {
+                IExpression expression = (IExpression) readNode(in);
+                Operator operator = OPERATORS[in.readVarint()];
+                Type type = readType(in);
+                Unary unary = new Unary(expression, operator, in.readVarint(), in.readVarint());
+                unary.setType(type);
+                return unary;
+            }
+            case INST_VAR: {
+                String identifier = in.readSymbol();
+                IExpression expression = (IExpression) readNode(in);
+                boolean isStatic = in.readVarint() == 1;
+                Type type = readType(in);
+                InstVar instVar = new InstVar(identifier, expression, in.readVarint(), in.readVarint());
+                instVar.setAccessModifier(isStatic ? AccessModifier.PUBLIC_STATIC : null);
+                instVar.setType(type);
+                return instVar;
+            }
+            case LOCAL_OR_FIELD_VAR: {
+                String identifier = in.readSymbol();
+                Type type = readType(in);
+                LocalOrFieldVar localOrFieldVar = new LocalOrFieldVar(identifier, in.readVarint(), in.readVarint());
+                localOrFieldVar.setType(type);
+                return localOrFieldVar;
+            }
+            case INTEGER: {
+                IntegerExpr integerExpr = new IntegerExpr(in.readSignedVarint());
+                integerExpr.setType(readType(in));
+                integerExpr.line = in.readVarint();
+                integerExpr.column = in.readVarint();
+                return integerExpr;
+            }
+            case BOOL: {
+                BoolExpr boolExpr = new BoolExpr(in.readVarint() == 1);
+                boolExpr.line = in.readVarint();
+                boolExpr.column = in.readVarint();
+                return boolExpr;
+            }
+            case CHAR: {
+                CharExpr charExpr = new CharExpr((char) in.readVarint());
+                charExpr.line = in.readVarint();
+                charExpr.column = in.readVarint();
+                return charExpr;
+            }
+            case STRING:
+                return new StringExpr(in.readString());
+            case NULL_VALUE: {
+                Null nullValue = new Null();
+                nullValue.setType(readType(in));
+                nullValue.line = in.readVarint();
+                nullValue.column = in.readVarint();
+                return nullValue;
+            }
+            case THIS: {
+                This thisExpr = new This();
+                thisExpr.setType(readType(in));
+                thisExpr.line = in.readVarint();
+                thisExpr.column = in.readVarint();
+                return thisExpr;
+            }
+            default:
+                throw new IllegalArgumentException("Unknown node tag " + tag);
+        }
+    }
+
+    /**
+     * Growable buffer with the string table of the writer
+     */
+    private static class Output {
+        private byte[] buffer = new byte[256];
+        private int size = 0;
+        private final HashMap<String, Integer> strings = new HashMap<>();
+
+        void writeByte(int b) {
+            if (size == buffer.length) {
+                buffer = Arrays.copyOf(buffer, size * 2);
+            }
+            buffer[size++] = (byte) b;
+        }
+
+        void writeInt(int value) {
+            for (int shift = 24; shift >= 0; shift -= 8) {
+                writeByte(value >>> shift);
+            }
+        }
+
+        /**
+         * Seven bits per byte, the high bit marks a following byte
+         *
+         * @param value taken as unsigned
+         */
+        void writeVarint(int value) {
+            while ((value & ~0x7f) != 0) {
+                writeByte((value & 0x7f) | 0x80);
+                value >>>= 7;
+            }
+            writeByte(value);
+        }
+
+        /**
+         * Zigzag encoded, so small negative numbers stay short
+         *
+         * @param value
+         */
+        void writeSignedVarint(int value) {
+            writeVarint((value << 1) ^ (value >> 31));
+        }
+
+        /**
+         * The index in the string table, followed by the UTF-8 bytes on its
+         * first use
+         *
+         * @param value
+         */
+        void writeString(String value) {
+            Integer index = strings.putIfAbsent(value, strings.size());
+            if (index != null) {
+                writeVarint(index);
+                return;
+            }
+            writeVarint(strings.size() - 1);
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarint(bytes.length);
+            for (byte b : bytes) {
+                writeByte(b);
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, size);
+        }
+    }
+
+    private static class Input {
+        private final byte[] buffer;
+        private int position = 0;
+        private final ArrayList<String> strings = new ArrayList<>();
+
+        Input(byte[] buffer) {
+            this.buffer = buffer;
+        }
+
+        int readInt() {
+            int value = 0;
+            for (int i = 0; i < 4; i++) {
+                value = (value << 8) | (buffer[position++] & 0xff);
+            }
+            return value;
+        }
+
+        int readVarint() {
+            int value = 0;
+            for (int shift = 0;; shift += 7) {
+                byte b = buffer[position++];
+                value |= (b & 0x7f) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+        }
+
+        int readSignedVarint() {
+            int value = readVarint();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        String readString() {
+            int index = readVarint();
+            if (index < strings.size()) {
+                return strings.get(index);
+            }
+            int length = readVarint();
+            String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+            position += length;
+            strings.add(value);
+            return value;
+        }
+
+        /**
+         * @return String an identifier, as the symbol the lexer would have
+         *         produced for it
+         */
+        String readSymbol() {
+            return SymbolTokenFactory.intern(readString());
+        }
+    }
+}
@@ -1,12 +1,29 @@
 package common;
 
 public class BaseType implements Type {
+    private static final BaseType[] CANONICAL = new BaseType[Primitives.values().length];
+
+    static {
+        for (Primitives primitive : Primitives.values()) {
+            CANONICAL[primitive.ordinal()] = new BaseType(primitive);
+        }
+    }
+
     private Primitives identifier;
 
     public BaseType(Primitives identifier) {
         this.identifier = identifier;
     }
 
+    /**
+     * @param identifier
+     * @return BaseType the instance shared by the whole compiler, so equal
+     *         types are usually compared by identity
+     */
+    public static BaseType of(Primitives identifier) {
+        return CANONICAL[identifier.ordinal()];
+    }
+
     /**
      * @return Primitives
      */
@@ -0,0 +1,44 @@
+package common;
+
+public class BatchResult {
+
+    private final String fileName;
+    private final String error;
+
+    public BatchResult(String fileName, String error) {
+        this.fileName = fileName;
+        this.error = error;
+    }
+
+    /**
+     * @return String
+     */
+    public String getFileName() {
+        return fileName;
+    }
+
+    /**
+     * @return String the error message or null if the file compiled
+     */
+    public String getError() {
+        return error;
+    }
+
+    /**
+     * @return boolean
+     */
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    /**
+     * @return String
+     */
+    @Override
+    public String toString() {
+        if (isSuccess()) {
+            return "[OK]   " + fileName;
+        }
+        return "[FAIL] " + fileName + ": " + error.strip();
+    }
+}
@@ -0,0 +1,62 @@
+package common;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import syntaxtree.structure.Program;
+
+/**
+ * Looks the source up in the AstCache before lexing and parsing it with the
+ * wrapped adapter. Sources with syntax errors are never cached.
+ */
+public class CachingAstAdapter implements IAstAdapter {
+
+    private final IAstAdapter astAdapter;
+    private final AstCache cache;
+
+    public CachingAstAdapter(IAstAdapter astAdapter, AstCache cache) {
+        this.astAdapter = astAdapter;
+        this.cache = cache;
+    }
+
+    /**
+     * @param stream
+     * @return Program
+     */
+    @Override
+    public Program getAst(InputStream stream) {
+        try {
+            return getAst(stream.readAllBytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @param file
+     * @return Program
+     * @throws IOException
+     */
+    @Override
+    public Program getAst(Path file) throws IOException {
+        return getAst(Files.readAllBytes(file));
+    }
+
+    /**
+     * @param source
+     * @return Program
+     */
+    private Program getAst(byte[] source) {
+        String hash = AstCache.hash(source);
+        Program program = cache.get(hash);
+        if (program == null) {
+            program = astAdapter.getAst(new ByteArrayInputStream(source));
+            cache.put(hash, program);
+        }
+        return program;
+    }
+}
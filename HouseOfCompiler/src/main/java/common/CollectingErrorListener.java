@@ -0,0 +1,40 @@
+package common;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
+
+/**
+ * Remembers every syntax error instead of aborting at the first one
+ */
+public class CollectingErrorListener extends BaseErrorListener {
+
+    private final ArrayList<Error> errors = new ArrayList<>();
+
+    @Override
+    public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line, int charPositionInLine,
+            String msg, RecognitionException e) {
+        errors.add(new Error(line, charPositionInLine, msg));
+    }
+
+    public boolean hasErrors() {
+        return !errors.isEmpty();
+    }
+
+    /**
+     * @return List<String> every error with its position, in source order
+     */
+    public List<String> getErrors() {
+        return errors.stream()
+                .sorted(Comparator.comparingInt(Error::line).thenComparingInt(Error::charPositionInLine))
+                .map(error -> error.msg() + " (" + error.line() + ":" + error.charPositionInLine() + ")")
+                .toList();
+    }
+
+    private record Error(int line, int charPositionInLine, String msg) {
+    }
+}
@@ -0,0 +1,11 @@
+package common;
+
+/**
+ * Receives the measurements of a compilation. Per class measurements may
+ * arrive from worker threads when the phase runs in parallel.
+ */
+public interface CompileListener {
+
+    void phaseFinished(PhaseStats stats);
+
+}
@@ -0,0 +1,7 @@
+package common;
+
+public enum CompilePhase {
+    PARSE, // lexer, parser and AST adapters
+    SEMANTIC_CHECK,
+    CODEGEN
+}
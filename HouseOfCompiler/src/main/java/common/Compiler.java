@@ -6,23 +6,50 @@ import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.lang.reflect.InvocationTargetException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+
 import codegen.ProgramGenerator;
 import context.Context;
 import main.ReflectLoader;
+import parser.SignatureScanner;
 import semantic.exceptions.SemanticError;
 import syntaxtree.structure.Program;
 
 public class Compiler implements CompilerFactory {
 
-    public Compiler() {
+    // the adapters are stateless, so one instance serves every compilation of
+    // this factory (e.g. all requests of a long running CompileServer)
+    private IAstAdapter astAdapter;
+    private ITastAdapter tastAdapter;
+    private IProgramGenerator programGenerator;
+    private ExecutionMode semanticMode = ExecutionMode.SERIAL;
+    private ExecutionMode codegenMode = ExecutionMode.SERIAL;
+    private ParseMode parseMode = ParseMode.SLL_FIRST;
+    private AstMode astMode = AstMode.ADAPTERS;
+    private LexMode lexMode = LexMode.ANTLR;
+    private AstCache astCache = null;
+    private boolean incremental = false;
+    private boolean streaming = false;
+    private final List<CompileListener> listeners = new CopyOnWriteArrayList<>();
 
+    public Compiler() {
+        updateAstAdapter();
+        updateAdapters();
     }
 
     /**
@@ -37,7 +64,7 @@ public class Compiler implements CompilerFactory {
      */
     @Override
     public IAstAdapter getAstAdapter() {
-        return new AstAdapter();
+        return astAdapter;
     }
 
     /**
@@ -45,7 +72,7 @@ public class Compiler implements CompilerFactory {
      */
     @Override
     public ITastAdapter getTastAdapter() {
-        return new TastAdapter();
+        return tastAdapter;
     }
 
     /**
@@ -53,7 +80,209 @@ public class Compiler implements CompilerFactory {
      */
     @Override
     public IProgramGenerator getProgramGenerator() {
-        return ProgramGenerator::generate;
+        return programGenerator;
+    }
+
+    /**
+     * @param mode
+     */
+    @Override
+    public void setParseMode(ParseMode mode) {
+        this.parseMode = mode;
+        updateAstAdapter();
+    }
+
+    /**
+     * @param mode
+     */
+    @Override
+    public void setAstMode(AstMode mode) {
+        this.astMode = mode;
+        updateAstAdapter();
+    }
+
+    /**
+     * @param mode
+     */
+    @Override
+    public void setLexMode(LexMode mode) {
+        this.lexMode = mode;
+        updateAstAdapter();
+    }
+
+    /**
+     * @param cache unchecked ASTs of already compiled sources, null disables
+     *              the cache
+     */
+    @Override
+    public void setAstCache(AstCache cache) {
+        this.astCache = cache;
+        updateAstAdapter();
+    }
+
+    private void updateAstAdapter() {
+        IAstAdapter adapter = new AstAdapter(parseMode, astMode, lexMode);
+        this.astAdapter = astCache == null ? adapter : new CachingAstAdapter(adapter, astCache);
+    }
+
+    /**
+     * @param mode
+     */
+    @Override
+    public void setSemanticMode(ExecutionMode mode) {
+        this.semanticMode = mode;
+        updateAdapters();
+    }
+
+    /**
+     * @param mode
+     */
+    @Override
+    public void setCodegenMode(ExecutionMode mode) {
+        this.codegenMode = mode;
+        updateAdapters();
+    }
+
+    /**
+     * @param listener receives wall time, CPU time and allocated bytes of every
+     *                 phase and of every class in the semantic check and codegen
+     */
+    @Override
+    public void addCompileListener(CompileListener listener) {
+        listeners.add(listener);
+        updateAdapters();
+    }
+
+    /**
+     * @param listener
+     */
+    @Override
+    public void removeCompileListener(CompileListener listener) {
+        listeners.remove(listener);
+        updateAdapters();
+    }
+
+    /**
+     * Without listeners the adapters skip the per class measurements
+     */
+    private void updateAdapters() {
+        CompileListener listener = listener();
+        ExecutionMode mode = codegenMode;
+        this.tastAdapter = new TastAdapter(semanticMode, listener);
+        this.programGenerator = program -> ProgramGenerator.generate(program, mode, listener);
+    }
+
+    /**
+     * @return CompileListener forwarding to every listener, null without
+     *         listeners
+     */
+    private CompileListener listener() {
+        return listeners.isEmpty() ? null : this::phaseFinished;
+    }
+
+    /**
+     * @param stats
+     */
+    private void phaseFinished(PhaseStats stats) {
+        listeners.forEach(listener -> listener.phaseFinished(stats));
+    }
+
+    /**
+     * @param inputStream
+     * @return Program
+     */
+    private Program parse(InputStream inputStream) {
+        PhaseTimer timer = PhaseTimer.start();
+        Program program;
+        try {
+            program = this.getAstAdapter().getAst(inputStream);
+        } catch (SyntaxError e) {
+            throw withSemanticErrors(e);
+        }
+        if (!listeners.isEmpty()) {
+            phaseFinished(timer.stop(CompilePhase.PARSE, null));
+        }
+        return program;
+    }
+
+    /**
+     * @param file
+     * @return Program
+     * @throws IOException
+     */
+    private Program parse(Path file) throws IOException {
+        PhaseTimer timer = PhaseTimer.start();
+        Program program;
+        try {
+            program = this.getAstAdapter().getAst(file);
+        } catch (SyntaxError e) {
+            throw withSemanticErrors(e);
+        }
+        if (!listeners.isEmpty()) {
+            phaseFinished(timer.stop(CompilePhase.PARSE, null));
+        }
+        return program;
+    }
+
+    /**
+     * Adds the semantic errors of the partial program of a recovering parse
+     * to its syntax errors. Only the members that parsed completely report
+     * errors, the check drops those of broken members and classes.
+     *
+     * @param syntaxError
+     * @return SyntaxError
+     */
+    private SyntaxError withSemanticErrors(SyntaxError syntaxError) {
+        Program partial = syntaxError.getProgram();
+        if (partial == null || partial.getClasses().isEmpty()) {
+            return syntaxError;
+        }
+        try {
+            check(partial);
+        } catch (SemanticError e) {
+            return new SyntaxError(syntaxError.getMessage() + e.getMessage(), syntaxError.getErrors(), partial);
+        }
+        return syntaxError;
+    }
+
+    /**
+     * @param program
+     * @return Program
+     */
+    private Program check(Program program) {
+        // the check measures the whole phase itself, including classes checked on other threads
+        return this.getTastAdapter().getTast(program);
+    }
+
+    /**
+     * @param tast
+     * @return HashMap<String, byte[]>
+     */
+    private HashMap<String, byte[]> generate(Program tast) {
+        // like the check, the generator measures the whole phase itself
+        return this.getProgramGenerator().generateBytecode(tast);
+    }
+
+    /**
+     * @param incremental only recompile changed classes in compile(..., outDir)
+     *                    with the modes and the AstCache of this factory, see
+     *                    IncrementalCompiler. Takes precedence over streaming.
+     */
+    @Override
+    public void setIncremental(boolean incremental) {
+        this.incremental = incremental;
+    }
+
+    /**
+     * @param streaming compile(..., outDir) parses, checks and writes one class
+     *                  after the other with the parse, lex and semantic mode,
+     *                  see StreamingCompiler. The AST mode and the AST cache
+     *                  only apply to whole programs and are ignored. Has no
+     *                  effect while incremental compilation is enabled.
+     */
+    @Override
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
     }
 
     @Override
@@ -74,13 +303,10 @@ public class Compiler implements CompilerFactory {
 
     @Override
     public void compileTest(InputStream inputStream) throws SemanticError {
-        IAstAdapter astAdapter = this.getAstAdapter();
-        ITastAdapter tastAdapter = this.getTastAdapter();
-        IProgramGenerator programGenerator = this.getProgramGenerator();
-        Program program = astAdapter.getAst(inputStream);
+        Program program = parse(inputStream);
         var className = program.getClasses().get(0).getIdentifier();
-        Program tast = tastAdapter.getTast(program);
-        var bc = programGenerator.generateBytecode(tast);
+        Program tast = check(program);
+        var bc = generate(tast);
         // Write the bytecode to a file
         var prefix = className + "$";
         // Create folder build if it does not exist
@@ -125,24 +351,167 @@ public class Compiler implements CompilerFactory {
         File file = new File(fileName);
 
         if (file.exists()) {
+            if (incremental) {
+                try (InputStream inputStream = new FileInputStream(file)) {
+                    this.compile(inputStream, outDir);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return;
+            }
             try {
-                InputStream inputStream = new FileInputStream(file);
-                this.compile(inputStream, outDir);
-            } catch (FileNotFoundException e) {
-                e.printStackTrace();
+                if (streaming) {
+                    new StreamingCompiler(parseMode, lexMode, semanticMode, listener())
+                            .compile(MappedCharStream.open(file.toPath()), outDir);
+                    return;
+                }
+                this.write(parse(file.toPath()), outDir);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Compiles every file matched by the inputs (files, directories or globs)
+     * in parallel inside this JVM, so the ANTLR caches and the JIT stay warm
+     * between the files. Files declaring a class that another input declares
+     * as well fail without writing anything, as their class files would
+     * overwrite each other.
+     *
+     * @param inputs
+     * @param outDir
+     * @return ArrayList<BatchResult> one result per file, in sorted file order
+     */
+    @Override
+    public ArrayList<BatchResult> compileBatch(List<String> inputs, String outDir) {
+        new File(outDir).mkdirs();
+        ArrayList<File> files = SourceFiles.resolve(inputs);
+        List<List<String>> declared = files.parallelStream().map(Compiler::declaredClasses)
+                .collect(Collectors.toList());
+        HashMap<String, List<File>> declaringFiles = new HashMap<>();
+        for (int i = 0; i < files.size(); i++) {
+            for (String clazz : declared.get(i)) {
+                declaringFiles.computeIfAbsent(clazz, key -> new ArrayList<>()).add(files.get(i));
+            }
+        }
+        return IntStream.range(0, files.size()).parallel().mapToObj(i -> {
+            File file = files.get(i);
+            if (!file.isFile()) {
+                return new BatchResult(file.getPath(), "File not found");
+            }
+            for (String clazz : declared.get(i)) {
+                for (File other : declaringFiles.get(clazz)) {
+                    if (other != file) {
+                        return new BatchResult(file.getPath(),
+                                "Class " + clazz + " is also declared in " + other.getPath());
+                    }
+                }
+            }
+            try {
+                this.compile(file.getPath(), outDir);
+                return new BatchResult(file.getPath(), null);
+            } catch (RuntimeException e) {
+                return new BatchResult(file.getPath(), e.getMessage() == null ? e.toString() : e.getMessage());
+            }
+        }).collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    /**
+     * @param file
+     * @return List<String> the classes the file declares, empty if it cannot
+     *         be read or does not follow the class structure, compiling it
+     *         reports the error then
+     */
+    private static List<String> declaredClasses(File file) {
+        if (!file.isFile()) {
+            return List.of();
+        }
+        try {
+            CommonTokenStream tokenStream = new CommonTokenStream(
+                    DfaCache.getShared().createLexer(CharStreams.fromPath(file.toPath())));
+            tokenStream.fill();
+            var scanned = SignatureScanner.scan(tokenStream.getTokens());
+            if (scanned == null) {
+                return List.of();
             }
+            return scanned.stream().map(scannedClass -> scannedClass.getSignature().getIdentifier())
+                    .collect(Collectors.toList());
+        } catch (IOException | RuntimeException e) {
+            return List.of();
         }
     }
 
     @Override
     public void compile(InputStream inputStream, String outDir) throws SemanticError {
-        IAstAdapter astAdapter = this.getAstAdapter();
-        ITastAdapter tastAdapter = this.getTastAdapter();
-        IProgramGenerator programGenerator = this.getProgramGenerator();
-        Program program = astAdapter.getAst(inputStream);
-        var className = program.getClasses().get(0).getIdentifier();
-        Program tast = tastAdapter.getTast(program);
-        var bc = programGenerator.generateBytecode(tast);
+        if (incremental) {
+            new IncrementalCompiler(this, semanticMode, listener()).compile(inputStream, outDir);
+            return;
+        }
+        if (streaming) {
+            try {
+                new StreamingCompiler(parseMode, lexMode, semanticMode, listener())
+                        .compile(CharStreams.fromStream(inputStream), outDir);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return;
+        }
+        this.write(parse(inputStream), outDir);
+    }
+
+    /**
+     * Checks the program and writes its classes into the outDir
+     *
+     * @param program
+     * @param outDir
+     */
+    private void write(Program program, String outDir) {
+        writeClasses(check(program), outDir);
+    }
+
+    /**
+     * Parses and checks the file and writes the typed AST to the outFile, see
+     * generateTast(String, String)
+     *
+     * @param fileName
+     * @param outFile
+     */
+    @Override
+    public void writeTast(String fileName, String outFile) {
+        try {
+            Program tast = check(parse(Path.of(fileName)));
+            Files.write(Path.of(outFile), AstSerializer.write(tast));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Generates the classes of a typed AST written by writeTast(String,
+     * String) without parsing or checking the program again
+     *
+     * @param tastFile
+     * @param outDir
+     */
+    @Override
+    public void generateTast(String tastFile, String outDir) {
+        try {
+            writeClasses(AstSerializer.read(Files.readAllBytes(Path.of(tastFile))), outDir);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Generates the classes of the checked program into the outDir
+     *
+     * @param tast
+     * @param outDir
+     */
+    private void writeClasses(Program tast, String outDir) {
+        var className = tast.getClasses().get(0).getIdentifier();
+        var bc = generate(tast);
         // Write the bytecode to a file
         var prefix = "";
         // Create folder build if it does not exist
@@ -167,7 +536,7 @@ public class Compiler implements CompilerFactory {
                     fos.write(bc.get(clazz));
                 }
             } catch (IOException e) {
-                e.printStackTrace();
+                throw new UncheckedIOException(e);
             }
         }
     }
@@ -178,24 +547,20 @@ public class Compiler implements CompilerFactory {
         File file = new File(fileName);
 
         if (file.exists()) {
-            try {
-                InputStream inputStream = new FileInputStream(file);
+            try (InputStream inputStream = new FileInputStream(file)) {
                 this.generateJar(inputStream, outFile);
-            } catch (FileNotFoundException e) {
-                e.printStackTrace();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
             }
         }
     }
 
     @Override
     public void generateJar(InputStream inputStream, String outFile) {
-        IAstAdapter astAdapter = this.getAstAdapter();
-        ITastAdapter tastAdapter = this.getTastAdapter();
-        IProgramGenerator programGenerator = this.getProgramGenerator();
-        Program program = astAdapter.getAst(inputStream);
+        Program program = parse(inputStream);
 
-        Program tast = tastAdapter.getTast(program);
-        var bc = programGenerator.generateBytecode(tast);
+        Program tast = check(program);
+        var bc = generate(tast);
 
         Context context = tast.getContext();
         String main = context.getMain();
@@ -224,7 +589,7 @@ public class Compiler implements CompilerFactory {
                 }
 
             } catch (IOException e) {
-                e.printStackTrace();
+                throw new UncheckedIOException(e);
             }
         } else {
             System.err.println("No unique main method found.");
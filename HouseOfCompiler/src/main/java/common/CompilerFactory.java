@@ -1,6 +1,8 @@
 package common;
 
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
 
 public interface CompilerFactory {
 
@@ -10,6 +12,34 @@ public interface CompilerFactory {
 
     IProgramGenerator getProgramGenerator();
 
+    void setParseMode(ParseMode mode);
+
+    void setAstMode(AstMode mode);
+
+    void setLexMode(LexMode mode);
+
+    void setAstCache(AstCache cache);
+
+    void setSemanticMode(ExecutionMode mode);
+
+    void setCodegenMode(ExecutionMode mode);
+
+    /**
+     * @param incremental only recompile changed classes, takes precedence over
+     *                    streaming
+     */
+    void setIncremental(boolean incremental);
+
+    /**
+     * @param streaming compile one class after the other, ignoring the AST
+     *                  mode and the AST cache
+     */
+    void setStreaming(boolean streaming);
+
+    void addCompileListener(CompileListener listener);
+
+    void removeCompileListener(CompileListener listener);
+
     void compileTest(String fileName);
 
     void compileTest(InputStream inputStream);
@@ -18,6 +48,12 @@ public interface CompilerFactory {
 
     void compile(InputStream inputStream, String outDir);
 
+    void writeTast(String fileName, String outFile);
+
+    void generateTast(String tastFile, String outDir);
+
+    ArrayList<BatchResult> compileBatch(List<String> inputs, String outDir);
+
     void generateJar(String fileName, String outFile);
 
     void generateJar(InputStream inputStream, String outFile);
@@ -0,0 +1,330 @@
+package common;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.atn.ATN;
+import org.antlr.v4.runtime.atn.LexerATNSimulator;
+import org.antlr.v4.runtime.atn.ParserATNSimulator;
+import org.antlr.v4.runtime.atn.PredictionContextCache;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.dfa.DFAState;
+import org.antlr.v4.runtime.misc.Interval;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+
+import parser.SymbolTokenFactory;
+import parser.generated.JavaSubsetLexer;
+import parser.generated.JavaSubsetParser;
+
+/**
+ * Lexer and parser DFAs shared by every compilation instead of the static
+ * tables of the generated classes. The cache can be warmed up from the
+ * bundled corpus or from a snapshot of an earlier run, counts DFA hits and
+ * misses and is reset once it grows beyond the configured number of states.
+ *
+ * ANTLR's DFA states can't be serialized, so a snapshot holds the sources
+ * that added states to the cache; warming up parses them again. The sources
+ * are only kept while recording is enabled, otherwise a parse costs no copy
+ * of its input.
+ */
+public class DfaCache {
+
+    public static final String WARMUP_CORPUS = "warmup/Warmup.java";
+
+    // sources kept for the snapshot, the oldest are dropped first
+    private static final int MAX_SNAPSHOT_CHARS = 1 << 20;
+
+    private static final DfaCache SHARED = new DfaCache();
+
+    private volatile Tables tables = new Tables();
+    private volatile int maxStates = 0; // 0 is unbounded
+    private volatile boolean recording = false;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder resets = new LongAdder();
+
+    private final ArrayDeque<String> snapshotSources = new ArrayDeque<>();
+    private int snapshotChars = 0;
+
+    /**
+     * @return DfaCache the cache used by the AstAdapter
+     */
+    public static DfaCache getShared() {
+        return SHARED;
+    }
+
+    /**
+     * Lexer and parser on this cache reporting every syntax error through the
+     * ThrowingErrorListener
+     *
+     * @param charStream
+     * @return JavaSubsetParser
+     */
+    public JavaSubsetParser createParser(CharStream charStream) {
+        return createParser(new CommonTokenStream(createLexer(charStream)));
+    }
+
+    /**
+     * @param charStream
+     * @return JavaSubsetLexer
+     */
+    public JavaSubsetLexer createLexer(CharStream charStream) {
+        JavaSubsetLexer lexer = new JavaSubsetLexer(charStream);
+        lexer.setInterpreter(new CountingLexerSimulator(lexer, tables));
+        lexer.setTokenFactory(SymbolTokenFactory.INSTANCE);
+        lexer.removeErrorListeners();
+        lexer.addErrorListener(ThrowingErrorListener.INSTANCE);
+        return lexer;
+    }
+
+    /**
+     * Parser on already lexed tokens, e.g. a single class of a file
+     *
+     * @param tokenStream
+     * @return JavaSubsetParser
+     */
+    public JavaSubsetParser createParser(TokenStream tokenStream) {
+        JavaSubsetParser parser = new JavaSubsetParser(tokenStream);
+        parser.setInterpreter(new CountingParserSimulator(parser, tables));
+        parser.removeErrorListeners();
+        parser.addErrorListener(ThrowingErrorListener.INSTANCE);
+        return parser;
+    }
+
+    /**
+     * Called after a successful parse. Keeps the source for the snapshot if
+     * recording and if it added DFA states and resets the cache if it grew too
+     * large.
+     *
+     * @param charStream
+     * @param missesBefore getMisses() before the parse
+     */
+    public void parsed(CharStream charStream, long missesBefore) {
+        if (recording && getMisses() > missesBefore && charStream.size() <= MAX_SNAPSHOT_CHARS) {
+            String source = charStream.getText(Interval.of(0, charStream.size() - 1));
+            synchronized (snapshotSources) {
+                snapshotSources.add(source);
+                snapshotChars += source.length();
+                while (snapshotChars > MAX_SNAPSHOT_CHARS) {
+                    snapshotChars -= snapshotSources.poll().length();
+                }
+            }
+        }
+        int limit = maxStates;
+        if (limit > 0 && getStates() > limit) {
+            reset();
+        }
+    }
+
+    /**
+     * Parses the bundled corpus
+     */
+    public void warmUp() {
+        try (InputStream inputStream = DfaCache.class.getClassLoader().getResourceAsStream(WARMUP_CORPUS)) {
+            if (inputStream != null) {
+                warmUp(CharStreams.fromStream(inputStream));
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Parses the sources of a snapshot written by saveSnapshot
+     *
+     * @param snapshot
+     * @throws IOException
+     */
+    public void warmUp(Path snapshot) throws IOException {
+        try (DataInputStream in = new DataInputStream(new GZIPInputStream(Files.newInputStream(snapshot)))) {
+            while (true) {
+                byte[] source;
+                try {
+                    source = new byte[in.readInt()];
+                } catch (EOFException e) {
+                    break;
+                }
+                in.readFully(source);
+                warmUp(CharStreams.fromString(new String(source, StandardCharsets.UTF_8)));
+            }
+        }
+    }
+
+    /**
+     * @param charStream
+     */
+    private void warmUp(CharStream charStream) {
+        long missesBefore = getMisses();
+        try {
+            AstAdapter.parse(createParser(charStream), ParseMode.SLL_FIRST);
+            parsed(charStream, missesBefore);
+        } catch (ParseCancellationException e) {
+            // the states learned up to the error stay in the cache
+        }
+    }
+
+    /**
+     * @param snapshot
+     * @throws IOException
+     */
+    public void saveSnapshot(Path snapshot) throws IOException {
+        ArrayList<String> sources;
+        synchronized (snapshotSources) {
+            sources = new ArrayList<>(snapshotSources);
+        }
+        try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(Files.newOutputStream(snapshot)))) {
+            for (String source : sources) {
+                byte[] bytes = source.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+        }
+    }
+
+    /**
+     * Drops every DFA state and the symbols of the SymbolTokenFactory. Parsers
+     * created before keep the old tables.
+     */
+    public void reset() {
+        tables = new Tables();
+        SymbolTokenFactory.clear();
+        synchronized (snapshotSources) {
+            snapshotSources.clear();
+            snapshotChars = 0;
+        }
+        resets.increment();
+    }
+
+    /**
+     * @param recording keep the sources that add DFA states for saveSnapshot
+     */
+    public void setRecording(boolean recording) {
+        this.recording = recording;
+    }
+
+    /**
+     * @param maxStates reset once lexer and parser DFAs together hold more
+     *                  states, 0 is unbounded
+     */
+    public void setMaxStates(int maxStates) {
+        this.maxStates = maxStates;
+    }
+
+    /**
+     * @return int number of lexer and parser DFA states
+     */
+    public int getStates() {
+        return tables.getStates();
+    }
+
+    /**
+     * @return long DFA transitions that were already known
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return long DFA transitions that had to be computed from the ATN
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return long
+     */
+    public long getResets() {
+        return resets.sum();
+    }
+
+    @Override
+    public String toString() {
+        long lookups = getHits() + getMisses();
+        return "DFA cache: " + getStates() + " states, " + getHits() + " hits, " + getMisses() + " misses"
+                + (lookups == 0 ? "" : String.format(" (%.1f%% hit rate)", 100.0 * getHits() / lookups)) + ", "
+                + getResets() + " resets";
+    }
+
+    /**
+     * One generation of lexer and parser DFAs
+     */
+    private static class Tables {
+        private final DFA[] lexerDfa = createDfa(JavaSubsetLexer._ATN);
+        private final DFA[] parserDfa = createDfa(JavaSubsetParser._ATN);
+        private final PredictionContextCache lexerContextCache = new PredictionContextCache();
+        private final PredictionContextCache parserContextCache = new PredictionContextCache();
+
+        /**
+         * @param atn
+         * @return DFA[]
+         */
+        private static DFA[] createDfa(ATN atn) {
+            DFA[] dfa = new DFA[atn.getNumberOfDecisions()];
+            for (int i = 0; i < dfa.length; i++) {
+                dfa[i] = new DFA(atn.getDecisionState(i), i);
+            }
+            return dfa;
+        }
+
+        /**
+         * @return int
+         */
+        private int getStates() {
+            int states = 0;
+            for (DFA dfa : lexerDfa) {
+                states += dfa.states.size();
+            }
+            for (DFA dfa : parserDfa) {
+                states += dfa.states.size();
+            }
+            return states;
+        }
+    }
+
+    private class CountingLexerSimulator extends LexerATNSimulator {
+
+        CountingLexerSimulator(Lexer lexer, Tables tables) {
+            super(lexer, JavaSubsetLexer._ATN, tables.lexerDfa, tables.lexerContextCache);
+        }
+
+        @Override
+        protected DFAState getExistingTargetState(DFAState s, int t) {
+            DFAState target = super.getExistingTargetState(s, t);
+            (target == null ? misses : hits).increment();
+            return target;
+        }
+    }
+
+    private class CountingParserSimulator extends ParserATNSimulator {
+
+        CountingParserSimulator(Parser parser, Tables tables) {
+            super(parser, JavaSubsetParser._ATN, tables.parserDfa, tables.parserContextCache);
+        }
+
+        @Override
+        protected DFAState getExistingTargetState(DFAState previousD, int t) {
+            DFAState target = super.getExistingTargetState(previousD, t);
+            (target == null ? misses : hits).increment();
+            return target;
+        }
+    }
+}
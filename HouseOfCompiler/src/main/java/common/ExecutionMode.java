@@ -0,0 +1,6 @@
+package common;
+
+public enum ExecutionMode {
+    SERIAL,
+    PARALLEL // one task per class on the common ForkJoinPool
+}
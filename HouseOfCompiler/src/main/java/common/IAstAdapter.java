@@ -2,8 +2,12 @@ package common;
 
 import syntaxtree.structure.Program;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
 
 public interface IAstAdapter {
     Program getAst(InputStream stream);
+
+    Program getAst(Path file) throws IOException;
 }
@@ -0,0 +1,253 @@
+package common;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Properties;
+import java.util.TreeSet;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.misc.Interval;
+
+import context.Context;
+import parser.SignatureScanner;
+import parser.generated.JavaSubsetLexer;
+import semantic.SemanticCheck;
+import semantic.exceptions.SemanticError;
+import syntaxtree.structure.ClassDecl;
+import syntaxtree.structure.Program;
+
+/**
+ * Recompiles only the classes whose fingerprint changed since the last run
+ * into the same output directory. The fingerprint of a class covers its own
+ * source text, the names of all classes in the file and the signatures of
+ * every class it can reach through names in its source and through the types
+ * used in those signatures. The fingerprints are kept in an index file next
+ * to the .class files.
+ */
+public class IncrementalCompiler {
+
+    public static final String INDEX_FILE = ".hoc-index";
+
+    // batch compilation may share one output directory (and index) between threads
+    private static final Object INDEX_LOCK = new Object();
+
+    private final CompilerFactory compiler;
+    private final ExecutionMode semanticMode;
+    private final CompileListener listener;
+
+    public IncrementalCompiler(CompilerFactory compiler) {
+        this(compiler, null);
+    }
+
+    public IncrementalCompiler(CompilerFactory compiler, CompileListener listener) {
+        this(compiler, ExecutionMode.SERIAL, listener);
+    }
+
+    /**
+     * @param compiler     parses the file with its AstAdapter, i.e. its parse,
+     *                     AST and lex mode and its AstCache, and generates the
+     *                     changed classes
+     * @param semanticMode of the check of the changed classes
+     * @param listener     receives the measurements of the parse and the
+     *                     check, may be null
+     */
+    public IncrementalCompiler(CompilerFactory compiler, ExecutionMode semanticMode, CompileListener listener) {
+        this.compiler = compiler;
+        this.semanticMode = semanticMode;
+        this.listener = listener;
+    }
+
+    /**
+     * The AST comes from the AstAdapter of the compiler. The fingerprints are
+     * taken from the tokens of a second lexer run, as the AstAdapter does not
+     * hand out its tokens.
+     *
+     * @param inputStream
+     * @param outDir
+     * @return ArrayList<String> identifiers of the recompiled classes
+     * @throws SemanticError
+     */
+    public ArrayList<String> compile(InputStream inputStream, String outDir) throws SemanticError {
+        PhaseTimer timer = PhaseTimer.start();
+        CharStream charStream;
+        Program program;
+        try {
+            byte[] source = inputStream.readAllBytes();
+            program = compiler.getAstAdapter().getAst(new ByteArrayInputStream(source));
+            charStream = CharStreams.fromStream(new ByteArrayInputStream(source));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        CommonTokenStream tokenStream = new CommonTokenStream(DfaCache.getShared().createLexer(charStream));
+        tokenStream.fill();
+        List<Token> tokens = tokenStream.getTokens();
+        var scanned = SignatureScanner.scan(tokens);
+        if (listener != null) {
+            listener.phaseFinished(timer.stop(CompilePhase.PARSE, null));
+        }
+        Context context = new Context(program);
+
+        TreeSet<String> classNames = new TreeSet<>();
+        program.getClasses().forEach(clazz -> classNames.add(clazz.getIdentifier()));
+
+        Properties index = loadIndex(outDir);
+        HashMap<String, String> fingerprints = new HashMap<>();
+        TreeSet<String> changed = new TreeSet<>();
+        for (int i = 0; i < program.getClasses().size(); i++) {
+            String identifier = program.getClasses().get(i).getIdentifier();
+            String fingerprint;
+            if (scanned == null || scanned.size() != program.getClasses().size()) {
+                // the scanner does not understand the file, every class depends on all of it
+                fingerprint = fingerprint(charStream.toString(), classNames, new TreeSet<>(), context);
+            } else {
+                int start = scanned.get(i).getStart();
+                int stop = scanned.get(i).getStop();
+                String source = charStream.getText(
+                        Interval.of(tokens.get(start).getStartIndex(), tokens.get(stop).getStopIndex()));
+                TreeSet<String> dependencies = getDependencies(identifier, tokens, start, stop, context,
+                        classNames);
+                fingerprint = fingerprint(source, classNames, dependencies, context);
+            }
+            fingerprints.put(identifier, fingerprint);
+            if (!fingerprint.equals(index.getProperty(identifier)) || !getClassFile(outDir, identifier).isFile()) {
+                changed.add(identifier);
+            }
+        }
+        if (changed.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Program tast = SemanticCheck.generateTast(program, semanticMode, changed, listener);
+        PrintableVector<ClassDecl> changedClasses = new PrintableVector<>();
+        tast.getClasses().stream().filter(clazz -> changed.contains(clazz.getIdentifier()))
+                .forEach(changedClasses::add);
+        var bc = compiler.getProgramGenerator().generateBytecode(new Program(changedClasses));
+
+        new File(outDir).mkdirs();
+        for (var clazz : bc.keySet()) {
+            try (FileOutputStream fos = new FileOutputStream(getClassFile(outDir, clazz))) {
+                fos.write(bc.get(clazz));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        synchronized (INDEX_LOCK) {
+            Properties current = loadIndex(outDir);
+            changed.forEach(clazz -> current.setProperty(clazz, fingerprints.get(clazz)));
+            saveIndex(outDir, current);
+        }
+        return new ArrayList<>(changed);
+    }
+
+    /**
+     * Classes named anywhere in the class body, closed over the types used in
+     * their signatures (e.g. a.getB().getC() depends on C without naming it).
+     *
+     * @param identifier
+     * @param tokens
+     * @param start
+     * @param stop
+     * @param context
+     * @param classNames
+     * @return TreeSet<String>
+     */
+    private static TreeSet<String> getDependencies(String identifier, List<Token> tokens, int start, int stop,
+            Context context, TreeSet<String> classNames) {
+        ArrayDeque<String> toVisit = new ArrayDeque<>();
+        for (int i = start; i <= stop; i++) {
+            var token = tokens.get(i);
+            if (token.getType() == JavaSubsetLexer.Identifier && classNames.contains(token.getText())) {
+                toVisit.add(token.getText());
+            }
+        }
+        TreeSet<String> dependencies = new TreeSet<>();
+        while (!toVisit.isEmpty()) {
+            String dependency = toVisit.poll();
+            if (!dependency.equals(identifier) && dependencies.add(dependency)) {
+                context.getClasses().get(dependency).getReferencedTypes().stream().filter(classNames::contains)
+                        .forEach(toVisit::add);
+            }
+        }
+        return dependencies;
+    }
+
+    /**
+     * @param source
+     * @param classNames
+     * @param dependencies
+     * @param context
+     * @return String
+     */
+    private static String fingerprint(String source, TreeSet<String> classNames, TreeSet<String> dependencies,
+            Context context) {
+        StringBuilder builder = new StringBuilder(source);
+        builder.append('\0').append(String.join(",", classNames)).append('\0');
+        dependencies.forEach(dependency -> builder.append(dependency).append(":\n")
+                .append(context.getClasses().get(dependency).getSignature()));
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(builder.toString().getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder();
+            for (byte b : hash) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @param outDir
+     * @param className
+     * @return File
+     */
+    private static File getClassFile(String outDir, String className) {
+        return new File(outDir + File.separator + className + ".class");
+    }
+
+    /**
+     * @param outDir
+     * @return Properties
+     */
+    private static Properties loadIndex(String outDir) {
+        Properties index = new Properties();
+        File file = new File(outDir + File.separator + INDEX_FILE);
+        if (file.isFile()) {
+            try (InputStream inputStream = new FileInputStream(file)) {
+                index.load(inputStream);
+            } catch (IOException e) {
+                // a broken index only costs a full rebuild
+                index.clear();
+            }
+        }
+        return index;
+    }
+
+    /**
+     * @param outDir
+     * @param index
+     */
+    private static void saveIndex(String outDir, Properties index) {
+        try (FileOutputStream fos = new FileOutputStream(outDir + File.separator + INDEX_FILE)) {
+            index.store(fos, "HouseOfCompiler incremental index");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package common;
+
+public enum LexMode {
+    ANTLR, // generated JavaSubsetLexer
+    SCANNER // hand written JavaSubsetScanner
+}
@@ -0,0 +1,154 @@
+package common;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CodePointBuffer;
+import org.antlr.v4.runtime.CodePointCharStream;
+import org.antlr.v4.runtime.IntStream;
+import org.antlr.v4.runtime.misc.Interval;
+
+/**
+ * CharStream reading single byte characters straight from a memory mapped
+ * source file, so the lexer works on the page cache instead of a decoded copy
+ * of the file. Every byte is one code point, which holds for Latin-1 files and
+ * for UTF-8 files that only contain ASCII. Other UTF-8 files are decoded from
+ * the mapping into a CodePointCharStream.
+ */
+public class MappedCharStream implements CharStream {
+
+    private final ByteBuffer buffer;
+    private final int size;
+    private final String name;
+    private int position = 0;
+
+    private MappedCharStream(ByteBuffer buffer, String name) {
+        this.buffer = buffer;
+        this.size = buffer.limit();
+        this.name = name;
+    }
+
+    /**
+     * @param file UTF-8 source
+     * @return CharStream
+     * @throws IOException
+     */
+    public static CharStream open(Path file) throws IOException {
+        return open(file, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param file
+     * @param charset UTF-8 or ISO-8859-1
+     * @return CharStream
+     * @throws IOException
+     */
+    public static CharStream open(Path file, Charset charset) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException(file + " is too large to be lexed");
+            }
+            // the mapping stays valid after the channel is closed
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        String name = file.toString();
+        if (charset.equals(StandardCharsets.ISO_8859_1) || isAscii(buffer)) {
+            return new MappedCharStream(buffer, name);
+        }
+        CharBuffer chars = charset.decode(buffer);
+        CodePointBuffer.Builder builder = CodePointBuffer.builder(chars.remaining());
+        builder.append(chars);
+        return CodePointCharStream.fromBuffer(builder.build(), name);
+    }
+
+    /**
+     * @param buffer
+     * @return boolean
+     */
+    private static boolean isAscii(ByteBuffer buffer) {
+        for (int i = 0; i < buffer.limit(); i++) {
+            if (buffer.get(i) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void consume() {
+        if (position >= size) {
+            throw new IllegalStateException("cannot consume EOF");
+        }
+        position++;
+    }
+
+    @Override
+    public int LA(int i) {
+        int offset;
+        if (i > 0) {
+            offset = position + i - 1;
+        } else if (i < 0) {
+            offset = position + i;
+        } else {
+            return 0; // undefined
+        }
+        if (offset < 0 || offset >= size) {
+            return IntStream.EOF;
+        }
+        return buffer.get(offset) & 0xFF;
+    }
+
+    @Override
+    public int mark() {
+        return -1;
+    }
+
+    @Override
+    public void release(int marker) {
+    }
+
+    @Override
+    public int index() {
+        return position;
+    }
+
+    @Override
+    public void seek(int index) {
+        position = index;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String getSourceName() {
+        return name;
+    }
+
+    @Override
+    public String getText(Interval interval) {
+        int start = Math.min(interval.a, size);
+        int length = Math.min(interval.b - interval.a + 1, size - start);
+        if (length <= 0) {
+            return "";
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(start, bytes);
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+
+    @Override
+    public String toString() {
+        return getText(Interval.of(0, size - 1));
+    }
+}
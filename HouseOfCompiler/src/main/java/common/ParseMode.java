@@ -0,0 +1,6 @@
+package common;
+
+public enum ParseMode {
+    LL, // full LL prediction for every input
+    SLL_FIRST // SLL prediction with bail out, full LL only for inputs SLL rejects
+}
@@ -0,0 +1,51 @@
+package common;
+
+public class PhaseStats {
+
+    private final CompilePhase phase;
+    private final String className;
+    private final long wallNanos;
+    private final long cpuNanos;
+    private final long allocatedBytes;
+
+    /**
+     * @param phase
+     * @param className      null for the whole phase
+     * @param wallNanos
+     * @param cpuNanos       -1 if not supported by the JVM
+     * @param allocatedBytes -1 if not supported by the JVM
+     */
+    public PhaseStats(CompilePhase phase, String className, long wallNanos, long cpuNanos, long allocatedBytes) {
+        this.phase = phase;
+        this.className = className;
+        this.wallNanos = wallNanos;
+        this.cpuNanos = cpuNanos;
+        this.allocatedBytes = allocatedBytes;
+    }
+
+    public CompilePhase getPhase() {
+        return phase;
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    public long getWallNanos() {
+        return wallNanos;
+    }
+
+    public long getCpuNanos() {
+        return cpuNanos;
+    }
+
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    @Override
+    public String toString() {
+        return phase + (className == null ? "" : " " + className) + ": wall " + wallNanos + "ns, cpu " + cpuNanos
+                + "ns, allocated " + allocatedBytes + "B";
+    }
+}
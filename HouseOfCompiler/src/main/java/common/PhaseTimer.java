@@ -0,0 +1,92 @@
+package common;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures wall time, CPU time and allocated bytes of the current thread
+ * between start() and stop(). CPU time and allocations only cover the
+ * calling thread and the classes added with addClass(PhaseStats), so a phase
+ * that hands its classes to other threads adds their measurements to its
+ * own timer.
+ */
+public class PhaseTimer {
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private final Thread thread;
+    private final long wallStart;
+    private final long cpuStart;
+    private final long allocatedStart;
+
+    // measured by other threads
+    private final LongAdder workerCpu = new LongAdder();
+    private final LongAdder workerAllocated = new LongAdder();
+
+    private PhaseTimer() {
+        thread = Thread.currentThread();
+        wallStart = System.nanoTime();
+        cpuStart = cpuTime();
+        allocatedStart = allocatedBytes();
+    }
+
+    /**
+     * @return PhaseTimer
+     */
+    public static PhaseTimer start() {
+        return new PhaseTimer();
+    }
+
+    /**
+     * Adds the CPU time and allocations of a class of this phase. Must be
+     * called on the thread that measured the class; classes measured on the
+     * thread of this timer are already included and skipped.
+     *
+     * @param classStats
+     */
+    public void addClass(PhaseStats classStats) {
+        if (Thread.currentThread() == thread) {
+            return;
+        }
+        if (classStats.getCpuNanos() >= 0) {
+            workerCpu.add(classStats.getCpuNanos());
+        }
+        if (classStats.getAllocatedBytes() >= 0) {
+            workerAllocated.add(classStats.getAllocatedBytes());
+        }
+    }
+
+    /**
+     * @param phase
+     * @param className null for the whole phase
+     * @return PhaseStats
+     */
+    public PhaseStats stop(CompilePhase phase, String className) {
+        long wall = System.nanoTime() - wallStart;
+        long cpu = cpuStart < 0 ? -1 : cpuTime() - cpuStart + workerCpu.sum();
+        long allocated = allocatedStart < 0 ? -1 : allocatedBytes() - allocatedStart + workerAllocated.sum();
+        return new PhaseStats(phase, className, wall, cpu, allocated);
+    }
+
+    /**
+     * @return long
+     */
+    private static long cpuTime() {
+        if (!THREADS.isCurrentThreadCpuTimeSupported()) {
+            return -1;
+        }
+        return THREADS.getCurrentThreadCpuTime();
+    }
+
+    /**
+     * @return long
+     */
+    private static long allocatedBytes() {
+        if (THREADS instanceof com.sun.management.ThreadMXBean threads && threads.isThreadAllocatedMemorySupported()
+                && threads.isThreadAllocatedMemoryEnabled()) {
+            return threads.getCurrentThreadAllocatedBytes();
+        }
+        return -1;
+    }
+}
@@ -1,8 +1,147 @@
 package common;
 
-import java.util.Vector;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
 
-public class PrintableVector<T> extends Vector<T> {
+/**
+ * Child list of the syntax tree nodes. It is filled once while the tree is
+ * built and afterwards only read by the visitors, so unlike the Vector it
+ * used to extend it is not synchronized. Most lists hold no elements, so
+ * empty lists share one array and only the first element allocates one.
+ */
+public class PrintableVector<T> extends AbstractList<T> implements RandomAccess {
+
+    private static final Object[] EMPTY = {};
+    private static final int INITIAL_CAPACITY = 4;
+
+    private Object[] elementData = EMPTY;
+    private int elementCount;
+
+    /**
+     * @param index
+     * @return T
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        Objects.checkIndex(index, elementCount);
+        return (T) elementData[index];
+    }
+
+    /**
+     * @param index
+     * @param element
+     * @return T the replaced element
+     */
+    @Override
+    public T set(int index, T element) {
+        T old = get(index);
+        elementData[index] = element;
+        return old;
+    }
+
+    /**
+     * @return int
+     */
+    @Override
+    public int size() {
+        return elementCount;
+    }
+
+    /**
+     * @param element
+     * @return boolean
+     */
+    @Override
+    public boolean add(T element) {
+        modCount++;
+        if (elementCount == elementData.length) {
+            grow();
+        }
+        elementData[elementCount++] = element;
+        return true;
+    }
+
+    /**
+     * @param index
+     * @param element
+     */
+    @Override
+    public void add(int index, T element) {
+        Objects.checkIndex(index, elementCount + 1);
+        modCount++;
+        if (elementCount == elementData.length) {
+            grow();
+        }
+        System.arraycopy(elementData, index, elementData, index + 1, elementCount - index);
+        elementData[index] = element;
+        elementCount++;
+    }
+
+    /**
+     * @param index
+     * @return T the removed element
+     */
+    @Override
+    public T remove(int index) {
+        T old = get(index);
+        modCount++;
+        System.arraycopy(elementData, index + 1, elementData, index, elementCount - index - 1);
+        elementData[--elementCount] = null;
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        modCount++;
+        Arrays.fill(elementData, 0, elementCount, null);
+        elementCount = 0;
+    }
+
+    /**
+     * @param action
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super T> action) {
+        int expectedModCount = modCount;
+        for (int i = 0; i < elementCount; i++) {
+            action.accept((T) elementData[i]);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * @return T
+     */
+    public T firstElement() {
+        if (elementCount == 0) {
+            throw new NoSuchElementException();
+        }
+        return get(0);
+    }
+
+    /**
+     * @return T
+     */
+    public T lastElement() {
+        if (elementCount == 0) {
+            throw new NoSuchElementException();
+        }
+        return get(elementCount - 1);
+    }
+
+    private void grow() {
+        int capacity = Math.max(INITIAL_CAPACITY, elementCount + (elementCount >> 1));
+        elementData = Arrays.copyOf(elementData, capacity);
+    }
 
     /**
      * @return String
@@ -0,0 +1,92 @@
+package common;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+public class SourceFiles {
+
+    private static final String GLOB_CHARS = "*?[{";
+
+    /**
+     * Resolves files, directories (recursively, all .java files) and glob
+     * patterns (e.g. "tests/*.java") into a sorted list of source files.
+     *
+     * @param inputs
+     * @return ArrayList<File>
+     */
+    public static ArrayList<File> resolve(List<String> inputs) {
+        TreeSet<Path> files = new TreeSet<>();
+        for (String input : inputs) {
+            if (isGlob(input)) {
+                files.addAll(resolveGlob(input));
+            } else {
+                Path path = Paths.get(input);
+                if (Files.isDirectory(path)) {
+                    files.addAll(walk(path, file -> file.toString().endsWith(".java")));
+                } else {
+                    files.add(path);
+                }
+            }
+        }
+        ArrayList<File> result = new ArrayList<>();
+        files.forEach(path -> result.add(path.toFile()));
+        return result;
+    }
+
+    /**
+     * @param input
+     * @return boolean
+     */
+    private static boolean isGlob(String input) {
+        for (char c : input.toCharArray()) {
+            if (GLOB_CHARS.indexOf(c) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param pattern
+     * @return List<Path>
+     */
+    private static List<Path> resolveGlob(String pattern) {
+        // walk from the last directory before the first glob character
+        String normalized = pattern.replace(File.separatorChar, '/');
+        int firstGlob = 0;
+        while (GLOB_CHARS.indexOf(normalized.charAt(firstGlob)) < 0) {
+            firstGlob++;
+        }
+        int lastSlash = normalized.lastIndexOf('/', firstGlob);
+        Path base = Paths.get(lastSlash < 0 ? "." : normalized.substring(0, lastSlash + 1));
+        PathMatcher matcher = FileSystems.getDefault()
+                .getPathMatcher("glob:" + (lastSlash < 0 ? "./" + normalized : normalized));
+        if (!Files.isDirectory(base)) {
+            return new ArrayList<>();
+        }
+        return walk(base, matcher::matches);
+    }
+
+    /**
+     * @param base
+     * @param filter
+     * @return List<Path>
+     */
+    private static List<Path> walk(Path base, PathMatcher filter) {
+        try (Stream<Path> paths = Files.walk(base)) {
+            return paths.filter(Files::isRegularFile).filter(filter::matches).toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
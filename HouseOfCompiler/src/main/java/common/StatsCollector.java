@@ -0,0 +1,68 @@
+package common;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Collects the measurements of every compilation of a CompilerFactory and
+ * prints them as a table or JSON (used by the --stats option).
+ */
+public class StatsCollector implements CompileListener {
+
+    private final List<PhaseStats> stats = new ArrayList<>();
+
+    /**
+     * @param phaseStats
+     */
+    @Override
+    public synchronized void phaseFinished(PhaseStats phaseStats) {
+        stats.add(phaseStats);
+    }
+
+    /**
+     * @return ArrayList<PhaseStats> ordered by phase, the classes of a phase
+     *         in arrival order followed by the whole phase
+     */
+    public synchronized ArrayList<PhaseStats> getStats() {
+        ArrayList<PhaseStats> sorted = new ArrayList<>(stats);
+        sorted.sort(Comparator.comparing(PhaseStats::getPhase)
+                .thenComparing(phaseStats -> phaseStats.getClassName() == null));
+        return sorted;
+    }
+
+    /**
+     * @return String
+     */
+    public String toTable() {
+        StringBuilder builder = new StringBuilder();
+        builder.append(String.format("%-16s %-24s %12s %12s %14s%n", "Phase", "Class", "Wall ms", "CPU ms",
+                "Allocated KB"));
+        for (PhaseStats phaseStats : getStats()) {
+            builder.append(String.format("%-16s %-24s %12.3f %12s %14s%n", phaseStats.getPhase(),
+                    phaseStats.getClassName() == null ? "(total)" : phaseStats.getClassName(),
+                    phaseStats.getWallNanos() / 1e6,
+                    phaseStats.getCpuNanos() < 0 ? "-" : String.format("%.3f", phaseStats.getCpuNanos() / 1e6),
+                    phaseStats.getAllocatedBytes() < 0 ? "-" : String.valueOf(phaseStats.getAllocatedBytes() / 1024)));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * @return String
+     */
+    public String toJson() {
+        StringBuilder builder = new StringBuilder("[");
+        var sorted = getStats();
+        for (int i = 0; i < sorted.size(); i++) {
+            PhaseStats phaseStats = sorted.get(i);
+            builder.append(i == 0 ? "\n" : ",\n");
+            builder.append("  {\"phase\": \"").append(phaseStats.getPhase()).append("\", \"class\": ")
+                    .append(phaseStats.getClassName() == null ? "null" : "\"" + phaseStats.getClassName() + "\"")
+                    .append(", \"wallNanos\": ").append(phaseStats.getWallNanos())
+                    .append(", \"cpuNanos\": ").append(phaseStats.getCpuNanos())
+                    .append(", \"allocatedBytes\": ").append(phaseStats.getAllocatedBytes()).append("}");
+        }
+        return builder.append("\n]\n").toString();
+    }
+}
@@ -0,0 +1,338 @@
+package common;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.IntStream;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ListTokenSource;
+import org.antlr.v4.runtime.Token;
+
+import codegen.ClassGenerator;
+import codegen.ProgramGenerator;
+import context.Context;
+import parser.SignatureScanner;
+import parser.adapter.ClassAdapter;
+import parser.adapter.ProgramAdapter;
+import parser.generated.JavaSubsetParser;
+import semantic.SemanticCheck;
+import semantic.exceptions.SemanticError;
+import syntaxtree.structure.ClassDecl;
+import syntaxtree.structure.Program;
+
+/**
+ * Compiles one class after the other instead of building the whole AST, TAST
+ * and bytecode map at once. The SignatureScanner collects the signatures of
+ * every class from the tokens into the Context first, then each class is
+ * parsed from its own tokens, adapted, checked, generated and written on its
+ * own, so only a single class is held as AST, TAST and bytecode at a time.
+ * The tokens of the whole file are still held until the end, the savings
+ * cover only the later representations. In PARALLEL mode the classes are
+ * compiled on all cores, so one class per thread is held, and a class that
+ * finishes before an earlier one keeps its bytecode until that one is
+ * written.
+ *
+ * Unlike the whole program compilation the classes before the first class
+ * with semantic errors are already written when the SemanticError is thrown,
+ * in both modes. Input the SignatureScanner does not understand although the
+ * parser accepts it is compiled as a whole program instead.
+ *
+ * The tokens come from the lexer of the LexMode, every class is parsed by
+ * the ANTLR parser on the DfaCache and adapted by the adapters whatever the
+ * AstMode, as the other AST modes only build whole programs. No AstCache is
+ * used either, it holds whole programs, too.
+ *
+ * With a listener every class is measured in every phase. As the phases of
+ * the classes interleave, the totals of a phase are the sums over its classes
+ * (PARSE includes lexing and scanning the signatures), so in PARALLEL mode
+ * their wall time is the time spent on all threads, not the elapsed time.
+ */
+public class StreamingCompiler {
+
+    private final ParseMode parseMode;
+    private final LexMode lexMode;
+    private final ExecutionMode mode;
+    private final CompileListener listener; // null skips the measurements
+
+    public StreamingCompiler(ParseMode parseMode) {
+        this(parseMode, ExecutionMode.SERIAL);
+    }
+
+    public StreamingCompiler(ParseMode parseMode, ExecutionMode mode) {
+        this(parseMode, mode, null);
+    }
+
+    /**
+     * @param parseMode
+     * @param mode
+     * @param listener receives the measurements of every class and phase,
+     *                 may be null
+     */
+    public StreamingCompiler(ParseMode parseMode, ExecutionMode mode, CompileListener listener) {
+        this(parseMode, LexMode.ANTLR, mode, listener);
+    }
+
+    /**
+     * @param parseMode
+     * @param lexMode
+     * @param mode
+     * @param listener receives the measurements of every class and phase,
+     *                 may be null
+     */
+    public StreamingCompiler(ParseMode parseMode, LexMode lexMode, ExecutionMode mode, CompileListener listener) {
+        this.parseMode = parseMode;
+        this.lexMode = lexMode;
+        this.mode = mode;
+        this.listener = listener;
+    }
+
+    /**
+     * @param charStream
+     * @param outDir
+     * @return ArrayList<String> identifiers of the written classes, in source
+     *         order
+     * @throws SemanticError
+     */
+    public ArrayList<String> compile(CharStream charStream, String outDir) throws SemanticError {
+        DfaCache dfaCache = DfaCache.getShared();
+        long missesBefore = dfaCache.getMisses();
+        PhaseTimer timer = listener == null ? null : PhaseTimer.start();
+        CommonTokenStream tokenStream = new CommonTokenStream(AstAdapter.createLexer(charStream, lexMode));
+        tokenStream.fill();
+        List<Token> tokens = tokenStream.getTokens();
+        var scanned = SignatureScanner.scan(tokens);
+        if (scanned == null) {
+            // the parser reports the syntax error, valid input is compiled as a whole
+            Program program = ProgramAdapter.adapt(AstAdapter.parse(dfaCache.createParser(tokenStream), parseMode));
+            if (timer != null) {
+                listener.phaseFinished(timer.stop(CompilePhase.PARSE, null));
+            }
+            ArrayList<String> written = compileProgram(program, outDir);
+            dfaCache.parsed(charStream, missesBefore);
+            return written;
+        }
+
+        Context context = new Context();
+        scanned.forEach(scannedClass -> context.addClass(scannedClass.getSignature()));
+        String fileName = scanned.get(0).getSignature().getIdentifier() + ".java";
+        // the measurements summed into the totals of each phase
+        Queue<PhaseStats> measured = new ConcurrentLinkedQueue<>();
+        if (timer != null) {
+            measured.add(timer.stop(CompilePhase.PARSE, null));
+        }
+
+        new File(outDir).mkdirs();
+        ArrayList<String> written = new ArrayList<>();
+        if (mode == ExecutionMode.PARALLEL) {
+            // every class is written as soon as the classes before it are, up to the first failure like the serial loop
+            InOrderWriter writer = new InOrderWriter(outDir, scanned.size(), written);
+            IntStream.range(0, scanned.size()).parallel().forEach(i -> {
+                try {
+                    ClassDecl classDecl = compileClass(tokens, scanned.get(i), context, fileName, measured);
+                    writer.finished(i, classDecl.getIdentifier(), generate(classDecl, context, measured));
+                } catch (RuntimeException e) {
+                    writer.failed(i, e);
+                }
+            });
+            writer.rethrow();
+        } else {
+            for (var scannedClass : scanned) {
+                ClassDecl classDecl = compileClass(tokens, scannedClass, context, fileName, measured);
+                write(outDir, classDecl.getIdentifier(), generate(classDecl, context, measured));
+                written.add(classDecl.getIdentifier());
+            }
+        }
+        dfaCache.parsed(charStream, missesBefore);
+        if (listener != null) {
+            for (CompilePhase phase : CompilePhase.values()) {
+                listener.phaseFinished(total(phase, measured));
+            }
+        }
+        return written;
+    }
+
+    /**
+     * @param tokens
+     * @param scannedClass
+     * @param context
+     * @param fileName
+     * @param measured
+     * @return ClassDecl the checked class
+     * @throws SemanticError
+     */
+    private ClassDecl compileClass(List<Token> tokens, SignatureScanner.ScannedClass scannedClass, Context context,
+            String fileName, Queue<PhaseStats> measured) throws SemanticError {
+        PhaseTimer timer = listener == null ? null : PhaseTimer.start();
+        var classTokens = new ListTokenSource(tokens.subList(scannedClass.getStart(), scannedClass.getStop() + 1));
+        JavaSubsetParser parser = DfaCache.getShared().createParser(new CommonTokenStream(classTokens));
+        ClassDecl classDecl = ClassAdapter.adapt(AstAdapter.parseClass(parser, parseMode));
+        timer = classFinished(timer, CompilePhase.PARSE, classDecl, measured);
+        SemanticCheck.generateTast(classDecl, context, fileName);
+        classFinished(timer, CompilePhase.SEMANTIC_CHECK, classDecl, measured);
+        return classDecl;
+    }
+
+    /**
+     * @param classDecl
+     * @param context
+     * @param measured
+     * @return byte[]
+     */
+    private byte[] generate(ClassDecl classDecl, Context context, Queue<PhaseStats> measured) {
+        PhaseTimer timer = listener == null ? null : PhaseTimer.start();
+        ClassGenerator classGen = new ClassGenerator(context);
+        classDecl.accept(classGen);
+        classFinished(timer, CompilePhase.CODEGEN, classDecl, measured);
+        return classGen.getBytecode();
+    }
+
+    /**
+     * Reports the measurement of one class and keeps it for the totals
+     *
+     * @param timer     null without listener
+     * @param phase
+     * @param classDecl
+     * @param measured
+     * @return PhaseTimer started for the next phase of the class, null
+     *         without listener
+     */
+    private PhaseTimer classFinished(PhaseTimer timer, CompilePhase phase, ClassDecl classDecl,
+            Queue<PhaseStats> measured) {
+        if (timer == null) {
+            return null;
+        }
+        PhaseStats stats = timer.stop(phase, classDecl.getIdentifier());
+        measured.add(stats);
+        listener.phaseFinished(stats);
+        return PhaseTimer.start();
+    }
+
+    /**
+     * @param phase
+     * @param measured
+     * @return PhaseStats the sums of the measurements of the phase, -1 if a
+     *         measurement is not supported
+     */
+    private static PhaseStats total(CompilePhase phase, Queue<PhaseStats> measured) {
+        long wall = 0;
+        long cpu = 0;
+        long allocated = 0;
+        for (PhaseStats stats : measured) {
+            if (stats.getPhase() == phase) {
+                wall += stats.getWallNanos();
+                cpu = cpu < 0 || stats.getCpuNanos() < 0 ? -1 : cpu + stats.getCpuNanos();
+                allocated = allocated < 0 || stats.getAllocatedBytes() < 0 ? -1
+                        : allocated + stats.getAllocatedBytes();
+            }
+        }
+        return new PhaseStats(phase, null, wall, cpu, allocated);
+    }
+
+    /**
+     * Checks and generates the whole program at once, nothing is written if
+     * any class has errors
+     *
+     * @param program
+     * @param outDir
+     * @return ArrayList<String> identifiers of the written classes, in source
+     *         order
+     * @throws SemanticError
+     */
+    private ArrayList<String> compileProgram(Program program, String outDir) throws SemanticError {
+        Program tast = SemanticCheck.generateTast(program, mode, listener);
+        var bytecode = ProgramGenerator.generate(tast, mode, listener);
+        new File(outDir).mkdirs();
+        ArrayList<String> written = new ArrayList<>();
+        for (ClassDecl classDecl : tast.getClasses()) {
+            write(outDir, classDecl.getIdentifier(), bytecode.get(classDecl.getIdentifier()));
+            written.add(classDecl.getIdentifier());
+        }
+        return written;
+    }
+
+    /**
+     * Writes the classes compiled in parallel in source order: a class
+     * finished before one of its predecessors keeps only its identifier and
+     * bytecode until they are written. Nothing after the first failing class
+     * is written.
+     */
+    private static class InOrderWriter {
+        private final String outDir;
+        private final String[] identifiers;
+        private final byte[][] bytecodes;
+        private final RuntimeException[] errors;
+        private final ArrayList<String> written;
+        private int next = 0; // the first class not written yet
+
+        /**
+         * @param outDir
+         * @param classes number of classes
+         * @param written receives the identifiers of the written classes
+         */
+        InOrderWriter(String outDir, int classes, ArrayList<String> written) {
+            this.outDir = outDir;
+            this.identifiers = new String[classes];
+            this.bytecodes = new byte[classes][];
+            this.errors = new RuntimeException[classes];
+            this.written = written;
+        }
+
+        /**
+         * @param index
+         * @param identifier
+         * @param bytecode
+         */
+        synchronized void finished(int index, String identifier, byte[] bytecode) {
+            identifiers[index] = identifier;
+            bytecodes[index] = bytecode;
+            while (next < bytecodes.length && bytecodes[next] != null && errors[next] == null) {
+                try {
+                    write(outDir, identifiers[next], bytecodes[next]);
+                } catch (RuntimeException e) {
+                    errors[next] = e;
+                    break;
+                }
+                written.add(identifiers[next]);
+                bytecodes[next] = null;
+                next++;
+            }
+        }
+
+        /**
+         * @param index
+         * @param error
+         */
+        synchronized void failed(int index, RuntimeException error) {
+            errors[index] = error;
+        }
+
+        /**
+         * Throws the error of the first class that was not written, if any
+         */
+        synchronized void rethrow() {
+            if (next < errors.length) {
+                throw errors[next];
+            }
+        }
+    }
+
+    /**
+     * @param outDir
+     * @param className
+     * @param bytecode
+     */
+    private static void write(String outDir, String className, byte[] bytecode) {
+        try (FileOutputStream fos = new FileOutputStream(outDir + File.separator + className + ".class")) {
+            fos.write(bytecode);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -1,7 +1,56 @@
 package common;
 
+import java.util.List;
+
+import syntaxtree.structure.Program;
+
 public class SyntaxError extends RuntimeException {
+
+    private final List<String> errors;
+    private final Program program;
+
     public SyntaxError(String message) {
         super(message);
+        this.errors = List.of(message);
+        this.program = null;
+    }
+
+    /**
+     * @param errors  every syntax error with its position
+     * @param program everything that could be parsed despite the errors
+     */
+    public SyntaxError(List<String> errors, Program program) {
+        this(format(errors), errors, program);
+    }
+
+    /**
+     * @param message
+     * @param errors
+     * @param program
+     */
+    public SyntaxError(String message, List<String> errors, Program program) {
+        super(message);
+        this.errors = errors;
+        this.program = program;
+    }
+
+    /**
+     * @param errors
+     * @return String with the format of the ThrowingErrorListener
+     */
+    private static String format(List<String> errors) {
+        StringBuilder message = new StringBuilder("\n\u001B[31m");
+        for (String error : errors) {
+            message.append(" Syntax Error: ").append(error).append("\n");
+        }
+        return message.append("\u001B[0m").toString();
+    }
+
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    public Program getProgram() {
+        return program;
     }
 }
@@ -5,12 +5,33 @@ import syntaxtree.structure.Program;
 
 public class TastAdapter implements ITastAdapter {
 
+    private final ExecutionMode mode;
+    private final CompileListener listener;
+
+    public TastAdapter() {
+        this(ExecutionMode.SERIAL);
+    }
+
+    public TastAdapter(ExecutionMode mode) {
+        this(mode, null);
+    }
+
+    /**
+     * @param mode
+     * @param listener receives the measurements of every class and of the
+     *                 whole check, may be null
+     */
+    public TastAdapter(ExecutionMode mode, CompileListener listener) {
+        this.mode = mode;
+        this.listener = listener;
+    }
+
     /**
      * @param ast
      * @return Program
      */
     @Override
     public Program getTast(Program ast) {
-        return SemanticCheck.generateTast(ast);
+        return SemanticCheck.generateTast(ast, mode, listener);
     }
 }
@@ -13,7 +13,18 @@ public class ThrowingErrorListener extends BaseErrorListener {
     public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line, int charPositionInLine,
             String msg, RecognitionException e)
             throws ParseCancellationException {
-        throw new ParseCancellationException(
+        throw syntaxError(msg, line, charPositionInLine);
+    }
+
+    /**
+     * @param msg
+     * @param line
+     * @param charPositionInLine
+     * @return ParseCancellationException with the message every syntax error
+     *         is reported with
+     */
+    public static ParseCancellationException syntaxError(String msg, int line, int charPositionInLine) {
+        return new ParseCancellationException(
                 "\n\u001B[31m Syntax Error: " + msg + " (" + line + ":" + charPositionInLine + ") " + "\u001B[0m");
     }
 }
\ No newline at end of file
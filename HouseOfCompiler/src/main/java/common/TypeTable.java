@@ -0,0 +1,49 @@
+package common;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hands out one canonical instance per type: the BaseType singletons and one
+ * ReferenceType per class name. Types taken from the table are equal exactly
+ * when they are identical, so the checks comparing them never get past the
+ * identity test of equals(). The types of the table carry no source position,
+ * so the ReferenceTypes written in the source keep their own instances with
+ * line and column in the AST; the contexts, the local scopes and the types
+ * the checker assigns use the table.
+ */
+public class TypeTable {
+
+    private final ConcurrentHashMap<String, ReferenceType> references = new ConcurrentHashMap<>();
+
+    /**
+     * @param identifier class name
+     * @return ReferenceType
+     */
+    public ReferenceType reference(String identifier) {
+        ReferenceType type = references.get(identifier);
+        return type != null ? type : references.computeIfAbsent(identifier, ReferenceType::new);
+    }
+
+    /**
+     * @param type any Type, may be null
+     * @return Type the canonical instance equal to type
+     */
+    public Type canonical(Type type) {
+        if (type instanceof BaseType baseType) {
+            return BaseType.of(baseType.getIdentifier());
+        } else if (type instanceof ReferenceType referenceType) {
+            return reference(referenceType.getIdentifier());
+        }
+        return type;
+    }
+
+    /**
+     * @param types
+     * @return PrintableVector<Type> the canonical instances of the types
+     */
+    public PrintableVector<Type> canonical(PrintableVector<Type> types) {
+        PrintableVector<Type> canonical = new PrintableVector<>();
+        types.forEach(type -> canonical.add(canonical(type)));
+        return canonical;
+    }
+}
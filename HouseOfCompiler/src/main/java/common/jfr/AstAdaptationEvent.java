@@ -0,0 +1,14 @@
+package common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("houseofcompiler.AstAdaptation")
+@Label("AST Adaptation")
+@Category({ "HouseOfCompiler", "Parser" })
+public class AstAdaptationEvent extends jdk.jfr.Event {
+
+    @Label("Classes")
+    public int classes;
+}
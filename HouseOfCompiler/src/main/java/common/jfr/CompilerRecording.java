@@ -0,0 +1,50 @@
+package common.jfr;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.ParseException;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+/**
+ * Flight recording with the JVM's default settings plus every compiler
+ * event, dumped into a file when closed.
+ */
+public class CompilerRecording implements AutoCloseable {
+
+    private final Recording recording;
+    private final Path file;
+
+    /**
+     * @param file
+     * @throws IOException
+     */
+    public CompilerRecording(Path file) throws IOException {
+        this.file = file;
+        try {
+            this.recording = new Recording(Configuration.getConfiguration("default"));
+        } catch (ParseException e) {
+            throw new IOException(e);
+        }
+        recording.setName("HouseOfCompiler");
+        recording.enable(ParseEvent.class);
+        recording.enable(AstAdaptationEvent.class);
+        recording.enable(SemanticCheckEvent.class);
+        recording.enable(MethodGenerationEvent.class);
+        recording.start();
+    }
+
+    /**
+     * @throws IOException
+     */
+    @Override
+    public void close() throws IOException {
+        recording.stop();
+        try {
+            recording.dump(file);
+        } finally {
+            recording.close();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+@Name("houseofcompiler.MethodGeneration")
+@Label("Method Generation")
+@Category({ "HouseOfCompiler", "Codegen" })
+public class MethodGenerationEvent extends jdk.jfr.Event {
+
+    @Label("Class")
+    public String className;
+
+    @Label("Method")
+    public String methodName;
+
+    @Label("Descriptor")
+    public String descriptor;
+
+    @Label("Instructions")
+    public int instructionCount;
+
+    // ASM computes the frames and max values in visitMaxs
+    @Label("Frame Computation")
+    @Timespan(Timespan.NANOSECONDS)
+    public long frameComputationTime;
+}
@@ -0,0 +1,17 @@
+package common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("houseofcompiler.Parse")
+@Label("Parse")
+@Category({ "HouseOfCompiler", "Parser" })
+public class ParseEvent extends jdk.jfr.Event {
+
+    @Label("Characters")
+    public int characters;
+
+    @Label("Tokens")
+    public int tokens;
+}
@@ -0,0 +1,17 @@
+package common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("houseofcompiler.SemanticCheck")
+@Label("Semantic Check")
+@Category({ "HouseOfCompiler", "Semantic Check" })
+public class SemanticCheckEvent extends jdk.jfr.Event {
+
+    @Label("Class")
+    public String className;
+
+    @Label("Valid")
+    public boolean valid;
+}
@@ -2,6 +2,14 @@ package context;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import common.ReferenceType;
+import common.Type;
+import common.TypeTable;
 
 import syntaxtree.structure.ClassDecl;
 import syntaxtree.structure.MainMethodDecl;
@@ -11,16 +19,36 @@ public class ClassContext {
     private HashMap<String, FieldContext> fields;
     private ArrayList<ConstructorContext> constructors;
     private HashMap<String, ArrayList<MethodContext>> methods;
+    // overload resolution index, built together with methods
+    private HashMap<Arity, ArrayList<MethodContext>> methodsByArity;
+    private HashMap<Signature, ArrayList<MethodContext>> methodsBySignature;
+    // resolved calls, shared by all threads checking against this context
+    private final ConcurrentHashMap<Call, MethodContext> resolvedCalls = new ConcurrentHashMap<>();
     private boolean hasMain = false;
 
-    public ClassContext(ClassDecl clazz) {
+    private record Arity(String identifier, int arity) {
+    }
+
+    private record Signature(String identifier, List<Type> parameterTypes) {
+    }
+
+    private record Call(Signature signature, boolean privateAccess) {
+    }
+
+    /**
+     * @param clazz
+     * @param types canonical instances for the types of the signatures
+     */
+    public ClassContext(ClassDecl clazz, TypeTable types) {
         fields = new HashMap<>();
         constructors = new ArrayList<>();
         methods = new HashMap<>();
+        methodsByArity = new HashMap<>();
+        methodsBySignature = new HashMap<>();
 
-        clazz.getFieldDelcarations().forEach(field -> fields.put(field.getIdentifier(), new FieldContext(field)));
+        clazz.getFieldDelcarations().forEach(field -> fields.put(field.getIdentifier(), new FieldContext(field, types)));
         clazz.getConstructorDeclarations()
-                .forEach(constructor -> constructors.add(new ConstructorContext(constructor)));
+                .forEach(constructor -> constructors.add(new ConstructorContext(constructor, types)));
         clazz.getMethodDeclarations().forEach(method -> {
             if (method instanceof MainMethodDecl) {
                 hasMain = true;
@@ -29,7 +57,13 @@ public class ClassContext {
             if (!methods.containsKey(method.getIdentifier())) {
                 methods.put(method.getIdentifier(), new ArrayList<>());
             }
-            methods.get(method.getIdentifier()).add(new MethodContext(method));
+            var methodContext = new MethodContext(method, types);
+            methods.get(method.getIdentifier()).add(methodContext);
+            var parameterTypes = methodContext.getParameterTypes();
+            methodsByArity.computeIfAbsent(new Arity(method.getIdentifier(), parameterTypes.size()),
+                    key -> new ArrayList<>()).add(methodContext);
+            methodsBySignature.computeIfAbsent(new Signature(method.getIdentifier(), parameterTypes),
+                    key -> new ArrayList<>()).add(methodContext);
         });
     }
 
@@ -58,6 +92,91 @@ public class ClassContext {
         return methods;
     }
 
+    /**
+     * @param identifier
+     * @param arity
+     * @return List<MethodContext> the overloads taking arity parameters
+     */
+    public List<MethodContext> getOverloads(String identifier, int arity) {
+        return methodsByArity.getOrDefault(new Arity(identifier, arity), new ArrayList<>());
+    }
+
+    /**
+     * @param identifier
+     * @param parameterTypes
+     * @return List<MethodContext> the overloads declared with exactly these
+     *         parameter types, more than one only for duplicate declarations
+     */
+    public List<MethodContext> getOverloads(String identifier, List<Type> parameterTypes) {
+        return methodsBySignature.getOrDefault(new Signature(identifier, parameterTypes), new ArrayList<>());
+    }
+
+    /**
+     * @param identifier
+     * @param argumentTypes
+     * @param privateAccess whether the call is made from inside this class
+     * @return MethodContext the method an earlier call of the same shape
+     *         resolved to, or null
+     */
+    public MethodContext getResolved(String identifier, List<Type> argumentTypes, boolean privateAccess) {
+        return resolvedCalls.get(new Call(new Signature(identifier, argumentTypes), privateAccess));
+    }
+
+    /**
+     * @param identifier
+     * @param argumentTypes
+     * @param privateAccess whether the call is made from inside this class
+     * @param method        the only method the call resolves to
+     */
+    public void putResolved(String identifier, List<Type> argumentTypes, boolean privateAccess,
+            MethodContext method) {
+        resolvedCalls.put(new Call(new Signature(identifier, argumentTypes), privateAccess), method);
+    }
+
+    /**
+     * Deterministic description of everything other classes can see of this
+     * class: fields, constructors and methods with their access modifiers.
+     *
+     * @return String
+     */
+    public String getSignature() {
+        StringBuilder builder = new StringBuilder();
+        new TreeMap<>(fields).forEach((identifier, field) -> builder.append("F ").append(identifier).append(' ')
+                .append(field).append('\n'));
+        constructors.forEach(constructor -> builder.append("C ").append(constructor).append('\n'));
+        new TreeMap<>(methods).forEach((identifier, overloads) -> overloads.forEach(method -> builder.append("M ")
+                .append(identifier).append(' ').append(method).append('\n')));
+        if (hasMain) {
+            builder.append("main\n");
+        }
+        return builder.toString();
+    }
+
+    /**
+     * @return TreeSet<String> identifiers of all classes used in the signature
+     */
+    public TreeSet<String> getReferencedTypes() {
+        TreeSet<String> types = new TreeSet<>();
+        fields.values().forEach(field -> addReferencedType(types, field.getType()));
+        constructors.forEach(constructor -> constructor.getParameterTypes()
+                .forEach(type -> addReferencedType(types, type)));
+        methods.values().forEach(overloads -> overloads.forEach(method -> {
+            addReferencedType(types, method.getType());
+            method.getParameterTypes().forEach(type -> addReferencedType(types, type));
+        }));
+        return types;
+    }
+
+    /**
+     * @param types
+     * @param type
+     */
+    private static void addReferencedType(TreeSet<String> types, Type type) {
+        if (type instanceof ReferenceType) {
+            types.add(((ReferenceType) type).getIdentifier());
+        }
+    }
+
     /**
      * @return String
      */
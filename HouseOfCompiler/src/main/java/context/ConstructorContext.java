@@ -6,8 +6,8 @@ import codegen.utils.GenUtils;
 import common.AccessModifier;
 import common.PrintableVector;
 import common.Type;
+import common.TypeTable;
 import syntaxtree.structure.ConstructorDecl;
-import syntaxtree.structure.MethodParameter;
 
 public class ConstructorContext {
 
@@ -15,10 +15,10 @@ public class ConstructorContext {
     private Type type;
     private PrintableVector<Type> parameterTypes;
 
-    public ConstructorContext(ConstructorDecl constructor) {
+    public ConstructorContext(ConstructorDecl constructor, TypeTable types) {
         this.accessModifier = constructor.getAccessModifier();
-        this.type = constructor.getType();
-        this.parameterTypes = constructor.getParameterDeclarations().stream().map(MethodParameter::getType)
+        this.type = types.canonical(constructor.getType());
+        this.parameterTypes = constructor.getParameterDeclarations().stream().map(parameter -> types.canonical(parameter.getType()))
                 .collect(Collectors.toCollection(PrintableVector::new));
     }
 
@@ -7,7 +7,7 @@ import common.AccessModifier;
 import common.BaseType;
 import common.Primitives;
 import common.PrintableVector;
-import common.ReferenceType;
+import common.TypeTable;
 import syntaxtree.statements.Block;
 import syntaxtree.structure.ClassDecl;
 import syntaxtree.structure.FieldDecl;
@@ -23,21 +23,37 @@ public class Context {
 
         private ArrayList<String> mains;
 
+        private final TypeTable types = new TypeTable();
+
         public Context(Program program) {
+                this();
+                program.getClasses().forEach(this::addClass);
+        }
+
+        /**
+         * Context without any classes of the program, they are added one by one
+         * through addClass
+         */
+        public Context() {
                 classes = new HashMap<>();
                 imports = new HashMap<>();
                 mains = new ArrayList<>();
 
                 addStaticContext();
                 addStaticImports();
+        }
 
-                program.getClasses().forEach(clazz -> {
-                        ClassContext cc = new ClassContext(clazz);
-                        classes.put(clazz.getIdentifier(), cc);
-                        if (cc.hasMain()) {
-                                mains.add(clazz.getIdentifier());
-                        }
-                });
+        /**
+         * Only the signatures of the class are kept, not its ClassDecl
+         *
+         * @param clazz
+         */
+        public void addClass(ClassDecl clazz) {
+                ClassContext cc = new ClassContext(clazz, types);
+                classes.put(clazz.getIdentifier(), cc);
+                if (cc.hasMain()) {
+                        mains.add(clazz.getIdentifier());
+                }
         }
 
         public String getMain() {
@@ -61,57 +77,65 @@ public class Context {
                 return imports;
         }
 
+        /**
+         * @return TypeTable canonical types of this context, the types of the
+         *         class contexts are taken from it
+         */
+        public TypeTable getTypes() {
+                return types;
+        }
+
         public void addStaticContext() {
                 ClassDecl SystemClass = new ClassDecl("java/lang/System", new PrintableVector<>(),
                                 new PrintableVector<>(),
                                 new PrintableVector<>());
 
-                FieldDecl out = new FieldDecl(AccessModifier.PUBLIC_STATIC, new ReferenceType("java/io/PrintStream"),
+                FieldDecl out = new FieldDecl(AccessModifier.PUBLIC_STATIC, types.reference("java/io/PrintStream"),
                                 "out");
-                FieldDecl err = new FieldDecl(AccessModifier.PUBLIC_STATIC, new ReferenceType("java/io/PrintStream"),
+                FieldDecl err = new FieldDecl(AccessModifier.PUBLIC_STATIC, types.reference("java/io/PrintStream"),
                                 "err");
                 SystemClass.getFieldDelcarations().add(out);
                 SystemClass.getFieldDelcarations().add(err);
                 var intParams = new PrintableVector<MethodParameter>();
-                intParams.add(new MethodParameter(new BaseType(Primitives.INT), "i"));
+                intParams.add(new MethodParameter(BaseType.of(Primitives.INT), "i"));
                 var boolParams = new PrintableVector<MethodParameter>();
-                boolParams.add(new MethodParameter(new BaseType(Primitives.BOOL), "b"));
+                boolParams.add(new MethodParameter(BaseType.of(Primitives.BOOL), "b"));
                 var charParams = new PrintableVector<MethodParameter>();
-                charParams.add(new MethodParameter(new BaseType(Primitives.CHAR), "c"));
+                charParams.add(new MethodParameter(BaseType.of(Primitives.CHAR), "c"));
                 var stringParams = new PrintableVector<MethodParameter>();
-                stringParams.add(new MethodParameter(new ReferenceType("java/lang/String"), "s"));
+                stringParams.add(new MethodParameter(types.reference("java/lang/String"), "s"));
 
-                MethodDecl printlnInt = new MethodDecl(AccessModifier.PUBLIC, new BaseType(Primitives.VOID), "println",
+                MethodDecl printlnInt = new MethodDecl(AccessModifier.PUBLIC, BaseType.of(Primitives.VOID), "println",
                                 intParams,
                                 new Block());
-                MethodDecl printlnBool = new MethodDecl(AccessModifier.PUBLIC, new BaseType(Primitives.VOID), "println",
+                MethodDecl printlnBool = new MethodDecl(AccessModifier.PUBLIC, BaseType.of(Primitives.VOID), "println",
                                 boolParams,
                                 new Block());
-                MethodDecl printlnChar = new MethodDecl(AccessModifier.PUBLIC, new BaseType(Primitives.VOID), "println",
+                MethodDecl printlnChar = new MethodDecl(AccessModifier.PUBLIC, BaseType.of(Primitives.VOID), "println",
                                 charParams,
                                 new Block());
-                MethodDecl println = new MethodDecl(AccessModifier.PUBLIC, new BaseType(Primitives.VOID), "println",
+                MethodDecl println = new MethodDecl(AccessModifier.PUBLIC, BaseType.of(Primitives.VOID), "println",
                                 new PrintableVector<>(),
                                 new Block());
 
-                MethodDecl printlnString = new MethodDecl(AccessModifier.PUBLIC, new BaseType(
+                MethodDecl printlnString = new MethodDecl(AccessModifier.PUBLIC, BaseType.of(
                                 Primitives.VOID),
                                 "println",
                                 stringParams,
                                 new Block());
-                MethodDecl printInt = new MethodDecl(AccessModifier.PUBLIC, new BaseType(Primitives.VOID), "print",
+                MethodDecl printInt = new MethodDecl(AccessModifier.PUBLIC, BaseType.of(Primitives.VOID), "print",
                                 intParams,
                                 new Block());
-                MethodDecl printBool = new MethodDecl(AccessModifier.PUBLIC, new BaseType(Primitives.VOID), "print",
+                MethodDecl printBool = new MethodDecl(AccessModifier.PUBLIC, BaseType.of(Primitives.VOID), "print",
                                 boolParams,
                                 new Block());
-                MethodDecl printChar = new MethodDecl(AccessModifier.PUBLIC, new BaseType(Primitives.VOID), "print",
+                MethodDecl printChar = new MethodDecl(AccessModifier.PUBLIC, BaseType.of(Primitives.VOID), "print",
                                 charParams,
                                 new Block());
-                MethodDecl print = new MethodDecl(AccessModifier.PUBLIC, new BaseType(Primitives.VOID), "print",
+                MethodDecl print = new MethodDecl(AccessModifier.PUBLIC, BaseType.of(Primitives.VOID), "print",
                                 new PrintableVector<>(),
                                 new Block());
-                MethodDecl printString = new MethodDecl(AccessModifier.PUBLIC, new BaseType(
+                MethodDecl printString = new MethodDecl(AccessModifier.PUBLIC, BaseType.of(
                                 Primitives.VOID),
                                 "print",
                                 stringParams,
@@ -132,8 +156,8 @@ public class Context {
                                 new PrintableVector<>(),
                                 streamMethods);
 
-                classes.put(SystemClass.getIdentifier(), new ClassContext(SystemClass));
-                classes.put(PrintStreamClass.getIdentifier(), new ClassContext(PrintStreamClass));
+                classes.put(SystemClass.getIdentifier(), new ClassContext(SystemClass, types));
+                classes.put(PrintStreamClass.getIdentifier(), new ClassContext(PrintStreamClass, types));
         }
 
         public void addStaticImports() {
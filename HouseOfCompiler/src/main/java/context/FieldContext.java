@@ -3,6 +3,7 @@ package context;
 import codegen.utils.GenUtils;
 import common.AccessModifier;
 import common.Type;
+import common.TypeTable;
 import syntaxtree.structure.FieldDecl;
 
 public class FieldContext {
@@ -10,9 +11,9 @@ public class FieldContext {
     private AccessModifier accessModifier;
     private Type type;
 
-    public FieldContext(FieldDecl field) {
+    public FieldContext(FieldDecl field, TypeTable types) {
         accessModifier = field.getAccessModifier();
-        type = field.getType();
+        type = types.canonical(field.getType());
     }
 
     /**
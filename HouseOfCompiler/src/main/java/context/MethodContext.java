@@ -6,8 +6,8 @@ import codegen.utils.GenUtils;
 import common.AccessModifier;
 import common.PrintableVector;
 import common.Type;
+import common.TypeTable;
 import syntaxtree.structure.MethodDecl;
-import syntaxtree.structure.MethodParameter;
 
 public class MethodContext {
 
@@ -15,10 +15,10 @@ public class MethodContext {
     private Type type;
     private PrintableVector<Type> parameterTypes;
 
-    public MethodContext(MethodDecl method) {
+    public MethodContext(MethodDecl method, TypeTable types) {
         this.accessModifier = method.getAccessModifier();
-        this.type = method.getType();
-        this.parameterTypes = method.getParameters().stream().map(MethodParameter::getType)
+        this.type = types.canonical(method.getType());
+        this.parameterTypes = method.getParameters().stream().map(parameter -> types.canonical(parameter.getType()))
                 .collect(Collectors.toCollection(PrintableVector::new));
     }
 
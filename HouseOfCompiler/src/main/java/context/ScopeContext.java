@@ -1,19 +1,49 @@
 package context;
 
-import java.util.HashMap;
-import java.util.Stack;
+import java.util.Arrays;
+import java.util.EmptyStackException;
 
 import common.Type;
+import common.TypeTable;
 import semantic.exceptions.AlreadyDefinedException;
 import syntaxtree.statements.LocalVarDecl;
 import syntaxtree.structure.MethodParameter;
 
+/**
+ * Local variables of the nested scopes of a method in one flat table. Every
+ * name seen so far has an entry in an open addressed table pointing to the
+ * slot of its innermost variable, and every slot links to the variable of the
+ * same name it hides. The slots double as undo log: popping a scope unlinks
+ * the slots added since the matching push, so lookups never walk the scopes
+ * and a scope allocates nothing once the arrays have grown large enough.
+ */
 public class ScopeContext {
 
-    private Stack<HashMap<String, Type>> localVars;
+    private static final int NONE = -1;
 
-    public ScopeContext() {
-        localVars = new Stack<HashMap<String, Type>>();
+    // open addressed table of all names seen so far, with their innermost slot
+    private String[] names = new String[16];
+    private int[] heads = new int[16];
+    private int nameCount;
+
+    // variables in declaration order, linked to the variable they hide
+    private Type[] slotTypes = new Type[16];
+    private int[] slotNames = new int[16];
+    private int[] slotHidden = new int[16];
+    private int slotCount;
+
+    // slotCount at each pushScope
+    private int[] scopes = new int[8];
+    private int depth;
+
+    private final TypeTable types;
+
+    /**
+     * @param types the local variables are stored with the canonical
+     *              instances of their types
+     */
+    public ScopeContext(TypeTable types) {
+        this.types = types;
     }
 
     /**
@@ -24,19 +54,46 @@ public class ScopeContext {
         if (this.contains(name)) {
             throw new AlreadyDefinedException("Variable " + name + " already exists in this scope");
         }
-        localVars.peek().put(name, type);
+        if (depth == 0) {
+            throw new EmptyStackException();
+        }
+        if (slotCount == slotTypes.length) {
+            slotTypes = Arrays.copyOf(slotTypes, slotCount * 2);
+            slotNames = Arrays.copyOf(slotNames, slotCount * 2);
+            slotHidden = Arrays.copyOf(slotHidden, slotCount * 2);
+        }
+        int index = intern(name);
+        slotTypes[slotCount] = types.canonical(type);
+        slotNames[slotCount] = index;
+        slotHidden[slotCount] = heads[index];
+        heads[index] = slotCount++;
     }
 
     public void clear() {
-        localVars.clear();
+        Arrays.fill(names, null);
+        Arrays.fill(slotTypes, 0, slotCount, null);
+        nameCount = 0;
+        slotCount = 0;
+        depth = 0;
     }
 
     public void pushScope() {
-        localVars.push(new HashMap<String, Type>());
+        if (depth == scopes.length) {
+            scopes = Arrays.copyOf(scopes, depth * 2);
+        }
+        scopes[depth++] = slotCount;
     }
 
     public void popScope() {
-        localVars.pop();
+        if (depth == 0) {
+            throw new EmptyStackException();
+        }
+        int start = scopes[--depth];
+        while (slotCount > start) {
+            slotCount--;
+            heads[slotNames[slotCount]] = slotHidden[slotCount];
+            slotTypes[slotCount] = null;
+        }
     }
 
     /**
@@ -44,12 +101,8 @@ public class ScopeContext {
      * @return Type
      */
     public Type getLocalVar(String name) {
-        for (HashMap<String, Type> map : localVars) {
-            if (map.containsKey(name)) {
-                return map.get(name);
-            }
-        }
-        return null;
+        int slot = find(name);
+        return slot == NONE ? null : slotTypes[slot];
     }
 
     /**
@@ -57,12 +110,7 @@ public class ScopeContext {
      * @return boolean
      */
     public boolean contains(String name) {
-        for (HashMap<String, Type> map : localVars) {
-            if (map.containsKey(name)) {
-                return true;
-            }
-        }
-        return false;
+        return find(name) != NONE;
     }
 
     /**
@@ -79,4 +127,65 @@ public class ScopeContext {
         addLocalVar(parameter.getIdentifier(), parameter.getType());
     }
 
+    /**
+     * @param name
+     * @return int innermost slot of the variable, NONE if it is not declared
+     */
+    private int find(String name) {
+        int mask = names.length - 1;
+        for (int i = name.hashCode() & mask; names[i] != null; i = (i + 1) & mask) {
+            if (names[i].equals(name)) {
+                return heads[i];
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * @param name
+     * @return int index of the name in the table, added if it is new
+     */
+    private int intern(String name) {
+        if (2 * (nameCount + 1) > names.length) {
+            rehash();
+        }
+        int mask = names.length - 1;
+        int i = name.hashCode() & mask;
+        for (; names[i] != null; i = (i + 1) & mask) {
+            if (names[i].equals(name)) {
+                return i;
+            }
+        }
+        names[i] = name;
+        heads[i] = NONE;
+        nameCount++;
+        return i;
+    }
+
+    /**
+     * Doubles the name table, moving the slots over to the new indices
+     */
+    private void rehash() {
+        String[] oldNames = names;
+        int[] oldHeads = heads;
+        int[] moved = new int[oldNames.length];
+        names = new String[oldNames.length * 2];
+        heads = new int[oldNames.length * 2];
+        int mask = names.length - 1;
+        for (int old = 0; old < oldNames.length; old++) {
+            if (oldNames[old] != null) {
+                int i = oldNames[old].hashCode() & mask;
+                while (names[i] != null) {
+                    i = (i + 1) & mask;
+                }
+                names[i] = oldNames[old];
+                heads[i] = oldHeads[old];
+                moved[old] = i;
+            }
+        }
+        for (int slot = 0; slot < slotCount; slot++) {
+            slotNames[slot] = moved[slotNames[slot]];
+        }
+    }
+
 }
@@ -0,0 +1,65 @@
+package main;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Thin client for the {@link CompileServer}. Prints the output of the request
+ * and returns its exit code.
+ */
+public class CompileClient {
+
+    private final int port;
+    private final Path tokenFile;
+
+    /**
+     * @param port the server's token is read from its default token file
+     */
+    public CompileClient(int port) {
+        this(port, CompileServer.tokenFile(CompileServer.defaultTokenDirectory(), port));
+    }
+
+    /**
+     * @param port
+     * @param tokenFile
+     */
+    public CompileClient(int port, Path tokenFile) {
+        this.port = port;
+        this.tokenFile = tokenFile;
+    }
+
+    /**
+     * @param request the request name followed by its (absolute) arguments
+     * @return int exit code
+     * @throws IOException if the server is not reachable or its token file
+     *                     cannot be read
+     */
+    public int send(String... request) throws IOException {
+        String token = Files.readString(tokenFile, StandardCharsets.UTF_8).trim();
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+                PrintWriter out = new PrintWriter(socket.getOutputStream(), false, StandardCharsets.UTF_8);
+                BufferedReader in = new BufferedReader(
+                        new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))) {
+            out.println(token);
+            out.println(String.join("\t", request));
+            out.flush();
+
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (line.startsWith("OUT ")) {
+                    System.out.println(line.substring(4));
+                } else if (line.startsWith("END ")) {
+                    return Integer.parseInt(line.substring(4));
+                }
+            }
+        }
+        throw new IOException("Connection to the compile server closed without a result");
+    }
+}
@@ -0,0 +1,333 @@
+package main;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ProtocolException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import common.CompilerFactory;
+
+/**
+ * Long running compiler process listening on a loopback port. All requests
+ * share one CompilerFactory, so the ANTLR ATN/DFA caches and the JIT stay warm
+ * between compilations.
+ *
+ * Every local process can connect to the port, so the server only accepts
+ * requests carrying its token. The token is random per server and written to
+ * a file only the owner can read (0600 in a 0700 directory, see
+ * {@link #tokenFile(Path, int)}), which is deleted again on {@link #close()}.
+ * A connection that sends nothing for the read timeout or a line longer than
+ * MAX_LINE_CHARS is closed without an answer, so idle or flooding clients
+ * can neither hold the workers nor fill the heap before the token is checked.
+ *
+ * Protocol (one request per connection, UTF-8 lines): the client sends the
+ * token line followed by the tab separated request, e.g. "COMPILE\t/abs/Foo.java\t/abs/out". TAST writes
+ * the checked program of a file and GENERATE generates the classes of such a
+ * file, so the code generation can run in another process. The server
+ * answers with any number of "OUT text" lines followed by "END exitCode".
+ */
+public class CompileServer {
+
+    public static final int DEFAULT_PORT = 4711;
+    public static final int DEFAULT_READ_TIMEOUT_MILLIS = 10_000;
+    public static final int MAX_LINE_CHARS = 1 << 16;
+
+    public static final String COMPILE = "COMPILE";
+    public static final String JAR = "JAR";
+    public static final String TAST = "TAST";
+    public static final String GENERATE = "GENERATE";
+    public static final String RUN = "RUN";
+    public static final String PING = "PING";
+    public static final String SHUTDOWN = "SHUTDOWN";
+
+    private static final Object OUTPUT_LOCK = new Object();
+    private static final int TOKEN_BYTES = 32;
+
+    private final CompilerFactory compiler;
+    private final ServerSocket serverSocket;
+    private final ExecutorService workers;
+    private final byte[] token;
+    private final Path tokenFile;
+    private volatile int readTimeoutMillis = DEFAULT_READ_TIMEOUT_MILLIS;
+
+    public CompileServer(CompilerFactory compiler, int port) throws IOException {
+        this(compiler, port, defaultTokenDirectory());
+    }
+
+    /**
+     * @param compiler
+     * @param port           0 binds any free port
+     * @param tokenDirectory directory of the token file, created private to
+     *                       the user if it does not exist
+     * @throws IOException if the port cannot be bound or the token cannot be
+     *                     written
+     */
+    public CompileServer(CompilerFactory compiler, int port, Path tokenDirectory) throws IOException {
+        this.compiler = compiler;
+        this.serverSocket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+        byte[] random = new byte[TOKEN_BYTES];
+        new SecureRandom().nextBytes(random);
+        this.token = Base64.getUrlEncoder().withoutPadding().encodeToString(random).getBytes(StandardCharsets.UTF_8);
+        try {
+            this.tokenFile = writeToken(tokenDirectory, getPort(), token);
+        } catch (IOException e) {
+            serverSocket.close();
+            throw e;
+        }
+        this.workers = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @return Path ~/.houseofcompiler
+     */
+    public static Path defaultTokenDirectory() {
+        return Path.of(System.getProperty("user.home"), ".houseofcompiler");
+    }
+
+    /**
+     * @param tokenDirectory
+     * @param port
+     * @return Path the token file of the server on that port
+     */
+    public static Path tokenFile(Path tokenDirectory, int port) {
+        return tokenDirectory.resolve("server-" + port + ".token");
+    }
+
+    /**
+     * The file is created with its final permissions before the token is
+     * written, so there is no moment in which others could read it.
+     *
+     * @param tokenDirectory
+     * @param port
+     * @param token
+     * @return Path the written token file
+     * @throws IOException
+     */
+    private static Path writeToken(Path tokenDirectory, int port, byte[] token) throws IOException {
+        Path file = tokenFile(tokenDirectory, port);
+        if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            if (!Files.isDirectory(tokenDirectory)) {
+                Files.createDirectories(tokenDirectory,
+                        PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")));
+            }
+            Files.setPosixFilePermissions(tokenDirectory, PosixFilePermissions.fromString("rwx------"));
+            Files.deleteIfExists(file);
+            Files.createFile(file, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+        } else {
+            Files.createDirectories(tokenDirectory);
+            Files.deleteIfExists(file);
+            Files.createFile(file);
+        }
+        Files.write(file, token);
+        return file;
+    }
+
+    /**
+     * @return Path the file holding the token of this server
+     */
+    public Path getTokenFile() {
+        return tokenFile;
+    }
+
+    /**
+     * @param readTimeoutMillis how long a connection may send nothing before
+     *                          it is closed
+     */
+    public void setReadTimeout(int readTimeoutMillis) {
+        this.readTimeoutMillis = readTimeoutMillis;
+    }
+
+    /**
+     * @return int the bound port
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Accepts requests until a SHUTDOWN request arrives or {@link #close()} is
+     * called.
+     */
+    public void serve() {
+        try {
+            while (!serverSocket.isClosed()) {
+                Socket socket = serverSocket.accept();
+                workers.submit(() -> handle(socket));
+            }
+        } catch (SocketException e) {
+            // closed
+        } catch (IOException e) {
+            e.printStackTrace();
+        } finally {
+            workers.shutdown();
+        }
+    }
+
+    public void close() {
+        try {
+            serverSocket.close();
+            Files.deleteIfExists(tokenFile);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * @param socket
+     */
+    private void handle(Socket socket) {
+        try (socket;
+                BufferedReader in = new BufferedReader(
+                        new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                PrintWriter out = new PrintWriter(socket.getOutputStream(), false, StandardCharsets.UTF_8)) {
+            socket.setSoTimeout(readTimeoutMillis);
+            String received = readLine(in);
+            int exitCode;
+            StringBuilder output = new StringBuilder();
+            try {
+                if (received == null
+                        || !MessageDigest.isEqual(token, received.getBytes(StandardCharsets.UTF_8))) {
+                    output.append("Invalid token");
+                    exitCode = 1;
+                } else {
+                    String line = readLine(in);
+                    exitCode = line == null ? 1 : execute(line.split("\t"), output);
+                }
+            } catch (RuntimeException e) {
+                output.append(e.getMessage() == null ? e.toString() : e.getMessage());
+                exitCode = 1;
+            }
+            for (String outputLine : output.toString().split("\n")) {
+                if (!outputLine.isEmpty()) {
+                    out.println("OUT " + outputLine);
+                }
+            }
+            out.println("END " + exitCode);
+            out.flush();
+        } catch (SocketTimeoutException | ProtocolException e) {
+            // idle or flooding client, the connection is closed
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Like BufferedReader.readLine, but gives up after MAX_LINE_CHARS
+     *
+     * @param in
+     * @return String the line without its terminator, null at the end of the
+     *         stream
+     * @throws ProtocolException if the line is longer than MAX_LINE_CHARS
+     * @throws IOException
+     */
+    private static String readLine(BufferedReader in) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int c;
+        while ((c = in.read()) != -1 && c != '\n') {
+            if (line.length() == MAX_LINE_CHARS) {
+                throw new ProtocolException("Line too long");
+            }
+            line.append((char) c);
+        }
+        if (c == -1 && line.length() == 0) {
+            return null;
+        }
+        int length = line.length();
+        if (length > 0 && line.charAt(length - 1) == '\r') {
+            line.setLength(length - 1);
+        }
+        return line.toString();
+    }
+
+    /**
+     * @param request
+     * @param output
+     * @return int exit code
+     */
+    private int execute(String[] request, StringBuilder output) {
+        if (request.length > 1 && !new File(request[1]).isFile()) {
+            output.append("File not found: ").append(request[1]);
+            return 1;
+        }
+        switch (request[0]) {
+            case COMPILE -> {
+                checkArguments(request, 3);
+                compiler.compile(request[1], request[2]);
+            }
+            case JAR -> {
+                checkArguments(request, 3);
+                compiler.generateJar(request[1], request[2]);
+            }
+            case TAST -> {
+                checkArguments(request, 3);
+                compiler.writeTast(request[1], request[2]);
+            }
+            case GENERATE -> {
+                checkArguments(request, 3);
+                compiler.generateTast(request[1], request[2]);
+            }
+            case RUN -> {
+                checkArguments(request, 2);
+                output.append(captureOutput(() -> compiler.runCode(request[1])));
+            }
+            case PING -> output.append("pong");
+            case SHUTDOWN -> close();
+            default -> {
+                output.append("Unknown request: ").append(request[0]);
+                return 1;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * @param request
+     * @param length
+     */
+    private void checkArguments(String[] request, int length) {
+        if (request.length != length) {
+            throw new IllegalArgumentException(
+                    request[0] + " expects " + (length - 1) + " arguments but got " + (request.length - 1));
+        }
+    }
+
+    /**
+     * System.out is global, so programs run by the server are executed one
+     * at a time while their output is redirected into the response.
+     *
+     * @param action
+     * @return String
+     */
+    private String captureOutput(Runnable action) {
+        synchronized (OUTPUT_LOCK) {
+            PrintStream originalOut = System.out;
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            System.setOut(new PrintStream(buffer, true, StandardCharsets.UTF_8));
+            try {
+                action.run();
+            } finally {
+                System.setOut(originalOut);
+            }
+            return buffer.toString(StandardCharsets.UTF_8);
+        }
+    }
+}
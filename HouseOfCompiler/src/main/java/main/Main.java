@@ -1,23 +1,277 @@
 package main;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import common.AstCache;
+import common.AstMode;
 import common.Compiler;
+import common.CompilerFactory;
+import common.DfaCache;
+import common.ExecutionMode;
+import common.LexMode;
+import common.ParseMode;
+import common.StatsCollector;
+import common.jfr.CompilerRecording;
 
 public class Main {
 
+    // options of the local compiler, the server compiles with its own
+    private static final List<String> COMPILER_OPTIONS = List.of("-parallel", "-ll", "-direct", "-descent",
+            "-recover", "-scanner", "-incremental", "-streaming", "--stats", "--ast-cache", "--dfa-snapshot",
+            "-dfa-max-states");
+
     public static void main(String[] args) {
-        if (args.length == 0) {
-            System.out.println("Please provide a fileName to compile");
+        CompilerFactory compiler = Compiler.getFactory();
+        boolean server = false;
+        boolean connect = false;
+        int port = CompileServer.DEFAULT_PORT;
+        StatsCollector stats = null;
+        String statsFile = null;
+        String jfrFile = null;
+        String dfaSnapshot = null;
+
+        // strip options, the remaining arguments are handled positionally
+        ArrayList<String> arguments = new ArrayList<>();
+        ArrayList<String> compilerOptions = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if (isCompilerOption(args[i])) {
+                compilerOptions.add(args[i]);
+            }
+            if (args[i].equals("-parallel")) {
+                compiler.setSemanticMode(ExecutionMode.PARALLEL);
+                compiler.setCodegenMode(ExecutionMode.PARALLEL);
+            } else if (args[i].equals("-ll")) {
+                compiler.setParseMode(ParseMode.LL);
+            } else if (args[i].equals("-direct")) {
+                compiler.setAstMode(AstMode.DIRECT);
+            } else if (args[i].equals("-descent")) {
+                compiler.setAstMode(AstMode.RECURSIVE_DESCENT);
+            } else if (args[i].equals("-recover")) {
+                compiler.setAstMode(AstMode.RECOVERING);
+            } else if (args[i].equals("-scanner")) {
+                compiler.setLexMode(LexMode.SCANNER);
+            } else if (args[i].equals("-incremental")) {
+                compiler.setIncremental(true);
+            } else if (args[i].equals("-streaming")) {
+                compiler.setStreaming(true);
+            } else if (args[i].equals("-server")) {
+                server = true;
+            } else if (args[i].equals("-connect")) {
+                connect = true;
+            } else if (args[i].equals("--stats")) {
+                stats = new StatsCollector();
+            } else if (args[i].startsWith("--stats=")) {
+                stats = new StatsCollector();
+                statsFile = args[i].substring("--stats=".length());
+            } else if (args[i].equals("--jfr")) {
+                jfrFile = "houseofcompiler.jfr";
+            } else if (args[i].startsWith("--jfr=")) {
+                jfrFile = args[i].substring("--jfr=".length());
+            } else if (args[i].equals("--ast-cache")) {
+                compiler.setAstCache(new AstCache());
+            } else if (args[i].startsWith("--ast-cache=")) {
+                compiler.setAstCache(new AstCache(AstCache.DEFAULT_MAX_ENTRIES,
+                        Path.of(args[i].substring("--ast-cache=".length()))));
+            } else if (args[i].startsWith("--dfa-snapshot=")) {
+                dfaSnapshot = args[i].substring("--dfa-snapshot=".length());
+            } else if (args[i].equals("-dfa-max-states") && i + 1 < args.length) {
+                DfaCache.getShared().setMaxStates(Integer.parseInt(args[++i]));
+            } else if (args[i].equals("-port") && i + 1 < args.length) {
+                port = Integer.parseInt(args[++i]);
+            } else {
+                arguments.add(args[i]);
+            }
+        }
+        args = arguments.toArray(new String[0]);
+        if (connect && !compilerOptions.isEmpty()) {
+            System.err.println("-connect compiles with the options the server was started with, remove "
+                    + String.join(" ", compilerOptions));
+            System.exit(1);
+        }
+
+        if (dfaSnapshot != null) {
+            DfaCache.getShared().setRecording(true);
+            warmUp(Path.of(dfaSnapshot));
+        } else if (server) {
+            DfaCache.getShared().warmUp();
+        }
+
+        boolean success = true;
+        // a null recording is skipped by try-with-resources
+        try (CompilerRecording recording = jfrFile == null ? null : new CompilerRecording(Path.of(jfrFile))) {
+            if (server) {
+                serve(compiler, port);
+                return;
+            }
+            if (args.length == 0) {
+                System.out.println("Please provide a fileName to compile");
+                return;
+            }
+            if (stats != null) {
+                compiler.addCompileListener(stats);
+            }
+            if (args[0].equals("-batch")) {
+                if (args.length < 3) {
+                    System.out.println("Usage: -batch <outDir> <file|directory|glob>...");
+                    return;
+                }
+                success = batch(compiler, args[1], Arrays.asList(args).subList(2, args.length));
+            } else if (connect) {
+                delegate(new CompileClient(port), args);
+            } else if (args.length == 1 && args[0].endsWith(".class")) {
+                compiler.runCode(args[0]);
+            } else if (args.length == 1 && args[0].endsWith(".java")) {
+                compiler.compile(args[0], ".");
+            } else if (args.length == 3 && args[0].equals("-tast")) {
+                compiler.writeTast(args[1], args[2]);
+            } else if (args.length == 3 && args[0].equals("-generate")) {
+                compiler.generateTast(args[1], args[2]);
+            } else if (args.length == 2 && args[0].equals("-jar") && args[1].endsWith(".java")) {
+                compiler.generateJar(args[1], args[1].replaceAll(".java", ".jar"));
+            } else {
+                compiler.compile(args[0], args[1]);
+            }
+            if (stats != null) {
+                printStats(stats, statsFile);
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        if (dfaSnapshot != null) {
+            try {
+                DfaCache.getShared().saveSnapshot(Path.of(dfaSnapshot));
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+        if (!success) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * @param arg
+     * @return boolean true if the option configures the local compiler
+     */
+    private static boolean isCompilerOption(String arg) {
+        return COMPILER_OPTIONS.stream().anyMatch(option -> arg.equals(option) || arg.startsWith(option + "="));
+    }
+
+    /**
+     * Warms up the shared DfaCache from the snapshot or, as long as there is
+     * none yet, from the bundled corpus
+     *
+     * @param snapshot
+     */
+    private static void warmUp(Path snapshot) {
+        DfaCache dfaCache = DfaCache.getShared();
+        if (!Files.exists(snapshot)) {
+            dfaCache.warmUp();
             return;
         }
-        if (args.length == 1 && args[0].endsWith(".class")) {
-            Compiler.getFactory().runCode(args[0]);
-        } else if (args.length == 1 && args[0].endsWith(".java")) {
-            Compiler.getFactory().compile(args[0], ".");
-        } else if (args.length == 2 && args[0].equals("-jar") && args[1].endsWith(".java")) {
-            Compiler.getFactory().generateJar(args[1], args[1].replaceAll(".java", ".jar"));
-        } else {
-            Compiler.getFactory().compile(args[0], args[1]);
+        try {
+            dfaCache.warmUp(snapshot);
+        } catch (IOException e) {
+            System.err.println("Ignoring DFA snapshot " + snapshot + ": " + e.getMessage());
+            dfaCache.warmUp();
         }
     }
 
+    /**
+     * Prints the stats as a table or writes them as JSON into the file
+     *
+     * @param stats
+     * @param statsFile null prints the table
+     */
+    private static void printStats(StatsCollector stats, String statsFile) {
+        if (statsFile == null) {
+            System.out.print(stats.toTable());
+            System.out.println(DfaCache.getShared());
+            return;
+        }
+        try {
+            Files.writeString(Path.of(statsFile), stats.toJson());
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * @param compiler
+     * @param outDir
+     * @param inputs
+     * @return boolean true if every file compiled
+     */
+    private static boolean batch(CompilerFactory compiler, String outDir, List<String> inputs) {
+        var results = compiler.compileBatch(inputs, outDir);
+        results.forEach(System.out::println);
+        long failed = results.stream().filter(result -> !result.isSuccess()).count();
+        System.out.println((results.size() - failed) + " of " + results.size() + " files compiled, " + failed
+                + " failed");
+        return failed == 0;
+    }
+
+    /**
+     * @param compiler
+     * @param port
+     */
+    private static void serve(CompilerFactory compiler, int port) {
+        try {
+            CompileServer compileServer = new CompileServer(compiler, port);
+            System.out.println("Compile server listening on port " + compileServer.getPort() + ", token in "
+                    + compileServer.getTokenFile());
+            compileServer.serve();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Sends the same request the local compiler would handle to a running
+     * compile server. Paths are made absolute because the server has its own
+     * working directory.
+     *
+     * @param client
+     * @param args
+     */
+    private static void delegate(CompileClient client, String[] args) {
+        int exitCode;
+        try {
+            if (args.length == 1 && args[0].endsWith(".class")) {
+                exitCode = client.send(CompileServer.RUN, absolute(args[0]));
+            } else if (args.length == 1 && args[0].endsWith(".java")) {
+                exitCode = client.send(CompileServer.COMPILE, absolute(args[0]), absolute("."));
+            } else if (args.length == 3 && args[0].equals("-tast")) {
+                exitCode = client.send(CompileServer.TAST, absolute(args[1]), absolute(args[2]));
+            } else if (args.length == 3 && args[0].equals("-generate")) {
+                exitCode = client.send(CompileServer.GENERATE, absolute(args[1]), absolute(args[2]));
+            } else if (args.length == 2 && args[0].equals("-jar") && args[1].endsWith(".java")) {
+                exitCode = client.send(CompileServer.JAR, absolute(args[1]),
+                        absolute(args[1].replaceAll(".java", ".jar")));
+            } else {
+                exitCode = client.send(CompileServer.COMPILE, absolute(args[0]), absolute(args[1]));
+            }
+        } catch (IOException e) {
+            System.err.println("Compile server not reachable: " + e.getMessage());
+            exitCode = 1;
+        }
+        if (exitCode != 0) {
+            System.exit(exitCode);
+        }
+    }
+
+    /**
+     * @param path
+     * @return String
+     */
+    private static String absolute(String path) {
+        return new File(path).getAbsolutePath();
+    }
+
 }
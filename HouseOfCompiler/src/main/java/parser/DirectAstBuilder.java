@@ -0,0 +1,456 @@
+package parser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import org.antlr.v4.runtime.ANTLRErrorListener;
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
+import org.antlr.v4.runtime.tree.ErrorNode;
+import org.antlr.v4.runtime.tree.ParseTreeListener;
+import org.antlr.v4.runtime.tree.TerminalNode;
+
+import common.AccessModifier;
+import common.BaseType;
+import common.Operator;
+import common.Primitives;
+import common.PrintableVector;
+import common.Type;
+import parser.adapter.InstVarAdapter;
+import parser.adapter.NonCalcOperatorAdapter;
+import parser.adapter.TypeAdapter;
+import parser.adapter.ValueAdapter;
+import parser.generated.JavaSubsetParser;
+import syntaxtree.expressions.Binary;
+import syntaxtree.expressions.IExpression;
+import syntaxtree.expressions.IntegerExpr;
+import syntaxtree.expressions.LocalOrFieldVar;
+import syntaxtree.expressions.This;
+import syntaxtree.expressions.Unary;
+import syntaxtree.statementexpression.Assign;
+import syntaxtree.statementexpression.CrementStmtExpr;
+import syntaxtree.statementexpression.IStatementExpression;
+import syntaxtree.statementexpression.MethodCall;
+import syntaxtree.statementexpression.NewDecl;
+import syntaxtree.statements.Block;
+import syntaxtree.statements.ForStmt;
+import syntaxtree.statements.IStatement;
+import syntaxtree.statements.IfStmt;
+import syntaxtree.statements.LocalVarDecl;
+import syntaxtree.statements.ReturnStmt;
+import syntaxtree.statements.WhileStmt;
+import syntaxtree.structure.ClassDecl;
+import syntaxtree.structure.ConstructorDecl;
+import syntaxtree.structure.FieldDecl;
+import syntaxtree.structure.MainMethodDecl;
+import syntaxtree.structure.MethodDecl;
+import syntaxtree.structure.MethodParameter;
+import syntaxtree.structure.Program;
+
+/**
+ * Builds the syntaxtree while the parser runs instead of adapting a finished
+ * parse tree. The parser doesn't build a parse tree, so a rule context only
+ * holds its own tokens and is garbage as soon as the rule is left. Every rule
+ * leaves exactly one value on a stack, the exit of a rule replaces the values
+ * of its subrules with the node the adapters in parser.adapter would build
+ * for it.
+ *
+ * Rules left by a syntax error are ignored, the error itself is reported by
+ * the parser as usual.
+ */
+public class DirectAstBuilder extends BaseErrorListener implements ParseTreeListener {
+
+    private final ArrayList<Object> values = new ArrayList<>();
+    private int[] marks = new int[32];
+    private int depth = 0;
+    private boolean aborted = false;
+
+    /**
+     * Turns off the parse tree of the parser and listens to its rules and to
+     * the syntax errors of the parser and its lexer
+     *
+     * @param parser
+     */
+    public void attach(JavaSubsetParser parser) {
+        parser.setBuildParseTree(false);
+        parser.addParseListener(this);
+        addFirst(parser, this);
+        if (parser.getTokenStream().getTokenSource() instanceof Lexer lexer) {
+            addFirst(lexer, this);
+        }
+    }
+
+    /**
+     * The builder has to see an error before a throwing listener unwinds the
+     * parser
+     *
+     * @param recognizer
+     * @param listener
+     */
+    private static void addFirst(Recognizer<?, ?> recognizer, ANTLRErrorListener listener) {
+        List<? extends ANTLRErrorListener> listeners = new ArrayList<>(recognizer.getErrorListeners());
+        recognizer.removeErrorListeners();
+        recognizer.addErrorListener(listener);
+        listeners.forEach(recognizer::addErrorListener);
+    }
+
+    /**
+     * @return Program of the last program() call
+     */
+    public Program getProgram() {
+        return (Program) getResult();
+    }
+
+    /**
+     * @return ClassDecl of the last classdecl() call
+     */
+    public ClassDecl getClassDecl() {
+        return (ClassDecl) getResult();
+    }
+
+    /**
+     * @return Object
+     */
+    private Object getResult() {
+        if (aborted || depth != 0 || values.size() != 1) {
+            throw new IllegalStateException("The parser didn't finish the entry rule");
+        }
+        return values.get(0);
+    }
+
+    @Override
+    public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line, int charPositionInLine,
+            String msg, RecognitionException e) {
+        aborted = true;
+    }
+
+    @Override
+    public void enterEveryRule(ParserRuleContext ctx) {
+        // a new entry rule, e.g. the full LL parse after SLL bailed out
+        if (ctx.parent == null) {
+            values.clear();
+            depth = 0;
+            aborted = false;
+        }
+        if (depth == marks.length) {
+            marks = Arrays.copyOf(marks, depth * 2);
+        }
+        marks[depth++] = values.size();
+    }
+
+    @Override
+    public void exitEveryRule(ParserRuleContext ctx) {
+        int mark = marks[--depth];
+        if (aborted || ctx.exception != null) {
+            aborted = true;
+            return;
+        }
+        // the left operand of a left recursive rule was left before this rule was entered
+        if (ctx instanceof JavaSubsetParser.CalcExprContext calcExpr && calcExpr.LineOperator() != null
+                || ctx instanceof JavaSubsetParser.DotExprContext dotExpr && dotExpr.DotOperator() != null) {
+            mark--;
+        }
+        List<Object> children = values.subList(mark, values.size());
+        Object value = build(ctx, children);
+        children.clear();
+        values.add(value);
+    }
+
+    @Override
+    public void visitTerminal(TerminalNode node) {
+    }
+
+    @Override
+    public void visitErrorNode(ErrorNode node) {
+    }
+
+    /**
+     * @param ctx
+     * @param children values of the subrules
+     * @return Object
+     */
+    private static Object build(ParserRuleContext ctx, List<Object> children) {
+        int line = ctx.start.getLine();
+        int column = ctx.start.getCharPositionInLine();
+        switch (ctx.getRuleIndex()) {
+            case JavaSubsetParser.RULE_program: {
+                PrintableVector<ClassDecl> classes = new PrintableVector<>();
+                children.forEach(child -> classes.add((ClassDecl) child));
+                return new Program(classes);
+            }
+            case JavaSubsetParser.RULE_classdecl:
+                return buildClass((JavaSubsetParser.ClassdeclContext) ctx, children);
+            case JavaSubsetParser.RULE_constuctorDecl: {
+                var constructor = (JavaSubsetParser.ConstuctorDeclContext) ctx;
+                PrintableVector<MethodParameter> parameters = children.size() > 1 ? get(children, 0)
+                        : new PrintableVector<>();
+                return new ConstructorDecl(
+                        AccessModifier.valueOf(constructor.AccessModifier().getText().toUpperCase(Locale.ROOT)),
+                        parameters, get(children, children.size() - 1), line, column);
+            }
+            case JavaSubsetParser.RULE_methodDecl:
+                return buildMethod((JavaSubsetParser.MethodDeclContext) ctx, children);
+            case JavaSubsetParser.RULE_fieldDecl: {
+                var field = (JavaSubsetParser.FieldDeclContext) ctx;
+                return new FieldDecl(accessModifier(field.AccessModifier()), get(children, 0),
+                        field.Identifier().getText(), line, column);
+            }
+            case JavaSubsetParser.RULE_parameterList: {
+                PrintableVector<MethodParameter> parameters = new PrintableVector<>();
+                children.forEach(child -> parameters.add((MethodParameter) child));
+                return parameters;
+            }
+            case JavaSubsetParser.RULE_parameter:
+                return new MethodParameter(get(children, 0),
+                        ((JavaSubsetParser.ParameterContext) ctx).Identifier().getText(), line, column);
+            case JavaSubsetParser.RULE_argumentList: {
+                PrintableVector<IExpression> arguments = new PrintableVector<>();
+                children.forEach(child -> arguments.add((IExpression) child));
+                return arguments;
+            }
+            case JavaSubsetParser.RULE_subExpression: {
+                if (!children.isEmpty()) {
+                    return children.get(0);
+                }
+                var subExpression = (JavaSubsetParser.SubExpressionContext) ctx;
+                if (subExpression.Identifier() != null) {
+                    return new LocalOrFieldVar(subExpression.Identifier().getText(), line, column);
+                }
+                return new This();
+            }
+            case JavaSubsetParser.RULE_methodCall:
+                return buildMethodCall((JavaSubsetParser.MethodCallContext) ctx, children);
+            case JavaSubsetParser.RULE_notExpr:
+                return new Unary(get(children, 0), Operator.NOT, line, column);
+            case JavaSubsetParser.RULE_preIncExpr:
+                return new CrementStmtExpr(get(children, 0), Operator.INCPRE, line, column);
+            case JavaSubsetParser.RULE_sufIncExpr:
+                return new CrementStmtExpr(get(children, 0), Operator.INCSUF, line, column);
+            case JavaSubsetParser.RULE_preDecExpr:
+                return new CrementStmtExpr(get(children, 0), Operator.DECPRE, line, column);
+            case JavaSubsetParser.RULE_sufDecExpr:
+                return new CrementStmtExpr(get(children, 0), Operator.DECSUF, line, column);
+            case JavaSubsetParser.RULE_assignableExpr:
+                if (children.isEmpty()) {
+                    return new LocalOrFieldVar(((JavaSubsetParser.AssignableExprContext) ctx).Identifier().getText());
+                }
+                return children.get(0);
+            case JavaSubsetParser.RULE_instVar:
+                return InstVarAdapter.adapt((JavaSubsetParser.InstVarContext) ctx);
+            case JavaSubsetParser.RULE_binaryExpr:
+                return (Binary) children.get(0);
+            case JavaSubsetParser.RULE_calcExpr: {
+                var calcExpr = (JavaSubsetParser.CalcExprContext) ctx;
+                if (calcExpr.LineOperator() == null) {
+                    return children.get(0);
+                }
+                Operator operator = calcExpr.LineOperator().getText().equals("+") ? Operator.PLUS : Operator.MINUS;
+                return new Binary(get(children, 0), operator, get(children, 1));
+            }
+            case JavaSubsetParser.RULE_dotExpr: {
+                var dotExpr = (JavaSubsetParser.DotExprContext) ctx;
+                if (dotExpr.DotOperator() == null) {
+                    return children.get(0);
+                }
+                Operator operator = switch (dotExpr.DotOperator().getText()) {
+                    case "*" -> Operator.MULT;
+                    case "/" -> Operator.DIV;
+                    default -> Operator.MOD;
+                };
+                return new Binary(get(children, 0), operator, get(children, 1));
+            }
+            case JavaSubsetParser.RULE_dotSubExpr: {
+                var dotSubExpr = (JavaSubsetParser.DotSubExprContext) ctx;
+                if (dotSubExpr.IntValue() != null) {
+                    return new IntegerExpr(Integer.parseInt(dotSubExpr.IntValue().getText()));
+                } else if (dotSubExpr.Identifier() != null) {
+                    return new LocalOrFieldVar(dotSubExpr.Identifier().getText());
+                }
+                return children.get(0);
+            }
+            case JavaSubsetParser.RULE_nonCalcExpr:
+                return new Binary(get(children, 0), get(children, 2), get(children, 1), line, column);
+            case JavaSubsetParser.RULE_nonCalcOperator:
+                return NonCalcOperatorAdapter.adapt((JavaSubsetParser.NonCalcOperatorContext) ctx);
+            case JavaSubsetParser.RULE_returnStmt:
+                if (children.isEmpty()) {
+                    return new ReturnStmt(line, column);
+                }
+                return new ReturnStmt(get(children, 0), line, column);
+            case JavaSubsetParser.RULE_localVarDecl: {
+                String identifier = ((JavaSubsetParser.LocalVarDeclContext) ctx).Identifier().getText();
+                LocalVarDecl localVarDecl = children.size() > 1
+                        ? new LocalVarDecl(identifier, get(children, 1), line, column)
+                        : new LocalVarDecl(identifier, line, column);
+                localVarDecl.setType(get(children, 0));
+                return localVarDecl;
+            }
+            case JavaSubsetParser.RULE_block: {
+                if (children.isEmpty()) {
+                    return new Block(line, column);
+                }
+                PrintableVector<IStatement> statements = new PrintableVector<>();
+                children.forEach(child -> statements.add((IStatement) child));
+                return new Block(statements, line, column);
+            }
+            case JavaSubsetParser.RULE_whileStmt:
+                return new WhileStmt(get(children, 0), get(children, 1), line, column);
+            case JavaSubsetParser.RULE_forStmt:
+                return new ForStmt(get(children, 0), (IExpression) get(children, 1),
+                        (IStatementExpression) get(children, 2), get(children, 3), line, column);
+            case JavaSubsetParser.RULE_ifElseStmt: {
+                IfBranch branch = get(children, 0);
+                if (children.size() > 1) {
+                    return new IfStmt(branch.condition, branch.statement, get(children, 1), line, column);
+                }
+                return new IfStmt(branch.condition, branch.statement, line, column);
+            }
+            case JavaSubsetParser.RULE_ifStmt:
+                return new IfBranch(get(children, 0), get(children, 1));
+            case JavaSubsetParser.RULE_assign:
+                return new Assign(get(children, 0), get(children, 1), line, column);
+            case JavaSubsetParser.RULE_newDecl:
+                return new NewDecl(((JavaSubsetParser.NewDeclContext) ctx).Identifier().getText(), get(children, 0),
+                        line, column);
+            case JavaSubsetParser.RULE_receiver: {
+                if (!children.isEmpty()) {
+                    return children.get(0);
+                }
+                var receiver = (JavaSubsetParser.ReceiverContext) ctx;
+                if (receiver.Identifier() != null) {
+                    return new LocalOrFieldVar(receiver.Identifier().getText());
+                }
+                return new This();
+            }
+            case JavaSubsetParser.RULE_receivingMethod:
+                return new ReceivingMethod(((JavaSubsetParser.ReceivingMethodContext) ctx).Identifier().getText(),
+                        get(children, 0), line, column);
+            case JavaSubsetParser.RULE_type:
+                return TypeAdapter.adapt((JavaSubsetParser.TypeContext) ctx);
+            case JavaSubsetParser.RULE_value:
+                return ValueAdapter.adapt((JavaSubsetParser.ValueContext) ctx);
+            default:
+                // expression, statement, stmtExpr, crementExpr, incExpr, decExpr and elseStmt pass their only
+                // subrule through
+                return children.get(0);
+        }
+    }
+
+    /**
+     * @param ctx
+     * @param children constructors, fields and methods in source order
+     * @return ClassDecl
+     */
+    private static ClassDecl buildClass(JavaSubsetParser.ClassdeclContext ctx, List<Object> children) {
+        PrintableVector<ConstructorDecl> constructorDecls = new PrintableVector<>();
+        PrintableVector<FieldDecl> fieldDecls = new PrintableVector<>();
+        PrintableVector<MethodDecl> methodDecls = new PrintableVector<>();
+        for (Object child : children) {
+            if (child instanceof ConstructorDecl constructor) {
+                constructorDecls.add(constructor);
+            } else if (child instanceof FieldDecl field) {
+                fieldDecls.add(field);
+            } else {
+                methodDecls.add((MethodDecl) child);
+            }
+        }
+        if (constructorDecls.isEmpty()) {
+            constructorDecls.add(new ConstructorDecl());
+        }
+        return new ClassDecl(ctx.Identifier().getText(), fieldDecls, constructorDecls, methodDecls);
+    }
+
+    /**
+     * @param ctx
+     * @param children type (unless void), parameters (if any) and block
+     * @return MethodDecl
+     */
+    private static MethodDecl buildMethod(JavaSubsetParser.MethodDeclContext ctx, List<Object> children) {
+        Block block = get(children, children.size() - 1);
+        if (ctx.MainMethodDecl() != null) {
+            return new MainMethodDecl(block);
+        }
+        int index = 0;
+        Type type = BaseType.of(Primitives.VOID);
+        if (ctx.Void() == null) {
+            type = get(children, index++);
+        }
+        PrintableVector<MethodParameter> parameters = index < children.size() - 1 ? get(children, index)
+                : new PrintableVector<>();
+        return new MethodDecl(accessModifier(ctx.AccessModifier()), type, ctx.Identifier().getText(), parameters,
+                block, ctx.start.getLine(), ctx.start.getCharPositionInLine());
+    }
+
+    /**
+     * @param ctx
+     * @param children receiver (if any), the receiving methods and the
+     *                 arguments
+     * @return MethodCall
+     */
+    private static MethodCall buildMethodCall(JavaSubsetParser.MethodCallContext ctx, List<Object> children) {
+        IExpression receiver = new This();
+        int index = 0;
+        if (children.get(0) instanceof IExpression explicit) {
+            receiver = explicit;
+            index++;
+        }
+        // A.b().c() calls c on the result of b
+        for (; index < children.size() - 1; index++) {
+            ReceivingMethod method = get(children, index);
+            receiver = new MethodCall(method.identifier, receiver, method.arguments, method.line, method.column);
+        }
+        return new MethodCall(ctx.Identifier().getText(), receiver, get(children, children.size() - 1),
+                ctx.start.getLine(), ctx.start.getCharPositionInLine());
+    }
+
+    /**
+     * @param accessModifier
+     * @return AccessModifier
+     */
+    private static AccessModifier accessModifier(TerminalNode accessModifier) {
+        if (accessModifier == null) {
+            return AccessModifier.PACKAGE_PRIVATE;
+        }
+        return AccessModifier.valueOf(accessModifier.getText().toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * @param <T>
+     * @param children
+     * @param index
+     * @return T
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T get(List<Object> children, int index) {
+        return (T) children.get(index);
+    }
+
+    private static class IfBranch {
+        private final IExpression condition;
+        private final IStatement statement;
+
+        IfBranch(IExpression condition, IStatement statement) {
+            this.condition = condition;
+            this.statement = statement;
+        }
+    }
+
+    private static class ReceivingMethod {
+        private final String identifier;
+        private final PrintableVector<IExpression> arguments;
+        private final int line;
+        private final int column;
+
+        ReceivingMethod(String identifier, PrintableVector<IExpression> arguments, int line, int column) {
+            this.identifier = identifier;
+            this.arguments = arguments;
+            this.line = line;
+            this.column = column;
+        }
+    }
+}
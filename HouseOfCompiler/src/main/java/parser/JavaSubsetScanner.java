@@ -0,0 +1,347 @@
+package parser;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.LexerNoViableAltException;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.Vocabulary;
+import org.antlr.v4.runtime.atn.ATN;
+
+import parser.generated.JavaSubsetLexer;
+
+/**
+ * Hand written replacement for the generated JavaSubsetLexer. It produces the
+ * same token types, positions and syntax errors, but decides every token from
+ * its first one or two characters instead of simulating the lexer ATN. The
+ * longest match rules of the grammar are kept, e.g. "-1" is an IntValue,
+ * "publicX" an Identifier and a string literal ends at the last '"' of its
+ * line.
+ */
+public class JavaSubsetScanner extends Lexer {
+
+    private static final String MAIN = "public static void main(String[] args)";
+    private static final String[] KEYWORDS = { "true", "false", "null", "public", "private", "protected", "void",
+            "boolean", "char", "int", "class", "this", "while", "if", "else", "for", "return", "new" };
+    private static final int[] KEYWORD_TYPES = { JavaSubsetLexer.BooleanValue, JavaSubsetLexer.BooleanValue,
+            JavaSubsetLexer.NullValue, JavaSubsetLexer.AccessModifier, JavaSubsetLexer.AccessModifier,
+            JavaSubsetLexer.AccessModifier, JavaSubsetLexer.Void, JavaSubsetLexer.Boolean, JavaSubsetLexer.Char,
+            JavaSubsetLexer.Int, JavaSubsetLexer.Class, JavaSubsetLexer.This, JavaSubsetLexer.While,
+            JavaSubsetLexer.If, JavaSubsetLexer.Else, JavaSubsetLexer.For, JavaSubsetLexer.Return,
+            JavaSubsetLexer.New };
+
+    // token type of the characters that always form a token on their own
+    private static final int[] SINGLE = new int[128];
+    // characters that may continue an Identifier
+    private static final boolean[] IDENTIFIER_PART = new boolean[128];
+
+    static {
+        SINGLE['*'] = JavaSubsetLexer.DotOperator;
+        SINGLE['%'] = JavaSubsetLexer.DotOperator;
+        SINGLE['.'] = JavaSubsetLexer.Dot;
+        SINGLE['('] = JavaSubsetLexer.OpenRoundBracket;
+        SINGLE[')'] = JavaSubsetLexer.ClosedRoundBracket;
+        SINGLE['{'] = JavaSubsetLexer.OpenCurlyBracket;
+        SINGLE['}'] = JavaSubsetLexer.ClosedCurlyBracket;
+        SINGLE[';'] = JavaSubsetLexer.Semicolon;
+        SINGLE[','] = JavaSubsetLexer.Comma;
+        for (int c = 0; c < 128; c++) {
+            IDENTIFIER_PART[c] = isLetter(c) || isDigit(c) || c == '$' || c == '_';
+        }
+    }
+
+    private int line = 1;
+    private int column = 0;
+    // length of the last match, or the offset of the failing character
+    private int length;
+
+    public JavaSubsetScanner(CharStream input) {
+        super(input);
+    }
+
+    @Override
+    public Token nextToken() {
+        while (true) {
+            _tokenStartCharIndex = _input.index();
+            _tokenStartLine = line;
+            _tokenStartCharPositionInLine = column;
+            if (_input.LA(1) == CharStream.EOF) {
+                _hitEOF = true;
+                return _factory.create(_tokenFactorySourcePair, Token.EOF, null, Token.DEFAULT_CHANNEL,
+                        _input.index(), _input.index() - 1, line, column);
+            }
+            int type = match(_input.LA(1));
+            consume(length);
+            if (type == Token.INVALID_TYPE) {
+                // report the error like the generated lexer, then drop the failing character
+                notifyListeners(new LexerNoViableAltException(this, _input, _tokenStartCharIndex, null));
+                if (_input.LA(1) != CharStream.EOF) {
+                    consume(1);
+                }
+            } else if (type != SKIP) {
+                return _factory.create(_tokenFactorySourcePair, type, null, Token.DEFAULT_CHANNEL,
+                        _tokenStartCharIndex, _input.index() - 1, _tokenStartLine, _tokenStartCharPositionInLine);
+            }
+        }
+    }
+
+    /**
+     * Sets length to the length of the token starting with c
+     *
+     * @param c first character
+     * @return int token type, SKIP for white space and comments or
+     *         INVALID_TYPE if no token matches
+     */
+    private int match(int c) {
+        length = 1;
+        if (c < 128 && SINGLE[c] != 0) {
+            return SINGLE[c];
+        }
+        switch (c) {
+            case ' ', '\t', '\r', '\n':
+                while (isWhitespace(_input.LA(length + 1))) {
+                    length++;
+                }
+                return SKIP;
+            case '-':
+                if (_input.LA(2) == '-') {
+                    length = 2;
+                    return JavaSubsetLexer.T__1;
+                } else if (isDigit(_input.LA(2))) {
+                    length = digits(2);
+                    return JavaSubsetLexer.IntValue;
+                }
+                return JavaSubsetLexer.LineOperator;
+            case '+':
+                if (_input.LA(2) == '+') {
+                    length = 2;
+                    return JavaSubsetLexer.T__0;
+                }
+                return JavaSubsetLexer.LineOperator;
+            case '/':
+                return matchSlash();
+            case '<', '>':
+                return matchEqual(JavaSubsetLexer.ComparisonOperator);
+            case '=':
+                return matchEqual(JavaSubsetLexer.Assign);
+            case '!':
+                return matchEqual(JavaSubsetLexer.Not);
+            case '&', '|':
+                if (_input.LA(2) != c) {
+                    return Token.INVALID_TYPE;
+                }
+                length = 2;
+                return JavaSubsetLexer.LogicalOpertor;
+            case '\'':
+                return matchCharValue();
+            case '"':
+                return matchStringValue();
+            default:
+                if (isDigit(c)) {
+                    length = digits(1);
+                    return JavaSubsetLexer.IntValue;
+                } else if (isLetter(c)) {
+                    return matchWord();
+                }
+                length = 0;
+                return Token.INVALID_TYPE;
+        }
+    }
+
+    /**
+     * @param single token type of the character without a following '='
+     * @return int
+     */
+    private int matchEqual(int single) {
+        if (_input.LA(2) == '=') {
+            length = 2;
+            return JavaSubsetLexer.ComparisonOperator;
+        }
+        return single;
+    }
+
+    /**
+     * Comments or a division
+     *
+     * @return int
+     */
+    private int matchSlash() {
+        if (_input.LA(2) == '/') {
+            length = 2;
+            while (!isLineEnd(_input.LA(length + 1))) {
+                length++;
+            }
+            return SKIP;
+        } else if (_input.LA(2) == '*') {
+            for (int i = 3; _input.LA(i) != CharStream.EOF; i++) {
+                if (_input.LA(i) == '*' && _input.LA(i + 1) == '/') {
+                    length = i + 1;
+                    return SKIP;
+                }
+            }
+            // an unterminated comment falls back to the operator
+        }
+        return JavaSubsetLexer.DotOperator;
+    }
+
+    /**
+     * '\'' ~[\r\n]? '\''
+     *
+     * @return int
+     */
+    private int matchCharValue() {
+        int content = _input.LA(2);
+        if (isLineEnd(content)) {
+            return Token.INVALID_TYPE;
+        } else if (_input.LA(3) == '\'') {
+            length = 3;
+            return JavaSubsetLexer.CharValue;
+        } else if (content == '\'') {
+            length = 2;
+            return JavaSubsetLexer.CharValue;
+        }
+        length = 2;
+        return Token.INVALID_TYPE;
+    }
+
+    /**
+     * '"' ~[\r\n]* '"', ending at the last quote of the line
+     *
+     * @return int
+     */
+    private int matchStringValue() {
+        int lastQuote = 0;
+        int i = 2;
+        for (; !isLineEnd(_input.LA(i)); i++) {
+            if (_input.LA(i) == '"') {
+                lastQuote = i;
+            }
+        }
+        if (lastQuote == 0) {
+            length = i - 1;
+            return Token.INVALID_TYPE;
+        }
+        length = lastQuote;
+        return JavaSubsetLexer.StringValue;
+    }
+
+    /**
+     * Keywords, the main method declaration and identifiers
+     *
+     * @return int
+     */
+    private int matchWord() {
+        while (isIdentifierPart(_input.LA(length + 1))) {
+            length++;
+        }
+        if (length == 6 && lookingAt(MAIN)) {
+            length = MAIN.length();
+            return JavaSubsetLexer.MainMethodDecl;
+        }
+        for (int k = 0; k < KEYWORDS.length; k++) {
+            if (KEYWORDS[k].length() == length && lookingAt(KEYWORDS[k])) {
+                return KEYWORD_TYPES[k];
+            }
+        }
+        return JavaSubsetLexer.Identifier;
+    }
+
+    /**
+     * @param text
+     * @return boolean whether the input continues with text
+     */
+    private boolean lookingAt(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (_input.LA(i + 1) != text.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param from offset of the first digit
+     * @return int offset of the last digit
+     */
+    private int digits(int from) {
+        int to = from;
+        while (isDigit(_input.LA(to + 1))) {
+            to++;
+        }
+        return to;
+    }
+
+    /**
+     * @param count characters to consume, keeping line and column up to date
+     */
+    private void consume(int count) {
+        for (int i = 0; i < count; i++) {
+            if (_input.LA(1) == '\n') {
+                line++;
+                column = 0;
+            } else {
+                column++;
+            }
+            _input.consume();
+        }
+    }
+
+    private static boolean isLetter(int c) {
+        return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z';
+    }
+
+    private static boolean isDigit(int c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isIdentifierPart(int c) {
+        return c >= 0 && c < 128 && IDENTIFIER_PART[c];
+    }
+
+    private static boolean isWhitespace(int c) {
+        return c == ' ' || c == '\t' || c == '\r' || c == '\n';
+    }
+
+    private static boolean isLineEnd(int c) {
+        return c == '\r' || c == '\n' || c == CharStream.EOF;
+    }
+
+    @Override
+    public void reset() {
+        if (_input != null) {
+            _input.seek(0);
+        }
+        line = 1;
+        column = 0;
+        _hitEOF = false;
+    }
+
+    @Override
+    public int getLine() {
+        return line;
+    }
+
+    @Override
+    public int getCharPositionInLine() {
+        return column;
+    }
+
+    @Override
+    public String[] getRuleNames() {
+        return JavaSubsetLexer.ruleNames;
+    }
+
+    @Override
+    public String getGrammarFileName() {
+        return "JavaSubset.g4";
+    }
+
+    @Override
+    public Vocabulary getVocabulary() {
+        return JavaSubsetLexer.VOCABULARY;
+    }
+
+    @Override
+    public ATN getATN() {
+        return JavaSubsetLexer._ATN;
+    }
+}
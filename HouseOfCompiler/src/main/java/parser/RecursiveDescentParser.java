@@ -0,0 +1,860 @@
+package parser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.antlr.v4.runtime.ANTLRErrorListener;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+
+import common.AccessModifier;
+import common.BaseType;
+import common.Operator;
+import common.Primitives;
+import common.PrintableVector;
+import common.ReferenceType;
+import common.ThrowingErrorListener;
+import common.Type;
+import parser.adapter.NonCalcOperatorAdapter;
+import parser.adapter.ValueAdapter;
+import parser.generated.JavaSubsetLexer;
+import syntaxtree.expressions.Binary;
+import syntaxtree.expressions.IExpression;
+import syntaxtree.expressions.InstVar;
+import syntaxtree.expressions.IntegerExpr;
+import syntaxtree.expressions.LocalOrFieldVar;
+import syntaxtree.expressions.This;
+import syntaxtree.expressions.Unary;
+import syntaxtree.statementexpression.Assign;
+import syntaxtree.statementexpression.CrementStmtExpr;
+import syntaxtree.statementexpression.IStatementExpression;
+import syntaxtree.statementexpression.MethodCall;
+import syntaxtree.statementexpression.NewDecl;
+import syntaxtree.statements.Block;
+import syntaxtree.statements.ForStmt;
+import syntaxtree.statements.IStatement;
+import syntaxtree.statements.IfStmt;
+import syntaxtree.statements.LocalVarDecl;
+import syntaxtree.statements.ReturnStmt;
+import syntaxtree.statements.WhileStmt;
+import syntaxtree.structure.ClassDecl;
+import syntaxtree.structure.ConstructorDecl;
+import syntaxtree.structure.FieldDecl;
+import syntaxtree.structure.MainMethodDecl;
+import syntaxtree.structure.MethodDecl;
+import syntaxtree.structure.MethodParameter;
+import syntaxtree.structure.Program;
+
+/**
+ * Hand written parser for the grammar in parser/grammar/JavaSubset.g4 that
+ * builds the syntaxtree straight from the tokens, with the same nodes and
+ * positions the adapters build from the ANTLR parse tree. Most decisions need
+ * one or two tokens of lookahead. The remaining ones are resolved like the
+ * ANTLR parser resolves them:
+ * <ul>
+ * <li>dotted chains of this, new, identifiers and calls are read as a whole
+ * and then classified as variable, instVar or methodCall</li>
+ * <li>an expression followed by a '+', '-', '*', '/' or '%' is read again as
+ * calcExpr, whose operands are restricted to dotSubExpr</li>
+ * </ul>
+ * Syntax errors are reported to an ANTLRErrorListener. With the
+ * ThrowingErrorListener the parser stops at the first error. With a listener
+ * that doesn't throw, the parser skips to the next statement or member after
+ * an error and goes on, so every error of the file is reported and the
+ * returned Program holds everything that did parse. Methods and constructors
+ * with skipped code and classes that lost a member are marked as broken.
+ */
+public class RecursiveDescentParser {
+
+    private final List<Token> tokens;
+    private final ANTLRErrorListener errorListener;
+    private int position = 0;
+
+    // what the last chain() call has read
+    private enum Chain {
+        THIS, NEW, IDENTIFIER, INST_VAR, METHOD_CALL
+    }
+
+    private Chain chain;
+
+    // whether a syntax error was skipped inside the current method or constructor
+    private boolean memberBroken;
+
+    private RecursiveDescentParser(List<Token> tokens, ANTLRErrorListener errorListener) {
+        this.tokens = tokens;
+        this.errorListener = errorListener;
+    }
+
+    /**
+     * @param tokenSource lexer reporting its errors through the
+     *                    ThrowingErrorListener
+     * @return Program
+     * @throws ParseCancellationException on syntax errors
+     */
+    public static Program parse(TokenSource tokenSource) {
+        return parse(tokenSource, ThrowingErrorListener.INSTANCE);
+    }
+
+    /**
+     * @param tokenSource   lexer reporting its errors to the same listener
+     * @param errorListener receives every syntax error
+     * @return Program with the classes, members and statements that could be
+     *         parsed
+     */
+    public static Program parse(TokenSource tokenSource, ANTLRErrorListener errorListener) {
+        ArrayList<Token> tokens = new ArrayList<>();
+        Token token;
+        do {
+            token = tokenSource.nextToken();
+            tokens.add(token);
+        } while (token.getType() != Token.EOF);
+        return new RecursiveDescentParser(tokens, errorListener).program();
+    }
+
+    /**
+     * classdecl+, like the grammar without a trailing EOF
+     *
+     * @return Program
+     */
+    private Program program() {
+        PrintableVector<ClassDecl> classes = new PrintableVector<>();
+        do {
+            try {
+                classes.add(classDecl());
+            } catch (RecognitionFailure failure) {
+                report(failure);
+                while (!at(JavaSubsetLexer.Class) && !at(Token.EOF)) {
+                    next();
+                }
+            }
+        } while (at(JavaSubsetLexer.Class));
+        return new Program(classes);
+    }
+
+    /**
+     * 'class' Identifier { (constuctorDecl | fieldDecl | methodDecl)* }
+     *
+     * @return ClassDecl
+     */
+    private ClassDecl classDecl() {
+        expect(JavaSubsetLexer.Class);
+        String identifier = expect(JavaSubsetLexer.Identifier).getText();
+        expect(JavaSubsetLexer.OpenCurlyBracket);
+        PrintableVector<FieldDecl> fieldDecls = new PrintableVector<>();
+        PrintableVector<ConstructorDecl> constructorDecls = new PrintableVector<>();
+        PrintableVector<MethodDecl> methodDecls = new PrintableVector<>();
+        // a member that failed before its body is lost, so the class is incomplete
+        boolean broken = false;
+        while (!at(JavaSubsetLexer.ClosedCurlyBracket) && !at(Token.EOF)) {
+            try {
+                member(fieldDecls, constructorDecls, methodDecls);
+            } catch (RecognitionFailure failure) {
+                report(failure);
+                skip(failure);
+                broken = true;
+            }
+        }
+        try {
+            expect(JavaSubsetLexer.ClosedCurlyBracket);
+        } catch (RecognitionFailure failure) {
+            // keep the members of an unterminated class
+            report(failure);
+            broken = true;
+        }
+        if (constructorDecls.isEmpty()) {
+            constructorDecls.add(new ConstructorDecl());
+        }
+        ClassDecl classDecl = new ClassDecl(identifier, fieldDecls, constructorDecls, methodDecls);
+        classDecl.setBroken(broken);
+        return classDecl;
+    }
+
+    /**
+     * @param fieldDecls
+     * @param constructorDecls
+     * @param methodDecls
+     */
+    private void member(PrintableVector<FieldDecl> fieldDecls, PrintableVector<ConstructorDecl> constructorDecls,
+            PrintableVector<MethodDecl> methodDecls) {
+        Token start = token(0);
+        memberBroken = false;
+        if (at(JavaSubsetLexer.MainMethodDecl)) {
+            next();
+            MethodDecl main = new MainMethodDecl(body());
+            main.setBroken(memberBroken);
+            methodDecls.add(main);
+            return;
+        }
+        AccessModifier accessModifier = AccessModifier.PACKAGE_PRIVATE;
+        if (at(JavaSubsetLexer.AccessModifier)) {
+            accessModifier = AccessModifier.valueOf(next().getText().toUpperCase(Locale.ROOT));
+        }
+
+        if (at(JavaSubsetLexer.Identifier) && peek(1) == JavaSubsetLexer.OpenRoundBracket) {
+            next();
+            PrintableVector<MethodParameter> parameters = parameters();
+            ConstructorDecl constructorDecl = new ConstructorDecl(accessModifier, parameters, body(),
+                    start.getLine(), start.getCharPositionInLine());
+            constructorDecl.setBroken(memberBroken);
+            constructorDecls.add(constructorDecl);
+            return;
+        }
+
+        boolean isVoid = accept(JavaSubsetLexer.Void);
+        Type type = isVoid ? BaseType.of(Primitives.VOID) : type();
+        String identifier = expect(JavaSubsetLexer.Identifier).getText();
+        if (isVoid || at(JavaSubsetLexer.OpenRoundBracket)) {
+            PrintableVector<MethodParameter> parameters = parameters();
+            MethodDecl methodDecl = new MethodDecl(accessModifier, type, identifier, parameters, body(),
+                    start.getLine(), start.getCharPositionInLine());
+            methodDecl.setBroken(memberBroken);
+            methodDecls.add(methodDecl);
+        } else {
+            expect(JavaSubsetLexer.Semicolon);
+            fieldDecls.add(new FieldDecl(accessModifier, type, identifier, start.getLine(),
+                    start.getCharPositionInLine()));
+        }
+    }
+
+    /**
+     * ( (type Identifier (, type Identifier)*)? )
+     *
+     * @return PrintableVector<MethodParameter>
+     */
+    private PrintableVector<MethodParameter> parameters() {
+        PrintableVector<MethodParameter> parameters = new PrintableVector<>();
+        expect(JavaSubsetLexer.OpenRoundBracket);
+        if (!at(JavaSubsetLexer.ClosedRoundBracket)) {
+            do {
+                Token start = token(0);
+                Type type = type();
+                parameters.add(new MethodParameter(type, expect(JavaSubsetLexer.Identifier).getText(),
+                        start.getLine(), start.getCharPositionInLine()));
+            } while (accept(JavaSubsetLexer.Comma));
+        }
+        expect(JavaSubsetLexer.ClosedRoundBracket);
+        return parameters;
+    }
+
+    /**
+     * @return Type
+     */
+    private Type type() {
+        Token token = next();
+        switch (token.getType()) {
+            case JavaSubsetLexer.Int:
+                return BaseType.of(Primitives.INT);
+            case JavaSubsetLexer.Char:
+                return BaseType.of(Primitives.CHAR);
+            case JavaSubsetLexer.Boolean:
+                return BaseType.of(Primitives.BOOL);
+            case JavaSubsetLexer.Identifier:
+                return new ReferenceType(token.getText(), token.getLine(), token.getCharPositionInLine());
+            default:
+                throw noViableAlternative(token);
+        }
+    }
+
+    /**
+     * Block of a method or constructor whose signature is already read. If the
+     * block fails as a whole, the member is kept with an empty body, so its
+     * signature still ends up in the Context.
+     *
+     * @return Block
+     */
+    private Block body() {
+        Token start = token(0);
+        try {
+            return block();
+        } catch (RecognitionFailure failure) {
+            report(failure);
+            skip(failure);
+            memberBroken = true;
+            return new Block(start.getLine(), start.getCharPositionInLine());
+        }
+    }
+
+    /**
+     * @return Block
+     */
+    private Block block() {
+        Token start = expect(JavaSubsetLexer.OpenCurlyBracket);
+        PrintableVector<IStatement> statements = new PrintableVector<>();
+        while (!at(JavaSubsetLexer.ClosedCurlyBracket) && !at(Token.EOF)) {
+            try {
+                statements.add(statement());
+            } catch (RecognitionFailure failure) {
+                report(failure);
+                skip(failure);
+                memberBroken = true;
+            }
+        }
+        expect(JavaSubsetLexer.ClosedCurlyBracket);
+        if (statements.isEmpty()) {
+            return new Block(start.getLine(), start.getCharPositionInLine());
+        }
+        return new Block(statements, start.getLine(), start.getCharPositionInLine());
+    }
+
+    /**
+     * @return IStatement
+     */
+    private IStatement statement() {
+        Token start = token(0);
+        int line = start.getLine();
+        int column = start.getCharPositionInLine();
+        switch (start.getType()) {
+            case JavaSubsetLexer.Return: {
+                next();
+                ReturnStmt returnStmt = at(JavaSubsetLexer.Semicolon) ? new ReturnStmt(line, column)
+                        : new ReturnStmt(expression(), line, column);
+                expect(JavaSubsetLexer.Semicolon);
+                return returnStmt;
+            }
+            case JavaSubsetLexer.OpenCurlyBracket:
+                return block();
+            case JavaSubsetLexer.While: {
+                next();
+                expect(JavaSubsetLexer.OpenRoundBracket);
+                IExpression condition = expression();
+                expect(JavaSubsetLexer.ClosedRoundBracket);
+                return new WhileStmt(condition, block(), line, column);
+            }
+            case JavaSubsetLexer.For: {
+                next();
+                expect(JavaSubsetLexer.OpenRoundBracket);
+                IStatement init = atLocalVarDecl() ? localVarDecl() : stmtExpr();
+                expect(JavaSubsetLexer.Semicolon);
+                IExpression condition = expression();
+                expect(JavaSubsetLexer.Semicolon);
+                IStatementExpression update = stmtExpr();
+                expect(JavaSubsetLexer.ClosedRoundBracket);
+                return new ForStmt(init, condition, update, statement(), line, column);
+            }
+            case JavaSubsetLexer.If: {
+                next();
+                expect(JavaSubsetLexer.OpenRoundBracket);
+                IExpression condition = expression();
+                expect(JavaSubsetLexer.ClosedRoundBracket);
+                IStatement statement = statement();
+                // a dangling else belongs to the innermost if
+                if (accept(JavaSubsetLexer.Else)) {
+                    return new IfStmt(condition, statement, statement(), line, column);
+                }
+                return new IfStmt(condition, statement, line, column);
+            }
+            default: {
+                IStatement statement = atLocalVarDecl() ? localVarDecl() : stmtExpr();
+                expect(JavaSubsetLexer.Semicolon);
+                return statement;
+            }
+        }
+    }
+
+    /**
+     * @return boolean whether a localVarDecl starts here
+     */
+    private boolean atLocalVarDecl() {
+        switch (peek(0)) {
+            case JavaSubsetLexer.Int:
+            case JavaSubsetLexer.Char:
+            case JavaSubsetLexer.Boolean:
+                return true;
+            case JavaSubsetLexer.Identifier:
+                return peek(1) == JavaSubsetLexer.Identifier;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * type Identifier (= expression)?
+     *
+     * @return LocalVarDecl
+     */
+    private LocalVarDecl localVarDecl() {
+        Token start = token(0);
+        Type type = type();
+        String identifier = expect(JavaSubsetLexer.Identifier).getText();
+        LocalVarDecl localVarDecl = accept(JavaSubsetLexer.Assign)
+                ? new LocalVarDecl(identifier, expression(), start.getLine(), start.getCharPositionInLine())
+                : new LocalVarDecl(identifier, start.getLine(), start.getCharPositionInLine());
+        localVarDecl.setType(type);
+        return localVarDecl;
+    }
+
+    /**
+     * assign | newDecl | methodCall | crementExpr
+     *
+     * @return IStatementExpression
+     */
+    private IStatementExpression stmtExpr() {
+        if (atAssign()) {
+            return assign();
+        } else if (at(JavaSubsetLexer.T__0) || at(JavaSubsetLexer.T__1)) {
+            return preCrement();
+        }
+        Token start = token(0);
+        IExpression expression = chain();
+        if (atSuffixCrement()) {
+            return sufCrement(expression, start);
+        } else if (chain == Chain.METHOD_CALL || chain == Chain.NEW) {
+            return (IStatementExpression) expression;
+        }
+        throw noViableAlternative(token(0));
+    }
+
+    /**
+     * subExpression | binaryExpr | assign
+     *
+     * @return IExpression
+     */
+    private IExpression expression() {
+        if (atAssign()) {
+            return assign();
+        }
+        int mark = position;
+        Token start = token(0);
+        IExpression left = subExpression();
+        switch (peek(0)) {
+            case JavaSubsetLexer.ComparisonOperator:
+            case JavaSubsetLexer.LogicalOpertor: {
+                // nonCalcExpr is right associative
+                Operator operator = NonCalcOperatorAdapter.adapt(next().getText());
+                return new Binary(left, expression(), operator, start.getLine(), start.getCharPositionInLine());
+            }
+            case JavaSubsetLexer.LineOperator:
+            case JavaSubsetLexer.DotOperator:
+                // the operands of a calcExpr are dotSubExprs, which are built differently
+                position = mark;
+                return calcExpr();
+            default:
+                return left;
+        }
+    }
+
+    /**
+     * This | Identifier | instVar | value | newDecl | methodCall | crementExpr
+     * | notExpr | ( expression )
+     *
+     * @return IExpression
+     */
+    private IExpression subExpression() {
+        Token start = token(0);
+        switch (start.getType()) {
+            case JavaSubsetLexer.IntValue:
+            case JavaSubsetLexer.BooleanValue:
+            case JavaSubsetLexer.StringValue:
+            case JavaSubsetLexer.CharValue:
+            case JavaSubsetLexer.NullValue:
+                return ValueAdapter.adapt(next());
+            case JavaSubsetLexer.Not:
+                next();
+                return new Unary(expression(), Operator.NOT, start.getLine(), start.getCharPositionInLine());
+            case JavaSubsetLexer.OpenRoundBracket: {
+                next();
+                IExpression expression = expression();
+                expect(JavaSubsetLexer.ClosedRoundBracket);
+                return expression;
+            }
+            case JavaSubsetLexer.T__0:
+            case JavaSubsetLexer.T__1:
+                return preCrement();
+            case JavaSubsetLexer.This:
+            case JavaSubsetLexer.New:
+            case JavaSubsetLexer.Identifier: {
+                IExpression expression = chain();
+                if (atSuffixCrement()) {
+                    return sufCrement(expression, start);
+                }
+                return expression;
+            }
+            default:
+                throw noViableAlternative(start);
+        }
+    }
+
+    /**
+     * calcExpr LineOperator dotExpr | dotExpr
+     *
+     * @return IExpression
+     */
+    private IExpression calcExpr() {
+        IExpression left = dotExpr();
+        while (at(JavaSubsetLexer.LineOperator)) {
+            Operator operator = next().getText().equals("+") ? Operator.PLUS : Operator.MINUS;
+            left = new Binary(left, operator, dotExpr());
+        }
+        return left;
+    }
+
+    /**
+     * dotExpr DotOperator dotSubExpr | dotSubExpr
+     *
+     * @return IExpression
+     */
+    private IExpression dotExpr() {
+        IExpression left = dotSubExpr();
+        while (at(JavaSubsetLexer.DotOperator)) {
+            Operator operator = switch (next().getText()) {
+                case "*" -> Operator.MULT;
+                case "/" -> Operator.DIV;
+                default -> Operator.MOD;
+            };
+            left = new Binary(left, operator, dotSubExpr());
+        }
+        return left;
+    }
+
+    /**
+     * IntValue | Identifier | instVar | methodCall | ( calcExpr )
+     *
+     * @return IExpression
+     */
+    private IExpression dotSubExpr() {
+        Token start = token(0);
+        switch (start.getType()) {
+            case JavaSubsetLexer.IntValue:
+                return new IntegerExpr(Integer.parseInt(next().getText()));
+            case JavaSubsetLexer.OpenRoundBracket: {
+                next();
+                IExpression calcExpr = calcExpr();
+                expect(JavaSubsetLexer.ClosedRoundBracket);
+                return calcExpr;
+            }
+            case JavaSubsetLexer.This:
+            case JavaSubsetLexer.Identifier: {
+                IExpression expression = chain();
+                if (chain == Chain.IDENTIFIER) {
+                    return new LocalOrFieldVar(((LocalOrFieldVar) expression).getIdentifier());
+                } else if (chain == Chain.INST_VAR || chain == Chain.METHOD_CALL) {
+                    return expression;
+                }
+                throw noViableAlternative(token(0));
+            }
+            default:
+                throw noViableAlternative(start);
+        }
+    }
+
+    /**
+     * @return boolean whether assignableExpr = starts here
+     */
+    private boolean atAssign() {
+        int offset = 0;
+        if (at(JavaSubsetLexer.This)) {
+            if (peek(1) != JavaSubsetLexer.Dot) {
+                return false;
+            }
+            offset = 2;
+        }
+        if (peek(offset) != JavaSubsetLexer.Identifier) {
+            return false;
+        }
+        offset++;
+        while (peek(offset) == JavaSubsetLexer.Dot && peek(offset + 1) == JavaSubsetLexer.Identifier) {
+            offset += 2;
+        }
+        return peek(offset) == JavaSubsetLexer.Assign;
+    }
+
+    /**
+     * assignableExpr = expression
+     *
+     * @return Assign
+     */
+    private Assign assign() {
+        Token start = token(0);
+        IExpression assignable = assignable();
+        expect(JavaSubsetLexer.Assign);
+        return new Assign(assignable, expression(), start.getLine(), start.getCharPositionInLine());
+    }
+
+    /**
+     * Identifier | instVar
+     *
+     * @return IExpression
+     */
+    private IExpression assignable() {
+        return toAssignable(chain());
+    }
+
+    /**
+     * @param expression read by chain()
+     * @return IExpression
+     */
+    private IExpression toAssignable(IExpression expression) {
+        if (chain == Chain.IDENTIFIER) {
+            return new LocalOrFieldVar(((LocalOrFieldVar) expression).getIdentifier());
+        } else if (chain == Chain.INST_VAR) {
+            return expression;
+        }
+        throw noViableAlternative(token(0));
+    }
+
+    /**
+     * @return CrementStmtExpr
+     */
+    private CrementStmtExpr preCrement() {
+        Token start = next();
+        Operator operator = start.getType() == JavaSubsetLexer.T__0 ? Operator.INCPRE : Operator.DECPRE;
+        return new CrementStmtExpr(assignable(), operator, start.getLine(), start.getCharPositionInLine());
+    }
+
+    /**
+     * @return boolean whether a suffix ++ or -- follows an assignable chain
+     */
+    private boolean atSuffixCrement() {
+        return (chain == Chain.IDENTIFIER || chain == Chain.INST_VAR)
+                && (at(JavaSubsetLexer.T__0) || at(JavaSubsetLexer.T__1));
+    }
+
+    /**
+     * @param expression read by chain()
+     * @param start      first token of the chain
+     * @return CrementStmtExpr
+     */
+    private CrementStmtExpr sufCrement(IExpression expression, Token start) {
+        IExpression assignable = toAssignable(expression);
+        Operator operator = next().getType() == JavaSubsetLexer.T__0 ? Operator.INCSUF : Operator.DECSUF;
+        return new CrementStmtExpr(assignable, operator, start.getLine(), start.getCharPositionInLine());
+    }
+
+    /**
+     * Reads this, a newDecl or identifiers up to the first call, then the
+     * calls, all separated by dots, and sets chain to what has been read
+     *
+     * @return IExpression
+     */
+    private IExpression chain() {
+        Token start = token(0);
+        IExpression receiver = null;
+        if (at(JavaSubsetLexer.This) || at(JavaSubsetLexer.New)) {
+            Token first = next();
+            receiver = first.getType() == JavaSubsetLexer.This ? new This() : newDecl(first);
+            if (!at(JavaSubsetLexer.Dot)) {
+                chain = receiver instanceof This ? Chain.THIS : Chain.NEW;
+                return receiver;
+            }
+            next();
+        }
+        ArrayList<Token> identifiers = new ArrayList<>();
+        while (at(JavaSubsetLexer.Identifier) && peek(1) != JavaSubsetLexer.OpenRoundBracket) {
+            if (receiver instanceof NewDecl) {
+                // only calls may follow a newDecl
+                throw noViableAlternative(token(0));
+            }
+            identifiers.add(next());
+            if (!at(JavaSubsetLexer.Dot)) {
+                if (receiver == null && identifiers.size() == 1) {
+                    chain = Chain.IDENTIFIER;
+                    return new LocalOrFieldVar(start.getText(), start.getLine(), start.getCharPositionInLine());
+                }
+                chain = Chain.INST_VAR;
+                return instVar(receiver, identifiers, start);
+            }
+            next();
+        }
+
+        if (identifiers.size() == 1 && receiver == null) {
+            receiver = new LocalOrFieldVar(start.getText());
+        } else if (!identifiers.isEmpty()) {
+            receiver = instVar(receiver, identifiers, start);
+        } else if (receiver == null) {
+            receiver = new This();
+        }
+        while (true) {
+            Token identifier = expect(JavaSubsetLexer.Identifier);
+            expect(JavaSubsetLexer.OpenRoundBracket);
+            PrintableVector<IExpression> arguments = arguments();
+            expect(JavaSubsetLexer.ClosedRoundBracket);
+            if (!accept(JavaSubsetLexer.Dot)) {
+                chain = Chain.METHOD_CALL;
+                return new MethodCall(identifier.getText(), receiver, arguments, start.getLine(),
+                        start.getCharPositionInLine());
+            }
+            // a receivingMethod, the receiver of the next call
+            receiver = new MethodCall(identifier.getText(), receiver, arguments, identifier.getLine(),
+                    identifier.getCharPositionInLine());
+        }
+    }
+
+    /**
+     * Like the InstVarAdapter, which drops a leading this unless it is
+     * followed by a single identifier
+     *
+     * @param receiver    This or null
+     * @param identifiers
+     * @param start
+     * @return InstVar
+     */
+    private static InstVar instVar(IExpression receiver, List<Token> identifiers, Token start) {
+        Token first = identifiers.get(0);
+        if (identifiers.size() == 1) {
+            return new InstVar(first.getText(), receiver, start.getLine(), start.getCharPositionInLine());
+        }
+        IExpression previous = new LocalOrFieldVar(first.getText(), first.getLine(), first.getCharPositionInLine());
+        for (Token identifier : identifiers.subList(1, identifiers.size())) {
+            previous = new InstVar(identifier.getText(), previous, identifier.getLine(),
+                    identifier.getCharPositionInLine());
+        }
+        return (InstVar) previous;
+    }
+
+    /**
+     * Identifier ( argumentList ), after 'new'
+     *
+     * @param start the 'new' token
+     * @return NewDecl
+     */
+    private NewDecl newDecl(Token start) {
+        String identifier = expect(JavaSubsetLexer.Identifier).getText();
+        expect(JavaSubsetLexer.OpenRoundBracket);
+        PrintableVector<IExpression> arguments = arguments();
+        expect(JavaSubsetLexer.ClosedRoundBracket);
+        return new NewDecl(identifier, arguments, start.getLine(), start.getCharPositionInLine());
+    }
+
+    /**
+     * @return PrintableVector<IExpression>
+     */
+    private PrintableVector<IExpression> arguments() {
+        PrintableVector<IExpression> arguments = new PrintableVector<>();
+        if (!at(JavaSubsetLexer.ClosedRoundBracket)) {
+            do {
+                arguments.add(expression());
+            } while (accept(JavaSubsetLexer.Comma));
+        }
+        return arguments;
+    }
+
+    /**
+     * @param offset
+     * @return int type of the token, EOF after the end
+     */
+    private int peek(int offset) {
+        return token(offset).getType();
+    }
+
+    /**
+     * @param offset
+     * @return Token
+     */
+    private Token token(int offset) {
+        return tokens.get(Math.min(position + offset, tokens.size() - 1));
+    }
+
+    /**
+     * @param type
+     * @return boolean
+     */
+    private boolean at(int type) {
+        return peek(0) == type;
+    }
+
+    /**
+     * @return Token the consumed token
+     */
+    private Token next() {
+        Token token = token(0);
+        if (token.getType() != Token.EOF) {
+            position++;
+        }
+        return token;
+    }
+
+    /**
+     * @param type
+     * @return boolean whether a token of the type has been consumed
+     */
+    private boolean accept(int type) {
+        if (at(type)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @param type
+     * @return Token
+     */
+    private Token expect(int type) {
+        Token token = token(0);
+        if (token.getType() != type) {
+            throw new RecognitionFailure(token, "mismatched input " + display(token) + " expecting "
+                    + JavaSubsetLexer.VOCABULARY.getDisplayName(type));
+        }
+        position++;
+        return token;
+    }
+
+    /**
+     * @param token
+     * @return RecognitionFailure
+     */
+    private static RecognitionFailure noViableAlternative(Token token) {
+        return new RecognitionFailure(token, "no viable alternative at input " + display(token));
+    }
+
+    /**
+     * @param failure
+     */
+    private void report(RecognitionFailure failure) {
+        errorListener.syntaxError(null, failure.token, failure.token.getLine(),
+                failure.token.getCharPositionInLine(), failure.getMessage(), null);
+    }
+
+    /**
+     * Skips the rest of a broken statement or member from the token that
+     * failed: up to the next ';' or over the next block, but not past the end
+     * of the enclosing block
+     *
+     * @param failure
+     */
+    private void skip(RecognitionFailure failure) {
+        // lookahead may have gone past the failing token
+        while (position > 0 && tokens.get(Math.min(position, tokens.size() - 1)) != failure.token) {
+            position--;
+        }
+        int depth = 0;
+        while (!at(Token.EOF)) {
+            int type = peek(0);
+            if (type == JavaSubsetLexer.ClosedCurlyBracket && depth == 0) {
+                return;
+            }
+            next();
+            if (type == JavaSubsetLexer.OpenCurlyBracket) {
+                depth++;
+            } else if (type == JavaSubsetLexer.ClosedCurlyBracket) {
+                if (--depth == 0) {
+                    return;
+                }
+            } else if (type == JavaSubsetLexer.Semicolon && depth == 0) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * @param token
+     * @return String like the token display of ANTLR error messages
+     */
+    private static String display(Token token) {
+        if (token.getType() == Token.EOF) {
+            return "'<EOF>'";
+        }
+        return "'" + token.getText().replace("\n", "\\n").replace("\r", "\\r").replace("\t", "\\t") + "'";
+    }
+
+    private static class RecognitionFailure extends RuntimeException {
+        private final Token token;
+
+        RecognitionFailure(Token token, String message) {
+            super(message, null, false, false);
+            this.token = token;
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package parser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.antlr.v4.runtime.Token;
+
+import common.AccessModifier;
+import common.BaseType;
+import common.Primitives;
+import common.PrintableVector;
+import common.ReferenceType;
+import common.Type;
+import parser.generated.JavaSubsetLexer;
+import syntaxtree.statements.Block;
+import syntaxtree.structure.ClassDecl;
+import syntaxtree.structure.ConstructorDecl;
+import syntaxtree.structure.FieldDecl;
+import syntaxtree.structure.MainMethodDecl;
+import syntaxtree.structure.MethodDecl;
+import syntaxtree.structure.MethodParameter;
+
+/**
+ * Reads the signatures of every class straight from the token stream without
+ * running the parser. Method and constructor bodies are skipped by counting
+ * curly brackets and left empty, so the result is only good for building the
+ * Context. The token range of every class is kept, so its body can be parsed
+ * on its own later.
+ */
+public class SignatureScanner {
+
+    private final List<Token> tokens;
+    private int position = 0;
+
+    private SignatureScanner(List<Token> tokens) {
+        this.tokens = tokens;
+    }
+
+    /**
+     * @param tokens every token of the file, ending with EOF
+     * @return ArrayList<ScannedClass> null if the tokens don't follow the
+     *         class structure of the grammar, the parser reports the error then
+     */
+    public static ArrayList<ScannedClass> scan(List<Token> tokens) {
+        SignatureScanner scanner = new SignatureScanner(tokens);
+        ArrayList<ScannedClass> classes = new ArrayList<>();
+        try {
+            do {
+                classes.add(scanner.scanClass());
+            } while (scanner.peek(0) != Token.EOF);
+        } catch (UnexpectedTokenException e) {
+            return null;
+        }
+        return classes;
+    }
+
+    /**
+     * 'class' Identifier { (constructor | field | method)* }
+     *
+     * @return ScannedClass
+     */
+    private ScannedClass scanClass() {
+        int start = position;
+        expect(JavaSubsetLexer.Class);
+        String identifier = expect(JavaSubsetLexer.Identifier).getText();
+        expect(JavaSubsetLexer.OpenCurlyBracket);
+
+        PrintableVector<FieldDecl> fields = new PrintableVector<>();
+        PrintableVector<ConstructorDecl> constructors = new PrintableVector<>();
+        PrintableVector<MethodDecl> methods = new PrintableVector<>();
+        while (peek(0) != JavaSubsetLexer.ClosedCurlyBracket) {
+            scanMember(fields, constructors, methods);
+        }
+        int stop = position;
+        expect(JavaSubsetLexer.ClosedCurlyBracket);
+
+        if (constructors.isEmpty()) {
+            constructors.add(new ConstructorDecl());
+        }
+        return new ScannedClass(new ClassDecl(identifier, fields, constructors, methods), start, stop);
+    }
+
+    /**
+     * @param fields
+     * @param constructors
+     * @param methods
+     */
+    private void scanMember(PrintableVector<FieldDecl> fields, PrintableVector<ConstructorDecl> constructors,
+            PrintableVector<MethodDecl> methods) {
+        Token first = tokens.get(position);
+        if (first.getType() == JavaSubsetLexer.MainMethodDecl) {
+            position++;
+            skipBlock();
+            methods.add(new MainMethodDecl(new Block()));
+            return;
+        }
+
+        AccessModifier accessModifier = AccessModifier.PACKAGE_PRIVATE;
+        if (first.getType() == JavaSubsetLexer.AccessModifier) {
+            accessModifier = AccessModifier.valueOf(first.getText().toUpperCase(Locale.ROOT));
+            position++;
+        }
+
+        if (peek(0) == JavaSubsetLexer.Identifier && peek(1) == JavaSubsetLexer.OpenRoundBracket) {
+            position++;
+            PrintableVector<MethodParameter> parameters = scanParameters();
+            skipBlock();
+            constructors.add(new ConstructorDecl(accessModifier, parameters, new Block(), first.getLine(),
+                    first.getCharPositionInLine()));
+            return;
+        }
+
+        Type type;
+        if (peek(0) == JavaSubsetLexer.Void) {
+            position++;
+            type = BaseType.of(Primitives.VOID);
+        } else {
+            type = scanType();
+        }
+        String identifier = expect(JavaSubsetLexer.Identifier).getText();
+        if (peek(0) == JavaSubsetLexer.OpenRoundBracket) {
+            PrintableVector<MethodParameter> parameters = scanParameters();
+            skipBlock();
+            methods.add(new MethodDecl(accessModifier, type, identifier, parameters, new Block(), first.getLine(),
+                    first.getCharPositionInLine()));
+        } else {
+            expect(JavaSubsetLexer.Semicolon);
+            fields.add(new FieldDecl(accessModifier, type, identifier, first.getLine(),
+                    first.getCharPositionInLine()));
+        }
+    }
+
+    /**
+     * ( (type Identifier (, type Identifier)*)? )
+     *
+     * @return PrintableVector<MethodParameter>
+     */
+    private PrintableVector<MethodParameter> scanParameters() {
+        PrintableVector<MethodParameter> parameters = new PrintableVector<>();
+        expect(JavaSubsetLexer.OpenRoundBracket);
+        while (peek(0) != JavaSubsetLexer.ClosedRoundBracket) {
+            if (!parameters.isEmpty()) {
+                expect(JavaSubsetLexer.Comma);
+            }
+            Token start = tokens.get(position);
+            Type type = scanType();
+            parameters.add(new MethodParameter(type, expect(JavaSubsetLexer.Identifier).getText(), start.getLine(),
+                    start.getCharPositionInLine()));
+        }
+        expect(JavaSubsetLexer.ClosedRoundBracket);
+        return parameters;
+    }
+
+    /**
+     * @return Type
+     */
+    private Type scanType() {
+        Token token = tokens.get(position);
+        switch (token.getType()) {
+            case JavaSubsetLexer.Int:
+                position++;
+                return BaseType.of(Primitives.INT);
+            case JavaSubsetLexer.Char:
+                position++;
+                return BaseType.of(Primitives.CHAR);
+            case JavaSubsetLexer.Boolean:
+                position++;
+                return BaseType.of(Primitives.BOOL);
+            default:
+                expect(JavaSubsetLexer.Identifier);
+                return new ReferenceType(token.getText(), token.getLine(), token.getCharPositionInLine());
+        }
+    }
+
+    /**
+     * Skips a block including all nested blocks
+     */
+    private void skipBlock() {
+        expect(JavaSubsetLexer.OpenCurlyBracket);
+        int depth = 1;
+        while (depth > 0) {
+            switch (expectNotEof().getType()) {
+                case JavaSubsetLexer.OpenCurlyBracket -> depth++;
+                case JavaSubsetLexer.ClosedCurlyBracket -> depth--;
+                default -> {
+                }
+            }
+        }
+    }
+
+    /**
+     * @param offset
+     * @return int type of the token, EOF after the end
+     */
+    private int peek(int offset) {
+        int index = Math.min(position + offset, tokens.size() - 1);
+        return tokens.get(index).getType();
+    }
+
+    /**
+     * @param type
+     * @return Token
+     */
+    private Token expect(int type) {
+        if (peek(0) != type) {
+            throw new UnexpectedTokenException();
+        }
+        return tokens.get(position++);
+    }
+
+    /**
+     * @return Token
+     */
+    private Token expectNotEof() {
+        if (peek(0) == Token.EOF) {
+            throw new UnexpectedTokenException();
+        }
+        return tokens.get(position++);
+    }
+
+    /**
+     * A class signature and the tokens of the whole class declaration
+     */
+    public static class ScannedClass {
+
+        private final ClassDecl signature;
+        private final int start;
+        private final int stop;
+
+        ScannedClass(ClassDecl signature, int start, int stop) {
+            this.signature = signature;
+            this.start = start;
+            this.stop = stop;
+        }
+
+        /**
+         * @return ClassDecl with empty method and constructor bodies
+         */
+        public ClassDecl getSignature() {
+            return signature;
+        }
+
+        /**
+         * @return int index of the 'class' token
+         */
+        public int getStart() {
+            return start;
+        }
+
+        /**
+         * @return int index of the closing curly bracket
+         */
+        public int getStop() {
+            return stop;
+        }
+    }
+
+    private static class UnexpectedTokenException extends RuntimeException {
+        UnexpectedTokenException() {
+            super(null, null, false, false);
+        }
+    }
+}
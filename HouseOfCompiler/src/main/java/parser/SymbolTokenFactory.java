@@ -0,0 +1,68 @@
+package parser;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.CommonTokenFactory;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.misc.Pair;
+
+import parser.generated.JavaSubsetLexer;
+
+/**
+ * Turns every Identifier into a symbol while lexing: its text is taken from
+ * the input once and looked up in the symbol table of the compiler, so all
+ * occurrences of a name share one String with a precomputed hash and the
+ * lookups in the contexts and the local variables of the code generation
+ * mostly end at the identity test of equals(). The text of the other tokens
+ * is still read from the input. The table only ever holds identifiers. It is
+ * shared by the compilations of the JVM, cleared together with the DfaCache
+ * and once it holds more than MAX_SYMBOLS names, so a long running server
+ * doesn't keep every name it has ever seen. Clearing only costs the sharing
+ * of names that were read before.
+ */
+public class SymbolTokenFactory extends CommonTokenFactory {
+
+    public static final SymbolTokenFactory INSTANCE = new SymbolTokenFactory();
+
+    public static final int MAX_SYMBOLS = 1 << 16;
+
+    private static final ConcurrentHashMap<String, String> SYMBOLS = new ConcurrentHashMap<>();
+
+    /**
+     * @param identifier
+     * @return String the symbol of the identifier
+     */
+    public static String intern(String identifier) {
+        if (SYMBOLS.mappingCount() > MAX_SYMBOLS) {
+            clear();
+        }
+        String symbol = SYMBOLS.putIfAbsent(identifier, identifier);
+        return symbol == null ? identifier : symbol;
+    }
+
+    /**
+     * Drops every symbol, names read afterwards get new ones
+     */
+    public static void clear() {
+        SYMBOLS.clear();
+    }
+
+    /**
+     * @return int number of symbols in the table
+     */
+    public static int size() {
+        return SYMBOLS.size();
+    }
+
+    @Override
+    public CommonToken create(Pair<TokenSource, CharStream> source, int type, String text, int channel, int start,
+            int stop, int line, int charPositionInLine) {
+        CommonToken token = super.create(source, type, text, channel, start, stop, line, charPositionInLine);
+        if (type == JavaSubsetLexer.Identifier) {
+            token.setText(intern(token.getText()));
+        }
+        return token;
+    }
+}
@@ -12,6 +12,8 @@ public class ExpressionAdapter {
     public static IExpression adapt(JavaSubsetParser.ExpressionContext expressionContext) {
         if (expressionContext.binaryExpr() != null)
             return BinaryExpressionAdapter.adapt(expressionContext.binaryExpr());
+        else if (expressionContext.assign() != null)
+            return AssignAdapter.adapt(expressionContext.assign());
         else
             return SubExpressionAdapter.adapt(expressionContext.subExpression());
     }
@@ -53,11 +53,11 @@ public class MethodCallAdapter {
             int index, IExpression rootReceiver) {
         if (index > 0) {
             var arguments = new PrintableVector<IExpression>();
-            var context = contexts.get(index - 1);
+            var context = contexts.get(index);
             context.argumentList().expression().forEach(a -> arguments.add(ExpressionAdapter.adapt(a)));
             return new MethodCall(
                     context.Identifier().getText(),
-                    recursivelyAdaptRecievingMethods(contexts, index, rootReceiver),
+                    recursivelyAdaptRecievingMethods(contexts, index - 1, rootReceiver),
                     arguments,
                     context.start.getLine(),
                     context.start.getCharPositionInLine());
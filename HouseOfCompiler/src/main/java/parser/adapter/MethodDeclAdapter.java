@@ -24,7 +24,7 @@ public class MethodDeclAdapter {
 
         var parameters = new PrintableVector<MethodParameter>();
         var block = BlockAdapter.adapt(methodDeclContext.block());
-        Type type = new BaseType(Primitives.VOID);
+        Type type = BaseType.of(Primitives.VOID);
         AccessModifier accessModifier = AccessModifier.PACKAGE_PRIVATE;
         if (methodDeclContext.parameterList() != null) {
             methodDeclContext.parameterList().parameter()
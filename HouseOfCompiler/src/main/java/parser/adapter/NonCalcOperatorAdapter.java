@@ -10,7 +10,14 @@ public class NonCalcOperatorAdapter {
      * @return Operator
      */
     public static Operator adapt(JavaSubsetParser.NonCalcOperatorContext operatorContext) {
-        String operator = operatorContext.getText();
+        return adapt(operatorContext.getText());
+    }
+
+    /**
+     * @param operator text of the operator token
+     * @return Operator
+     */
+    public static Operator adapt(String operator) {
         switch (operator) {
             case "=":
                 return Operator.ASSIGN;
@@ -24,8 +24,12 @@ public class SubExpressionAdapter {
                         return ValueAdapter.adapt(subExpressionContext.value());
                 else if (subExpressionContext.notExpr() != null)
                         return UnaryAdapter.adapt(subExpressionContext.notExpr());
-                else if (subExpressionContext.stmtExpr() != null)
-                        return StatementExpressionAdapter.adapt(subExpressionContext.stmtExpr());
+                else if (subExpressionContext.newDecl() != null)
+                        return NewDeclAdapter.adapt(subExpressionContext.newDecl());
+                else if (subExpressionContext.methodCall() != null)
+                        return MethodCallAdapter.adapt(subExpressionContext.methodCall());
+                else if (subExpressionContext.crementExpr() != null)
+                        return CrementExprAdapter.adapt(subExpressionContext.crementExpr());
                 else // expression
                         return ExpressionAdapter.adapt(subExpressionContext.expression());
         }
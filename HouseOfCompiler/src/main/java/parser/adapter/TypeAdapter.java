@@ -14,11 +14,11 @@ public class TypeAdapter {
      */
     public static Type adapt(JavaSubsetParser.TypeContext typeContext) {
         if (typeContext.Int() != null)
-            return new BaseType(Primitives.INT);
+            return BaseType.of(Primitives.INT);
         else if (typeContext.Char() != null)
-            return new BaseType(Primitives.CHAR);
+            return BaseType.of(Primitives.CHAR);
         else if (typeContext.Boolean() != null)
-            return new BaseType(Primitives.BOOL);
+            return BaseType.of(Primitives.BOOL);
         else // Identifier
             return new ReferenceType(typeContext.Identifier().getText(), typeContext.start.getLine(),
                     typeContext.start.getCharPositionInLine());
@@ -1,5 +1,7 @@
 package parser.adapter;
 
+import org.antlr.v4.runtime.Token;
+
 import parser.generated.JavaSubsetParser;
 import syntaxtree.expressions.BoolExpr;
 import syntaxtree.expressions.CharExpr;
@@ -15,19 +17,27 @@ public class ValueAdapter {
      * @return IExpression
      */
     public static IExpression adapt(JavaSubsetParser.ValueContext valueContext) {
-        if (valueContext.IntValue() != null)
-            return new IntegerExpr(Integer.parseInt(valueContext.IntValue().getText()));
-        else if (valueContext.CharValue() != null)
-            return new CharExpr(valueContext.CharValue().getText().charAt(1));
-        else if (valueContext.BooleanValue() != null) {
-            if (valueContext.BooleanValue().getText().equals("true"))
-                return new BoolExpr(true);
-            else
-                return new BoolExpr(false);
-        } else if (valueContext.StringValue() != null) {
-            return new StringExpr(valueContext.StringValue().getText().substring(1,
-                    valueContext.StringValue().getText().length() - 1));
-        } else
-            return new Null();
+        return adapt(valueContext.start);
+    }
+
+    /**
+     * @param value IntValue, CharValue, BooleanValue, StringValue or NullValue
+     *              token
+     * @return IExpression
+     */
+    public static IExpression adapt(Token value) {
+        String text = value.getText();
+        switch (value.getType()) {
+            case JavaSubsetParser.IntValue:
+                return new IntegerExpr(Integer.parseInt(text));
+            case JavaSubsetParser.CharValue:
+                return new CharExpr(text.charAt(1));
+            case JavaSubsetParser.BooleanValue:
+                return new BoolExpr(text.equals("true"));
+            case JavaSubsetParser.StringValue:
+                return new StringExpr(text.substring(1, text.length() - 1));
+            default:
+                return new Null();
+        }
     }
 }
@@ -767,6 +767,9 @@ public class JavaSubsetParser extends Parser {
 		public BinaryExprContext binaryExpr() {
 			return getRuleContext(BinaryExprContext.class,0);
 		}
+		public AssignContext assign() {
+			return getRuleContext(AssignContext.class,0);
+		}
 		public ExpressionContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -790,7 +793,7 @@ public class JavaSubsetParser extends Parser {
 		ExpressionContext _localctx = new ExpressionContext(_ctx, getState());
 		enterRule(_localctx, 16, RULE_expression);
 		try {
-			setState(166);
+			setState(167);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,14,_ctx) ) {
 			case 1:
@@ -807,6 +810,13 @@ public class JavaSubsetParser extends Parser {
 				binaryExpr();
 				}
 				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(166);
+				assign();
+				}
+				break;
 			}
 		}
 		catch (RecognitionException re) {
@@ -829,8 +839,14 @@ public class JavaSubsetParser extends Parser {
 		public ValueContext value() {
 			return getRuleContext(ValueContext.class,0);
 		}
-		public StmtExprContext stmtExpr() {
-			return getRuleContext(StmtExprContext.class,0);
+		public NewDeclContext newDecl() {
+			return getRuleContext(NewDeclContext.class,0);
+		}
+		public MethodCallContext methodCall() {
+			return getRuleContext(MethodCallContext.class,0);
+		}
+		public CrementExprContext crementExpr() {
+			return getRuleContext(CrementExprContext.class,0);
 		}
 		public NotExprContext notExpr() {
 			return getRuleContext(NotExprContext.class,0);
@@ -863,59 +879,73 @@ public class JavaSubsetParser extends Parser {
 		SubExpressionContext _localctx = new SubExpressionContext(_ctx, getState());
 		enterRule(_localctx, 18, RULE_subExpression);
 		try {
-			setState(178);
+			setState(181);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,15,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(168);
+				setState(169);
 				match(This);
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(169);
+				setState(170);
 				match(Identifier);
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(170);
+				setState(171);
 				instVar();
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(171);
+				setState(172);
 				value();
 				}
 				break;
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(172);
-				stmtExpr();
+				setState(173);
+				newDecl();
 				}
 				break;
 			case 6:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(173);
-				notExpr();
+				setState(174);
+				methodCall();
 				}
 				break;
 			case 7:
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(174);
-				match(OpenRoundBracket);
 				setState(175);
-				expression();
+				crementExpr();
+				}
+				break;
+			case 8:
+				enterOuterAlt(_localctx, 8);
+				{
 				setState(176);
+				notExpr();
+				}
+				break;
+			case 9:
+				enterOuterAlt(_localctx, 9);
+				{
+				setState(177);
+				match(OpenRoundBracket);
+				setState(178);
+				expression();
+				setState(179);
 				match(ClosedRoundBracket);
 				}
 				break;
@@ -974,39 +1004,39 @@ public class JavaSubsetParser extends Parser {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(181);
+			setState(184);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,16,_ctx) ) {
 			case 1:
 				{
-				setState(180);
+				setState(183);
 				receiver();
 				}
 				break;
 			}
-			setState(186);
+			setState(189);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,17,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(183);
+					setState(186);
 					receivingMethod();
 					}
 					} 
 				}
-				setState(188);
+				setState(191);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,17,_ctx);
 			}
-			setState(189);
+			setState(192);
 			match(Identifier);
-			setState(190);
+			setState(193);
 			match(OpenRoundBracket);
-			setState(191);
+			setState(194);
 			argumentList();
-			setState(192);
+			setState(195);
 			match(ClosedRoundBracket);
 			}
 		}
@@ -1067,61 +1097,61 @@ public class JavaSubsetParser extends Parser {
 		StatementContext _localctx = new StatementContext(_ctx, getState());
 		enterRule(_localctx, 22, RULE_statement);
 		try {
-			setState(207);
+			setState(210);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,18,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(194);
+				setState(197);
 				returnStmt();
-				setState(195);
+				setState(198);
 				match(Semicolon);
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(197);
+				setState(200);
 				localVarDecl();
-				setState(198);
+				setState(201);
 				match(Semicolon);
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(200);
+				setState(203);
 				block();
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(201);
+				setState(204);
 				whileStmt();
 				}
 				break;
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(202);
+				setState(205);
 				forStmt();
 				}
 				break;
 			case 6:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(203);
+				setState(206);
 				ifElseStmt();
 				}
 				break;
 			case 7:
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(204);
+				setState(207);
 				stmtExpr();
-				setState(205);
+				setState(208);
 				match(Semicolon);
 				}
 				break;
@@ -1174,34 +1204,34 @@ public class JavaSubsetParser extends Parser {
 		StmtExprContext _localctx = new StmtExprContext(_ctx, getState());
 		enterRule(_localctx, 24, RULE_stmtExpr);
 		try {
-			setState(213);
+			setState(216);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,19,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(209);
+				setState(212);
 				assign();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(210);
+				setState(213);
 				newDecl();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(211);
+				setState(214);
 				methodCall();
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(212);
+				setState(215);
 				crementExpr();
 				}
 				break;
@@ -1248,9 +1278,9 @@ public class JavaSubsetParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(215);
+			setState(218);
 			match(Not);
-			setState(216);
+			setState(219);
 			expression();
 			}
 		}
@@ -1295,20 +1325,20 @@ public class JavaSubsetParser extends Parser {
 		CrementExprContext _localctx = new CrementExprContext(_ctx, getState());
 		enterRule(_localctx, 28, RULE_crementExpr);
 		try {
-			setState(220);
+			setState(223);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,20,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(218);
+				setState(221);
 				incExpr();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(219);
+				setState(222);
 				decExpr();
 				}
 				break;
@@ -1355,13 +1385,13 @@ public class JavaSubsetParser extends Parser {
 		IncExprContext _localctx = new IncExprContext(_ctx, getState());
 		enterRule(_localctx, 30, RULE_incExpr);
 		try {
-			setState(224);
+			setState(227);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case T__0:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(222);
+				setState(225);
 				preIncExpr();
 				}
 				break;
@@ -1369,7 +1399,7 @@ public class JavaSubsetParser extends Parser {
 			case Identifier:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(223);
+				setState(226);
 				sufIncExpr();
 				}
 				break;
@@ -1417,9 +1447,9 @@ public class JavaSubsetParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(226);
+			setState(229);
 			match(T__0);
-			setState(227);
+			setState(230);
 			assignableExpr();
 			}
 		}
@@ -1463,9 +1493,9 @@ public class JavaSubsetParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(229);
+			setState(232);
 			assignableExpr();
-			setState(230);
+			setState(233);
 			match(T__0);
 			}
 		}
@@ -1510,13 +1540,13 @@ public class JavaSubsetParser extends Parser {
 		DecExprContext _localctx = new DecExprContext(_ctx, getState());
 		enterRule(_localctx, 36, RULE_decExpr);
 		try {
-			setState(234);
+			setState(237);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case T__1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(232);
+				setState(235);
 				preDecExpr();
 				}
 				break;
@@ -1524,7 +1554,7 @@ public class JavaSubsetParser extends Parser {
 			case Identifier:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(233);
+				setState(236);
 				sufDecExpr();
 				}
 				break;
@@ -1572,9 +1602,9 @@ public class JavaSubsetParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(236);
+			setState(239);
 			match(T__1);
-			setState(237);
+			setState(240);
 			assignableExpr();
 			}
 		}
@@ -1618,9 +1648,9 @@ public class JavaSubsetParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(239);
+			setState(242);
 			assignableExpr();
-			setState(240);
+			setState(243);
 			match(T__1);
 			}
 		}
@@ -1663,20 +1693,20 @@ public class JavaSubsetParser extends Parser {
 		AssignableExprContext _localctx = new AssignableExprContext(_ctx, getState());
 		enterRule(_localctx, 42, RULE_assignableExpr);
 		try {
-			setState(244);
+			setState(247);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,23,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(242);
+				setState(245);
 				match(Identifier);
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(243);
+				setState(246);
 				instVar();
 				}
 				break;
@@ -1728,36 +1758,36 @@ public class JavaSubsetParser extends Parser {
 		int _la;
 		try {
 			int _alt;
-			setState(260);
+			setState(263);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,26,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(246);
+				setState(249);
 				match(This);
-				setState(247);
+				setState(250);
 				match(Dot);
-				setState(248);
+				setState(251);
 				match(Identifier);
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(251);
+				setState(254);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==This) {
 					{
-					setState(249);
+					setState(252);
 					match(This);
-					setState(250);
+					setState(253);
 					match(Dot);
 					}
 				}
 
-				setState(255); 
+				setState(258); 
 				_errHandler.sync(this);
 				_alt = 1;
 				do {
@@ -1765,9 +1795,9 @@ public class JavaSubsetParser extends Parser {
 					case 1:
 						{
 						{
-						setState(253);
+						setState(256);
 						match(Identifier);
-						setState(254);
+						setState(257);
 						match(Dot);
 						}
 						}
@@ -1775,11 +1805,11 @@ public class JavaSubsetParser extends Parser {
 					default:
 						throw new NoViableAltException(this);
 					}
-					setState(257); 
+					setState(260); 
 					_errHandler.sync(this);
 					_alt = getInterpreter().adaptivePredict(_input,25,_ctx);
 				} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
-				setState(259);
+				setState(262);
 				match(Identifier);
 				}
 				break;
@@ -1826,20 +1856,20 @@ public class JavaSubsetParser extends Parser {
 		BinaryExprContext _localctx = new BinaryExprContext(_ctx, getState());
 		enterRule(_localctx, 46, RULE_binaryExpr);
 		try {
-			setState(264);
+			setState(267);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,27,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(262);
+				setState(265);
 				calcExpr(0);
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(263);
+				setState(266);
 				nonCalcExpr();
 				}
 				break;
@@ -1899,11 +1929,11 @@ public class JavaSubsetParser extends Parser {
 			enterOuterAlt(_localctx, 1);
 			{
 			{
-			setState(267);
+			setState(270);
 			dotExpr(0);
 			}
 			_ctx.stop = _input.LT(-1);
-			setState(274);
+			setState(277);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,28,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
@@ -1914,16 +1944,16 @@ public class JavaSubsetParser extends Parser {
 					{
 					_localctx = new CalcExprContext(_parentctx, _parentState);
 					pushNewRecursionContext(_localctx, _startState, RULE_calcExpr);
-					setState(269);
+					setState(272);
 					if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
-					setState(270);
+					setState(273);
 					match(LineOperator);
-					setState(271);
+					setState(274);
 					dotExpr(0);
 					}
 					} 
 				}
-				setState(276);
+				setState(279);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,28,_ctx);
 			}
@@ -1983,11 +2013,11 @@ public class JavaSubsetParser extends Parser {
 			enterOuterAlt(_localctx, 1);
 			{
 			{
-			setState(278);
+			setState(281);
 			dotSubExpr();
 			}
 			_ctx.stop = _input.LT(-1);
-			setState(285);
+			setState(288);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,29,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
@@ -1998,16 +2028,16 @@ public class JavaSubsetParser extends Parser {
 					{
 					_localctx = new DotExprContext(_parentctx, _parentState);
 					pushNewRecursionContext(_localctx, _startState, RULE_dotExpr);
-					setState(280);
+					setState(283);
 					if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
-					setState(281);
+					setState(284);
 					match(DotOperator);
-					setState(282);
+					setState(285);
 					dotSubExpr();
 					}
 					} 
 				}
-				setState(287);
+				setState(290);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,29,_ctx);
 			}
@@ -2061,45 +2091,45 @@ public class JavaSubsetParser extends Parser {
 		DotSubExprContext _localctx = new DotSubExprContext(_ctx, getState());
 		enterRule(_localctx, 52, RULE_dotSubExpr);
 		try {
-			setState(296);
+			setState(299);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,30,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(288);
+				setState(291);
 				match(IntValue);
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(289);
+				setState(292);
 				match(Identifier);
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(290);
+				setState(293);
 				instVar();
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(291);
+				setState(294);
 				methodCall();
 				}
 				break;
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(292);
+				setState(295);
 				match(OpenRoundBracket);
-				setState(293);
+				setState(296);
 				calcExpr(0);
-				setState(294);
+				setState(297);
 				match(ClosedRoundBracket);
 				}
 				break;
@@ -2151,11 +2181,11 @@ public class JavaSubsetParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(298);
+			setState(301);
 			subExpression();
-			setState(299);
+			setState(302);
 			nonCalcOperator();
-			setState(300);
+			setState(303);
 			expression();
 			}
 		}
@@ -2199,7 +2229,7 @@ public class JavaSubsetParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(302);
+			setState(305);
 			_la = _input.LA(1);
 			if ( !(_la==ComparisonOperator || _la==LogicalOpertor) ) {
 			_errHandler.recoverInline(this);
@@ -2253,14 +2283,14 @@ public class JavaSubsetParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(304);
+			setState(307);
 			match(Return);
-			setState(306);
+			setState(309);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__0) | (1L << T__1) | (1L << BooleanValue) | (1L << NullValue) | (1L << Not) | (1L << OpenRoundBracket) | (1L << This) | (1L << New) | (1L << Identifier) | (1L << CharValue) | (1L << StringValue) | (1L << IntValue))) != 0)) {
 				{
-				setState(305);
+				setState(308);
 				expression();
 				}
 			}
@@ -2313,18 +2343,18 @@ public class JavaSubsetParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(308);
+			setState(311);
 			type();
-			setState(309);
-			match(Identifier);
 			setState(312);
+			match(Identifier);
+			setState(315);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==Assign) {
 				{
-				setState(310);
+				setState(313);
 				match(Assign);
-				setState(311);
+				setState(314);
 				expression();
 				}
 			}
@@ -2377,23 +2407,23 @@ public class JavaSubsetParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(314);
+			setState(317);
 			match(OpenCurlyBracket);
-			setState(318);
+			setState(321);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__0) | (1L << T__1) | (1L << Boolean) | (1L << Char) | (1L << Int) | (1L << OpenCurlyBracket) | (1L << This) | (1L << While) | (1L << If) | (1L << For) | (1L << Return) | (1L << New) | (1L << Identifier))) != 0)) {
 				{
 				{
-				setState(315);
+				setState(318);
 				statement();
 				}
 				}
-				setState(320);
+				setState(323);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(321);
+			setState(324);
 			match(ClosedCurlyBracket);
 			}
 		}
@@ -2443,15 +2473,15 @@ public class JavaSubsetParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(323);
+			setState(326);
 			match(While);
-			setState(324);
+			setState(327);
 			match(OpenRoundBracket);
-			setState(325);
+			setState(328);
 			expression();
-			setState(326);
+			setState(329);
 			match(ClosedRoundBracket);
-			setState(327);
+			setState(330);
 			block();
 			}
 		}
@@ -2514,41 +2544,41 @@ public class JavaSubsetParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(329);
+			setState(332);
 			match(For);
-			setState(330);
-			match(OpenRoundBracket);
 			setState(333);
+			match(OpenRoundBracket);
+			setState(336);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,34,_ctx) ) {
 			case 1:
 				{
-				setState(331);
+				setState(334);
 				stmtExpr();
 				}
 				break;
 			case 2:
 				{
-				setState(332);
+				setState(335);
 				localVarDecl();
 				}
 				break;
 			}
-			setState(335);
+			setState(338);
 			match(Semicolon);
 			{
-			setState(336);
+			setState(339);
 			expression();
 			}
-			setState(337);
+			setState(340);
 			match(Semicolon);
 			{
-			setState(338);
+			setState(341);
 			stmtExpr();
 			}
-			setState(339);
+			setState(342);
 			match(ClosedRoundBracket);
-			setState(340);
+			setState(343);
 			statement();
 			}
 		}
@@ -2595,14 +2625,14 @@ public class JavaSubsetParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(342);
+			setState(345);
 			ifStmt();
-			setState(344);
+			setState(347);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,35,_ctx) ) {
 			case 1:
 				{
-				setState(343);
+				setState(346);
 				elseStmt();
 				}
 				break;
@@ -2655,15 +2685,15 @@ public class JavaSubsetParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(346);
+			setState(349);
 			match(If);
-			setState(347);
+			setState(350);
 			match(OpenRoundBracket);
-			setState(348);
+			setState(351);
 			expression();
-			setState(349);
+			setState(352);
 			match(ClosedRoundBracket);
-			setState(350);
+			setState(353);
 			statement();
 			}
 		}
@@ -2708,9 +2738,9 @@ public class JavaSubsetParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(352);
+			setState(355);
 			match(Else);
-			setState(353);
+			setState(356);
 			statement();
 			}
 		}
@@ -2758,11 +2788,11 @@ public class JavaSubsetParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(355);
+			setState(358);
 			assignableExpr();
-			setState(356);
+			setState(359);
 			match(Assign);
-			setState(357);
+			setState(360);
 			expression();
 			}
 		}
@@ -2810,15 +2840,15 @@ public class JavaSubsetParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(359);
+			setState(362);
 			match(New);
-			setState(360);
+			setState(363);
 			match(Identifier);
-			setState(361);
+			setState(364);
 			match(OpenRoundBracket);
-			setState(362);
+			setState(365);
 			argumentList();
-			setState(363);
+			setState(366);
 			match(ClosedRoundBracket);
 			}
 		}
@@ -2869,35 +2899,35 @@ public class JavaSubsetParser extends Parser {
 			enterOuterAlt(_localctx, 1);
 			{
 			{
-			setState(369);
+			setState(372);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,36,_ctx) ) {
 			case 1:
 				{
-				setState(365);
+				setState(368);
 				match(This);
 				}
 				break;
 			case 2:
 				{
-				setState(366);
+				setState(369);
 				instVar();
 				}
 				break;
 			case 3:
 				{
-				setState(367);
+				setState(370);
 				newDecl();
 				}
 				break;
 			case 4:
 				{
-				setState(368);
+				setState(371);
 				match(Identifier);
 				}
 				break;
 			}
-			setState(371);
+			setState(374);
 			match(Dot);
 			}
 			}
@@ -2946,15 +2976,15 @@ public class JavaSubsetParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(373);
+			setState(376);
 			match(Identifier);
-			setState(374);
+			setState(377);
 			match(OpenRoundBracket);
-			setState(375);
+			setState(378);
 			argumentList();
-			setState(376);
+			setState(379);
 			match(ClosedRoundBracket);
-			setState(377);
+			setState(380);
 			match(Dot);
 			}
 		}
@@ -3000,7 +3030,7 @@ public class JavaSubsetParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(379);
+			setState(382);
 			_la = _input.LA(1);
 			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << Boolean) | (1L << Char) | (1L << Int) | (1L << Identifier))) != 0)) ) {
 			_errHandler.recoverInline(this);
@@ -3055,7 +3085,7 @@ public class JavaSubsetParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(381);
+			setState(384);
 			_la = _input.LA(1);
 			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BooleanValue) | (1L << NullValue) | (1L << CharValue) | (1L << StringValue) | (1L << IntValue))) != 0)) ) {
 			_errHandler.recoverInline(this);
@@ -3103,7 +3133,7 @@ public class JavaSubsetParser extends Parser {
 	}
 
 	public static final String _serializedATN =
-		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\3\65\u0182\4\2\t\2"+
+		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\3\65\u0185\4\2\t\2"+
 		"\4\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13"+
 		"\t\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22\t\22"+
 		"\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\4\31\t\31"+
@@ -3114,127 +3144,129 @@ public class JavaSubsetParser extends Parser {
 		"\5\5\5y\n\5\3\5\3\5\5\5}\n\5\3\5\3\5\3\5\5\5\u0082\n\5\3\5\3\5\5\5\u0086"+
 		"\n\5\3\6\5\6\u0089\n\6\3\6\3\6\3\6\3\6\3\7\3\7\3\7\7\7\u0092\n\7\f\7\16"+
 		"\7\u0095\13\7\3\b\3\b\3\b\3\t\5\t\u009b\n\t\3\t\3\t\3\t\7\t\u00a0\n\t"+
-		"\f\t\16\t\u00a3\13\t\5\t\u00a5\n\t\3\n\3\n\5\n\u00a9\n\n\3\13\3\13\3\13"+
-		"\3\13\3\13\3\13\3\13\3\13\3\13\3\13\5\13\u00b5\n\13\3\f\5\f\u00b8\n\f"+
-		"\3\f\7\f\u00bb\n\f\f\f\16\f\u00be\13\f\3\f\3\f\3\f\3\f\3\f\3\r\3\r\3\r"+
-		"\3\r\3\r\3\r\3\r\3\r\3\r\3\r\3\r\3\r\3\r\5\r\u00d2\n\r\3\16\3\16\3\16"+
-		"\3\16\5\16\u00d8\n\16\3\17\3\17\3\17\3\20\3\20\5\20\u00df\n\20\3\21\3"+
-		"\21\5\21\u00e3\n\21\3\22\3\22\3\22\3\23\3\23\3\23\3\24\3\24\5\24\u00ed"+
-		"\n\24\3\25\3\25\3\25\3\26\3\26\3\26\3\27\3\27\5\27\u00f7\n\27\3\30\3\30"+
-		"\3\30\3\30\3\30\5\30\u00fe\n\30\3\30\3\30\6\30\u0102\n\30\r\30\16\30\u0103"+
-		"\3\30\5\30\u0107\n\30\3\31\3\31\5\31\u010b\n\31\3\32\3\32\3\32\3\32\3"+
-		"\32\3\32\7\32\u0113\n\32\f\32\16\32\u0116\13\32\3\33\3\33\3\33\3\33\3"+
-		"\33\3\33\7\33\u011e\n\33\f\33\16\33\u0121\13\33\3\34\3\34\3\34\3\34\3"+
-		"\34\3\34\3\34\3\34\5\34\u012b\n\34\3\35\3\35\3\35\3\35\3\36\3\36\3\37"+
-		"\3\37\5\37\u0135\n\37\3 \3 \3 \3 \5 \u013b\n \3!\3!\7!\u013f\n!\f!\16"+
-		"!\u0142\13!\3!\3!\3\"\3\"\3\"\3\"\3\"\3\"\3#\3#\3#\3#\5#\u0150\n#\3#\3"+
-		"#\3#\3#\3#\3#\3#\3$\3$\5$\u015b\n$\3%\3%\3%\3%\3%\3%\3&\3&\3&\3\'\3\'"+
-		"\3\'\3\'\3(\3(\3(\3(\3(\3(\3)\3)\3)\3)\5)\u0174\n)\3)\3)\3*\3*\3*\3*\3"+
-		"*\3*\3+\3+\3,\3,\3,\3\u00a1\4\62\64-\2\4\6\b\n\f\16\20\22\24\26\30\32"+
-		"\34\36 \"$&(*,.\60\62\64\668:<>@BDFHJLNPRTV\2\5\3\2\17\20\4\2\n\f//\4"+
-		"\2\5\6\60\62\2\u018d\2Y\3\2\2\2\4]\3\2\2\2\6k\3\2\2\2\b\u0085\3\2\2\2"+
-		"\n\u0088\3\2\2\2\f\u008e\3\2\2\2\16\u0096\3\2\2\2\20\u00a4\3\2\2\2\22"+
-		"\u00a8\3\2\2\2\24\u00b4\3\2\2\2\26\u00b7\3\2\2\2\30\u00d1\3\2\2\2\32\u00d7"+
-		"\3\2\2\2\34\u00d9\3\2\2\2\36\u00de\3\2\2\2 \u00e2\3\2\2\2\"\u00e4\3\2"+
-		"\2\2$\u00e7\3\2\2\2&\u00ec\3\2\2\2(\u00ee\3\2\2\2*\u00f1\3\2\2\2,\u00f6"+
-		"\3\2\2\2.\u0106\3\2\2\2\60\u010a\3\2\2\2\62\u010c\3\2\2\2\64\u0117\3\2"+
-		"\2\2\66\u012a\3\2\2\28\u012c\3\2\2\2:\u0130\3\2\2\2<\u0132\3\2\2\2>\u0136"+
-		"\3\2\2\2@\u013c\3\2\2\2B\u0145\3\2\2\2D\u014b\3\2\2\2F\u0158\3\2\2\2H"+
-		"\u015c\3\2\2\2J\u0162\3\2\2\2L\u0165\3\2\2\2N\u0169\3\2\2\2P\u0173\3\2"+
-		"\2\2R\u0177\3\2\2\2T\u017d\3\2\2\2V\u017f\3\2\2\2XZ\5\4\3\2YX\3\2\2\2"+
-		"Z[\3\2\2\2[Y\3\2\2\2[\\\3\2\2\2\\\3\3\2\2\2]^\7\'\2\2^_\7/\2\2_e\7#\2"+
-		"\2`d\5\6\4\2ad\5\n\6\2bd\5\b\5\2c`\3\2\2\2ca\3\2\2\2cb\3\2\2\2dg\3\2\2"+
-		"\2ec\3\2\2\2ef\3\2\2\2fh\3\2\2\2ge\3\2\2\2hi\7$\2\2i\5\3\2\2\2jl\7\7\2"+
-		"\2kj\3\2\2\2kl\3\2\2\2lm\3\2\2\2mn\7/\2\2np\7!\2\2oq\5\f\7\2po\3\2\2\2"+
-		"pq\3\2\2\2qr\3\2\2\2rs\7\"\2\2st\5@!\2t\7\3\2\2\2uv\7\b\2\2v\u0086\5@"+
-		"!\2wy\7\7\2\2xw\3\2\2\2xy\3\2\2\2y|\3\2\2\2z}\5T+\2{}\7\t\2\2|z\3\2\2"+
-		"\2|{\3\2\2\2}~\3\2\2\2~\177\7/\2\2\177\u0081\7!\2\2\u0080\u0082\5\f\7"+
-		"\2\u0081\u0080\3\2\2\2\u0081\u0082\3\2\2\2\u0082\u0083\3\2\2\2\u0083\u0084"+
-		"\7\"\2\2\u0084\u0086\5@!\2\u0085u\3\2\2\2\u0085x\3\2\2\2\u0086\t\3\2\2"+
-		"\2\u0087\u0089\7\7\2\2\u0088\u0087\3\2\2\2\u0088\u0089\3\2\2\2\u0089\u008a"+
-		"\3\2\2\2\u008a\u008b\5T+\2\u008b\u008c\7/\2\2\u008c\u008d\7%\2\2\u008d"+
-		"\13\3\2\2\2\u008e\u0093\5\16\b\2\u008f\u0090\7&\2\2\u0090\u0092\5\16\b"+
-		"\2\u0091\u008f\3\2\2\2\u0092\u0095\3\2\2\2\u0093\u0091\3\2\2\2\u0093\u0094"+
-		"\3\2\2\2\u0094\r\3\2\2\2\u0095\u0093\3\2\2\2\u0096\u0097\5T+\2\u0097\u0098"+
-		"\7/\2\2\u0098\17\3\2\2\2\u0099\u009b\5\22\n\2\u009a\u0099\3\2\2\2\u009a"+
-		"\u009b\3\2\2\2\u009b\u00a5\3\2\2\2\u009c\u00a1\5\22\n\2\u009d\u009e\7"+
-		"&\2\2\u009e\u00a0\5\22\n\2\u009f\u009d\3\2\2\2\u00a0\u00a3\3\2\2\2\u00a1"+
-		"\u00a2\3\2\2\2\u00a1\u009f\3\2\2\2\u00a2\u00a5\3\2\2\2\u00a3\u00a1\3\2"+
-		"\2\2\u00a4\u009a\3\2\2\2\u00a4\u009c\3\2\2\2\u00a5\21\3\2\2\2\u00a6\u00a9"+
-		"\5\24\13\2\u00a7\u00a9\5\60\31\2\u00a8\u00a6\3\2\2\2\u00a8\u00a7\3\2\2"+
-		"\2\u00a9\23\3\2\2\2\u00aa\u00b5\7(\2\2\u00ab\u00b5\7/\2\2\u00ac\u00b5"+
-		"\5.\30\2\u00ad\u00b5\5V,\2\u00ae\u00b5\5\32\16\2\u00af\u00b5\5\34\17\2"+
-		"\u00b0\u00b1\7!\2\2\u00b1\u00b2\5\22\n\2\u00b2\u00b3\7\"\2\2\u00b3\u00b5"+
-		"\3\2\2\2\u00b4\u00aa\3\2\2\2\u00b4\u00ab\3\2\2\2\u00b4\u00ac\3\2\2\2\u00b4"+
-		"\u00ad\3\2\2\2\u00b4\u00ae\3\2\2\2\u00b4\u00af\3\2\2\2\u00b4\u00b0\3\2"+
-		"\2\2\u00b5\25\3\2\2\2\u00b6\u00b8\5P)\2\u00b7\u00b6\3\2\2\2\u00b7\u00b8"+
-		"\3\2\2\2\u00b8\u00bc\3\2\2\2\u00b9\u00bb\5R*\2\u00ba\u00b9\3\2\2\2\u00bb"+
-		"\u00be\3\2\2\2\u00bc\u00ba\3\2\2\2\u00bc\u00bd\3\2\2\2\u00bd\u00bf\3\2"+
-		"\2\2\u00be\u00bc\3\2\2\2\u00bf\u00c0\7/\2\2\u00c0\u00c1\7!\2\2\u00c1\u00c2"+
-		"\5\20\t\2\u00c2\u00c3\7\"\2\2\u00c3\27\3\2\2\2\u00c4\u00c5\5<\37\2\u00c5"+
-		"\u00c6\7%\2\2\u00c6\u00d2\3\2\2\2\u00c7\u00c8\5> \2\u00c8\u00c9\7%\2\2"+
-		"\u00c9\u00d2\3\2\2\2\u00ca\u00d2\5@!\2\u00cb\u00d2\5B\"\2\u00cc\u00d2"+
-		"\5D#\2\u00cd\u00d2\5F$\2\u00ce\u00cf\5\32\16\2\u00cf\u00d0\7%\2\2\u00d0"+
-		"\u00d2\3\2\2\2\u00d1\u00c4\3\2\2\2\u00d1\u00c7\3\2\2\2\u00d1\u00ca\3\2"+
-		"\2\2\u00d1\u00cb\3\2\2\2\u00d1\u00cc\3\2\2\2\u00d1\u00cd\3\2\2\2\u00d1"+
-		"\u00ce\3\2\2\2\u00d2\31\3\2\2\2\u00d3\u00d8\5L\'\2\u00d4\u00d8\5N(\2\u00d5"+
-		"\u00d8\5\26\f\2\u00d6\u00d8\5\36\20\2\u00d7\u00d3\3\2\2\2\u00d7\u00d4"+
-		"\3\2\2\2\u00d7\u00d5\3\2\2\2\u00d7\u00d6\3\2\2\2\u00d8\33\3\2\2\2\u00d9"+
-		"\u00da\7\35\2\2\u00da\u00db\5\22\n\2\u00db\35\3\2\2\2\u00dc\u00df\5 \21"+
-		"\2\u00dd\u00df\5&\24\2\u00de\u00dc\3\2\2\2\u00de\u00dd\3\2\2\2\u00df\37"+
-		"\3\2\2\2\u00e0\u00e3\5\"\22\2\u00e1\u00e3\5$\23\2\u00e2\u00e0\3\2\2\2"+
-		"\u00e2\u00e1\3\2\2\2\u00e3!\3\2\2\2\u00e4\u00e5\7\3\2\2\u00e5\u00e6\5"+
-		",\27\2\u00e6#\3\2\2\2\u00e7\u00e8\5,\27\2\u00e8\u00e9\7\3\2\2\u00e9%\3"+
-		"\2\2\2\u00ea\u00ed\5(\25\2\u00eb\u00ed\5*\26\2\u00ec\u00ea\3\2\2\2\u00ec"+
-		"\u00eb\3\2\2\2\u00ed\'\3\2\2\2\u00ee\u00ef\7\4\2\2\u00ef\u00f0\5,\27\2"+
-		"\u00f0)\3\2\2\2\u00f1\u00f2\5,\27\2\u00f2\u00f3\7\4\2\2\u00f3+\3\2\2\2"+
-		"\u00f4\u00f7\7/\2\2\u00f5\u00f7\5.\30\2\u00f6\u00f4\3\2\2\2\u00f6\u00f5"+
-		"\3\2\2\2\u00f7-\3\2\2\2\u00f8\u00f9\7(\2\2\u00f9\u00fa\7 \2\2\u00fa\u0107"+
-		"\7/\2\2\u00fb\u00fc\7(\2\2\u00fc\u00fe\7 \2\2\u00fd\u00fb\3\2\2\2\u00fd"+
-		"\u00fe\3\2\2\2\u00fe\u0101\3\2\2\2\u00ff\u0100\7/\2\2\u0100\u0102\7 \2"+
-		"\2\u0101\u00ff\3\2\2\2\u0102\u0103\3\2\2\2\u0103\u0101\3\2\2\2\u0103\u0104"+
-		"\3\2\2\2\u0104\u0105\3\2\2\2\u0105\u0107\7/\2\2\u0106\u00f8\3\2\2\2\u0106"+
-		"\u00fd\3\2\2\2\u0107/\3\2\2\2\u0108\u010b\5\62\32\2\u0109\u010b\58\35"+
-		"\2\u010a\u0108\3\2\2\2\u010a\u0109\3\2\2\2\u010b\61\3\2\2\2\u010c\u010d"+
-		"\b\32\1\2\u010d\u010e\5\64\33\2\u010e\u0114\3\2\2\2\u010f\u0110\f\4\2"+
-		"\2\u0110\u0111\7\16\2\2\u0111\u0113\5\64\33\2\u0112\u010f\3\2\2\2\u0113"+
-		"\u0116\3\2\2\2\u0114\u0112\3\2\2\2\u0114\u0115\3\2\2\2\u0115\63\3\2\2"+
-		"\2\u0116\u0114\3\2\2\2\u0117\u0118\b\33\1\2\u0118\u0119\5\66\34\2\u0119"+
-		"\u011f\3\2\2\2\u011a\u011b\f\4\2\2\u011b\u011c\7\r\2\2\u011c\u011e\5\66"+
-		"\34\2\u011d\u011a\3\2\2\2\u011e\u0121\3\2\2\2\u011f\u011d\3\2\2\2\u011f"+
-		"\u0120\3\2\2\2\u0120\65\3\2\2\2\u0121\u011f\3\2\2\2\u0122\u012b\7\62\2"+
-		"\2\u0123\u012b\7/\2\2\u0124\u012b\5.\30\2\u0125\u012b\5\26\f\2\u0126\u0127"+
-		"\7!\2\2\u0127\u0128\5\62\32\2\u0128\u0129\7\"\2\2\u0129\u012b\3\2\2\2"+
-		"\u012a\u0122\3\2\2\2\u012a\u0123\3\2\2\2\u012a\u0124\3\2\2\2\u012a\u0125"+
-		"\3\2\2\2\u012a\u0126\3\2\2\2\u012b\67\3\2\2\2\u012c\u012d\5\24\13\2\u012d"+
-		"\u012e\5:\36\2\u012e\u012f\5\22\n\2\u012f9\3\2\2\2\u0130\u0131\t\2\2\2"+
-		"\u0131;\3\2\2\2\u0132\u0134\7-\2\2\u0133\u0135\5\22\n\2\u0134\u0133\3"+
-		"\2\2\2\u0134\u0135\3\2\2\2\u0135=\3\2\2\2\u0136\u0137\5T+\2\u0137\u013a"+
-		"\7/\2\2\u0138\u0139\7\21\2\2\u0139\u013b\5\22\n\2\u013a\u0138\3\2\2\2"+
-		"\u013a\u013b\3\2\2\2\u013b?\3\2\2\2\u013c\u0140\7#\2\2\u013d\u013f\5\30"+
-		"\r\2\u013e\u013d\3\2\2\2\u013f\u0142\3\2\2\2\u0140\u013e\3\2\2\2\u0140"+
-		"\u0141\3\2\2\2\u0141\u0143\3\2\2\2\u0142\u0140\3\2\2\2\u0143\u0144\7$"+
-		"\2\2\u0144A\3\2\2\2\u0145\u0146\7)\2\2\u0146\u0147\7!\2\2\u0147\u0148"+
-		"\5\22\n\2\u0148\u0149\7\"\2\2\u0149\u014a\5@!\2\u014aC\3\2\2\2\u014b\u014c"+
-		"\7,\2\2\u014c\u014f\7!\2\2\u014d\u0150\5\32\16\2\u014e\u0150\5> \2\u014f"+
-		"\u014d\3\2\2\2\u014f\u014e\3\2\2\2\u0150\u0151\3\2\2\2\u0151\u0152\7%"+
-		"\2\2\u0152\u0153\5\22\n\2\u0153\u0154\7%\2\2\u0154\u0155\5\32\16\2\u0155"+
-		"\u0156\7\"\2\2\u0156\u0157\5\30\r\2\u0157E\3\2\2\2\u0158\u015a\5H%\2\u0159"+
-		"\u015b\5J&\2\u015a\u0159\3\2\2\2\u015a\u015b\3\2\2\2\u015bG\3\2\2\2\u015c"+
-		"\u015d\7*\2\2\u015d\u015e\7!\2\2\u015e\u015f\5\22\n\2\u015f\u0160\7\""+
-		"\2\2\u0160\u0161\5\30\r\2\u0161I\3\2\2\2\u0162\u0163\7+\2\2\u0163\u0164"+
-		"\5\30\r\2\u0164K\3\2\2\2\u0165\u0166\5,\27\2\u0166\u0167\7\21\2\2\u0167"+
-		"\u0168\5\22\n\2\u0168M\3\2\2\2\u0169\u016a\7.\2\2\u016a\u016b\7/\2\2\u016b"+
-		"\u016c\7!\2\2\u016c\u016d\5\20\t\2\u016d\u016e\7\"\2\2\u016eO\3\2\2\2"+
-		"\u016f\u0174\7(\2\2\u0170\u0174\5.\30\2\u0171\u0174\5N(\2\u0172\u0174"+
-		"\7/\2\2\u0173\u016f\3\2\2\2\u0173\u0170\3\2\2\2\u0173\u0171\3\2\2\2\u0173"+
-		"\u0172\3\2\2\2\u0174\u0175\3\2\2\2\u0175\u0176\7 \2\2\u0176Q\3\2\2\2\u0177"+
-		"\u0178\7/\2\2\u0178\u0179\7!\2\2\u0179\u017a\5\20\t\2\u017a\u017b\7\""+
-		"\2\2\u017b\u017c\7 \2\2\u017cS\3\2\2\2\u017d\u017e\t\3\2\2\u017eU\3\2"+
-		"\2\2\u017f\u0180\t\4\2\2\u0180W\3\2\2\2\'[cekpx|\u0081\u0085\u0088\u0093"+
-		"\u009a\u00a1\u00a4\u00a8\u00b4\u00b7\u00bc\u00d1\u00d7\u00de\u00e2\u00ec"+
-		"\u00f6\u00fd\u0103\u0106\u010a\u0114\u011f\u012a\u0134\u013a\u0140\u014f"+
-		"\u015a\u0173";
+		"\f\t\16\t\u00a3\13\t\5\t\u00a5\n\t\3\n\3\n\3\n\5\n\u00aa\n\n\3\13\3\13"+
+		"\3\13\3\13\3\13\3\13\3\13\3\13\3\13\3\13\3\13\3\13\5\13\u00b8\n\13\3\f"+
+		"\5\f\u00bb\n\f\3\f\7\f\u00be\n\f\f\f\16\f\u00c1\13\f\3\f\3\f\3\f\3\f\3"+
+		"\f\3\r\3\r\3\r\3\r\3\r\3\r\3\r\3\r\3\r\3\r\3\r\3\r\3\r\5\r\u00d5\n\r\3"+
+		"\16\3\16\3\16\3\16\5\16\u00db\n\16\3\17\3\17\3\17\3\20\3\20\5\20\u00e2"+
+		"\n\20\3\21\3\21\5\21\u00e6\n\21\3\22\3\22\3\22\3\23\3\23\3\23\3\24\3\24"+
+		"\5\24\u00f0\n\24\3\25\3\25\3\25\3\26\3\26\3\26\3\27\3\27\5\27\u00fa\n"+
+		"\27\3\30\3\30\3\30\3\30\3\30\5\30\u0101\n\30\3\30\3\30\6\30\u0105\n\30"+
+		"\r\30\16\30\u0106\3\30\5\30\u010a\n\30\3\31\3\31\5\31\u010e\n\31\3\32"+
+		"\3\32\3\32\3\32\3\32\3\32\7\32\u0116\n\32\f\32\16\32\u0119\13\32\3\33"+
+		"\3\33\3\33\3\33\3\33\3\33\7\33\u0121\n\33\f\33\16\33\u0124\13\33\3\34"+
+		"\3\34\3\34\3\34\3\34\3\34\3\34\3\34\5\34\u012e\n\34\3\35\3\35\3\35\3\35"+
+		"\3\36\3\36\3\37\3\37\5\37\u0138\n\37\3 \3 \3 \3 \5 \u013e\n \3!\3!\7!"+
+		"\u0142\n!\f!\16!\u0145\13!\3!\3!\3\"\3\"\3\"\3\"\3\"\3\"\3#\3#\3#\3#\5"+
+		"#\u0153\n#\3#\3#\3#\3#\3#\3#\3#\3$\3$\5$\u015e\n$\3%\3%\3%\3%\3%\3%\3"+
+		"&\3&\3&\3\'\3\'\3\'\3\'\3(\3(\3(\3(\3(\3(\3)\3)\3)\3)\5)\u0177\n)\3)\3"+
+		")\3*\3*\3*\3*\3*\3*\3+\3+\3,\3,\3,\3\u00a1\4\62\64-\2\4\6\b\n\f\16\20"+
+		"\22\24\26\30\32\34\36 \"$&(*,.\60\62\64\668:<>@BDFHJLNPRTV\2\5\3\2\17"+
+		"\20\4\2\n\f//\4\2\5\6\60\62\2\u0193\2Y\3\2\2\2\4]\3\2\2\2\6k\3\2\2\2\b"+
+		"\u0085\3\2\2\2\n\u0088\3\2\2\2\f\u008e\3\2\2\2\16\u0096\3\2\2\2\20\u00a4"+
+		"\3\2\2\2\22\u00a9\3\2\2\2\24\u00b7\3\2\2\2\26\u00ba\3\2\2\2\30\u00d4\3"+
+		"\2\2\2\32\u00da\3\2\2\2\34\u00dc\3\2\2\2\36\u00e1\3\2\2\2 \u00e5\3\2\2"+
+		"\2\"\u00e7\3\2\2\2$\u00ea\3\2\2\2&\u00ef\3\2\2\2(\u00f1\3\2\2\2*\u00f4"+
+		"\3\2\2\2,\u00f9\3\2\2\2.\u0109\3\2\2\2\60\u010d\3\2\2\2\62\u010f\3\2\2"+
+		"\2\64\u011a\3\2\2\2\66\u012d\3\2\2\28\u012f\3\2\2\2:\u0133\3\2\2\2<\u0135"+
+		"\3\2\2\2>\u0139\3\2\2\2@\u013f\3\2\2\2B\u0148\3\2\2\2D\u014e\3\2\2\2F"+
+		"\u015b\3\2\2\2H\u015f\3\2\2\2J\u0165\3\2\2\2L\u0168\3\2\2\2N\u016c\3\2"+
+		"\2\2P\u0176\3\2\2\2R\u017a\3\2\2\2T\u0180\3\2\2\2V\u0182\3\2\2\2XZ\5\4"+
+		"\3\2YX\3\2\2\2Z[\3\2\2\2[Y\3\2\2\2[\\\3\2\2\2\\\3\3\2\2\2]^\7\'\2\2^_"+
+		"\7/\2\2_e\7#\2\2`d\5\6\4\2ad\5\n\6\2bd\5\b\5\2c`\3\2\2\2ca\3\2\2\2cb\3"+
+		"\2\2\2dg\3\2\2\2ec\3\2\2\2ef\3\2\2\2fh\3\2\2\2ge\3\2\2\2hi\7$\2\2i\5\3"+
+		"\2\2\2jl\7\7\2\2kj\3\2\2\2kl\3\2\2\2lm\3\2\2\2mn\7/\2\2np\7!\2\2oq\5\f"+
+		"\7\2po\3\2\2\2pq\3\2\2\2qr\3\2\2\2rs\7\"\2\2st\5@!\2t\7\3\2\2\2uv\7\b"+
+		"\2\2v\u0086\5@!\2wy\7\7\2\2xw\3\2\2\2xy\3\2\2\2y|\3\2\2\2z}\5T+\2{}\7"+
+		"\t\2\2|z\3\2\2\2|{\3\2\2\2}~\3\2\2\2~\177\7/\2\2\177\u0081\7!\2\2\u0080"+
+		"\u0082\5\f\7\2\u0081\u0080\3\2\2\2\u0081\u0082\3\2\2\2\u0082\u0083\3\2"+
+		"\2\2\u0083\u0084\7\"\2\2\u0084\u0086\5@!\2\u0085u\3\2\2\2\u0085x\3\2\2"+
+		"\2\u0086\t\3\2\2\2\u0087\u0089\7\7\2\2\u0088\u0087\3\2\2\2\u0088\u0089"+
+		"\3\2\2\2\u0089\u008a\3\2\2\2\u008a\u008b\5T+\2\u008b\u008c\7/\2\2\u008c"+
+		"\u008d\7%\2\2\u008d\13\3\2\2\2\u008e\u0093\5\16\b\2\u008f\u0090\7&\2\2"+
+		"\u0090\u0092\5\16\b\2\u0091\u008f\3\2\2\2\u0092\u0095\3\2\2\2\u0093\u0091"+
+		"\3\2\2\2\u0093\u0094\3\2\2\2\u0094\r\3\2\2\2\u0095\u0093\3\2\2\2\u0096"+
+		"\u0097\5T+\2\u0097\u0098\7/\2\2\u0098\17\3\2\2\2\u0099\u009b\5\22\n\2"+
+		"\u009a\u0099\3\2\2\2\u009a\u009b\3\2\2\2\u009b\u00a5\3\2\2\2\u009c\u00a1"+
+		"\5\22\n\2\u009d\u009e\7&\2\2\u009e\u00a0\5\22\n\2\u009f\u009d\3\2\2\2"+
+		"\u00a0\u00a3\3\2\2\2\u00a1\u00a2\3\2\2\2\u00a1\u009f\3\2\2\2\u00a2\u00a5"+
+		"\3\2\2\2\u00a3\u00a1\3\2\2\2\u00a4\u009a\3\2\2\2\u00a4\u009c\3\2\2\2\u00a5"+
+		"\21\3\2\2\2\u00a6\u00aa\5\24\13\2\u00a7\u00aa\5\60\31\2\u00a8\u00aa\5"+
+		"L\'\2\u00a9\u00a6\3\2\2\2\u00a9\u00a7\3\2\2\2\u00a9\u00a8\3\2\2\2\u00aa"+
+		"\23\3\2\2\2\u00ab\u00b8\7(\2\2\u00ac\u00b8\7/\2\2\u00ad\u00b8\5.\30\2"+
+		"\u00ae\u00b8\5V,\2\u00af\u00b8\5N(\2\u00b0\u00b8\5\26\f\2\u00b1\u00b8"+
+		"\5\36\20\2\u00b2\u00b8\5\34\17\2\u00b3\u00b4\7!\2\2\u00b4\u00b5\5\22\n"+
+		"\2\u00b5\u00b6\7\"\2\2\u00b6\u00b8\3\2\2\2\u00b7\u00ab\3\2\2\2\u00b7\u00ac"+
+		"\3\2\2\2\u00b7\u00ad\3\2\2\2\u00b7\u00ae\3\2\2\2\u00b7\u00af\3\2\2\2\u00b7"+
+		"\u00b0\3\2\2\2\u00b7\u00b1\3\2\2\2\u00b7\u00b2\3\2\2\2\u00b7\u00b3\3\2"+
+		"\2\2\u00b8\25\3\2\2\2\u00b9\u00bb\5P)\2\u00ba\u00b9\3\2\2\2\u00ba\u00bb"+
+		"\3\2\2\2\u00bb\u00bf\3\2\2\2\u00bc\u00be\5R*\2\u00bd\u00bc\3\2\2\2\u00be"+
+		"\u00c1\3\2\2\2\u00bf\u00bd\3\2\2\2\u00bf\u00c0\3\2\2\2\u00c0\u00c2\3\2"+
+		"\2\2\u00c1\u00bf\3\2\2\2\u00c2\u00c3\7/\2\2\u00c3\u00c4\7!\2\2\u00c4\u00c5"+
+		"\5\20\t\2\u00c5\u00c6\7\"\2\2\u00c6\27\3\2\2\2\u00c7\u00c8\5<\37\2\u00c8"+
+		"\u00c9\7%\2\2\u00c9\u00d5\3\2\2\2\u00ca\u00cb\5> \2\u00cb\u00cc\7%\2\2"+
+		"\u00cc\u00d5\3\2\2\2\u00cd\u00d5\5@!\2\u00ce\u00d5\5B\"\2\u00cf\u00d5"+
+		"\5D#\2\u00d0\u00d5\5F$\2\u00d1\u00d2\5\32\16\2\u00d2\u00d3\7%\2\2\u00d3"+
+		"\u00d5\3\2\2\2\u00d4\u00c7\3\2\2\2\u00d4\u00ca\3\2\2\2\u00d4\u00cd\3\2"+
+		"\2\2\u00d4\u00ce\3\2\2\2\u00d4\u00cf\3\2\2\2\u00d4\u00d0\3\2\2\2\u00d4"+
+		"\u00d1\3\2\2\2\u00d5\31\3\2\2\2\u00d6\u00db\5L\'\2\u00d7\u00db\5N(\2\u00d8"+
+		"\u00db\5\26\f\2\u00d9\u00db\5\36\20\2\u00da\u00d6\3\2\2\2\u00da\u00d7"+
+		"\3\2\2\2\u00da\u00d8\3\2\2\2\u00da\u00d9\3\2\2\2\u00db\33\3\2\2\2\u00dc"+
+		"\u00dd\7\35\2\2\u00dd\u00de\5\22\n\2\u00de\35\3\2\2\2\u00df\u00e2\5 \21"+
+		"\2\u00e0\u00e2\5&\24\2\u00e1\u00df\3\2\2\2\u00e1\u00e0\3\2\2\2\u00e2\37"+
+		"\3\2\2\2\u00e3\u00e6\5\"\22\2\u00e4\u00e6\5$\23\2\u00e5\u00e3\3\2\2\2"+
+		"\u00e5\u00e4\3\2\2\2\u00e6!\3\2\2\2\u00e7\u00e8\7\3\2\2\u00e8\u00e9\5"+
+		",\27\2\u00e9#\3\2\2\2\u00ea\u00eb\5,\27\2\u00eb\u00ec\7\3\2\2\u00ec%\3"+
+		"\2\2\2\u00ed\u00f0\5(\25\2\u00ee\u00f0\5*\26\2\u00ef\u00ed\3\2\2\2\u00ef"+
+		"\u00ee\3\2\2\2\u00f0\'\3\2\2\2\u00f1\u00f2\7\4\2\2\u00f2\u00f3\5,\27\2"+
+		"\u00f3)\3\2\2\2\u00f4\u00f5\5,\27\2\u00f5\u00f6\7\4\2\2\u00f6+\3\2\2\2"+
+		"\u00f7\u00fa\7/\2\2\u00f8\u00fa\5.\30\2\u00f9\u00f7\3\2\2\2\u00f9\u00f8"+
+		"\3\2\2\2\u00fa-\3\2\2\2\u00fb\u00fc\7(\2\2\u00fc\u00fd\7 \2\2\u00fd\u010a"+
+		"\7/\2\2\u00fe\u00ff\7(\2\2\u00ff\u0101\7 \2\2\u0100\u00fe\3\2\2\2\u0100"+
+		"\u0101\3\2\2\2\u0101\u0104\3\2\2\2\u0102\u0103\7/\2\2\u0103\u0105\7 \2"+
+		"\2\u0104\u0102\3\2\2\2\u0105\u0106\3\2\2\2\u0106\u0104\3\2\2\2\u0106\u0107"+
+		"\3\2\2\2\u0107\u0108\3\2\2\2\u0108\u010a\7/\2\2\u0109\u00fb\3\2\2\2\u0109"+
+		"\u0100\3\2\2\2\u010a/\3\2\2\2\u010b\u010e\5\62\32\2\u010c\u010e\58\35"+
+		"\2\u010d\u010b\3\2\2\2\u010d\u010c\3\2\2\2\u010e\61\3\2\2\2\u010f\u0110"+
+		"\b\32\1\2\u0110\u0111\5\64\33\2\u0111\u0117\3\2\2\2\u0112\u0113\f\4\2"+
+		"\2\u0113\u0114\7\16\2\2\u0114\u0116\5\64\33\2\u0115\u0112\3\2\2\2\u0116"+
+		"\u0119\3\2\2\2\u0117\u0115\3\2\2\2\u0117\u0118\3\2\2\2\u0118\63\3\2\2"+
+		"\2\u0119\u0117\3\2\2\2\u011a\u011b\b\33\1\2\u011b\u011c\5\66\34\2\u011c"+
+		"\u0122\3\2\2\2\u011d\u011e\f\4\2\2\u011e\u011f\7\r\2\2\u011f\u0121\5\66"+
+		"\34\2\u0120\u011d\3\2\2\2\u0121\u0124\3\2\2\2\u0122\u0120\3\2\2\2\u0122"+
+		"\u0123\3\2\2\2\u0123\65\3\2\2\2\u0124\u0122\3\2\2\2\u0125\u012e\7\62\2"+
+		"\2\u0126\u012e\7/\2\2\u0127\u012e\5.\30\2\u0128\u012e\5\26\f\2\u0129\u012a"+
+		"\7!\2\2\u012a\u012b\5\62\32\2\u012b\u012c\7\"\2\2\u012c\u012e\3\2\2\2"+
+		"\u012d\u0125\3\2\2\2\u012d\u0126\3\2\2\2\u012d\u0127\3\2\2\2\u012d\u0128"+
+		"\3\2\2\2\u012d\u0129\3\2\2\2\u012e\67\3\2\2\2\u012f\u0130\5\24\13\2\u0130"+
+		"\u0131\5:\36\2\u0131\u0132\5\22\n\2\u01329\3\2\2\2\u0133\u0134\t\2\2\2"+
+		"\u0134;\3\2\2\2\u0135\u0137\7-\2\2\u0136\u0138\5\22\n\2\u0137\u0136\3"+
+		"\2\2\2\u0137\u0138\3\2\2\2\u0138=\3\2\2\2\u0139\u013a\5T+\2\u013a\u013d"+
+		"\7/\2\2\u013b\u013c\7\21\2\2\u013c\u013e\5\22\n\2\u013d\u013b\3\2\2\2"+
+		"\u013d\u013e\3\2\2\2\u013e?\3\2\2\2\u013f\u0143\7#\2\2\u0140\u0142\5\30"+
+		"\r\2\u0141\u0140\3\2\2\2\u0142\u0145\3\2\2\2\u0143\u0141\3\2\2\2\u0143"+
+		"\u0144\3\2\2\2\u0144\u0146\3\2\2\2\u0145\u0143\3\2\2\2\u0146\u0147\7$"+
+		"\2\2\u0147A\3\2\2\2\u0148\u0149\7)\2\2\u0149\u014a\7!\2\2\u014a\u014b"+
+		"\5\22\n\2\u014b\u014c\7\"\2\2\u014c\u014d\5@!\2\u014dC\3\2\2\2\u014e\u014f"+
+		"\7,\2\2\u014f\u0152\7!\2\2\u0150\u0153\5\32\16\2\u0151\u0153\5> \2\u0152"+
+		"\u0150\3\2\2\2\u0152\u0151\3\2\2\2\u0153\u0154\3\2\2\2\u0154\u0155\7%"+
+		"\2\2\u0155\u0156\5\22\n\2\u0156\u0157\7%\2\2\u0157\u0158\5\32\16\2\u0158"+
+		"\u0159\7\"\2\2\u0159\u015a\5\30\r\2\u015aE\3\2\2\2\u015b\u015d\5H%\2\u015c"+
+		"\u015e\5J&\2\u015d\u015c\3\2\2\2\u015d\u015e\3\2\2\2\u015eG\3\2\2\2\u015f"+
+		"\u0160\7*\2\2\u0160\u0161\7!\2\2\u0161\u0162\5\22\n\2\u0162\u0163\7\""+
+		"\2\2\u0163\u0164\5\30\r\2\u0164I\3\2\2\2\u0165\u0166\7+\2\2\u0166\u0167"+
+		"\5\30\r\2\u0167K\3\2\2\2\u0168\u0169\5,\27\2\u0169\u016a\7\21\2\2\u016a"+
+		"\u016b\5\22\n\2\u016bM\3\2\2\2\u016c\u016d\7.\2\2\u016d\u016e\7/\2\2\u016e"+
+		"\u016f\7!\2\2\u016f\u0170\5\20\t\2\u0170\u0171\7\"\2\2\u0171O\3\2\2\2"+
+		"\u0172\u0177\7(\2\2\u0173\u0177\5.\30\2\u0174\u0177\5N(\2\u0175\u0177"+
+		"\7/\2\2\u0176\u0172\3\2\2\2\u0176\u0173\3\2\2\2\u0176\u0174\3\2\2\2\u0176"+
+		"\u0175\3\2\2\2\u0177\u0178\3\2\2\2\u0178\u0179\7 \2\2\u0179Q\3\2\2\2\u017a"+
+		"\u017b\7/\2\2\u017b\u017c\7!\2\2\u017c\u017d\5\20\t\2\u017d\u017e\7\""+
+		"\2\2\u017e\u017f\7 \2\2\u017fS\3\2\2\2\u0180\u0181\t\3\2\2\u0181U\3\2"+
+		"\2\2\u0182\u0183\t\4\2\2\u0183W\3\2\2\2\'[cekpx|\u0081\u0085\u0088\u0093"+
+		"\u009a\u00a1\u00a4\u00a9\u00b7\u00ba\u00bf\u00d4\u00da\u00e1\u00e5\u00ef"+
+		"\u00f9\u0100\u0106\u0109\u010d\u0117\u0122\u012d\u0137\u013d\u0143\u0152"+
+		"\u015d\u0176";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
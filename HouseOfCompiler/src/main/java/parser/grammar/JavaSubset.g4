@@ -15,10 +15,11 @@ parameter: type Identifier;
 
 argumentList: expression? | expression (Comma expression)*?;
 //property, object.a, 3+1, a = 3
-expression: subExpression | binaryExpr;
+//assign sits here and not in subExpression, so no subExpression ends in an expression (keeps SLL prediction exact for comparisons)
+expression: subExpression | binaryExpr | assign;
 
 //subExpression to dissolve left-recusion
-subExpression: This | Identifier | instVar  | value | stmtExpr | notExpr | OpenRoundBracket expression ClosedRoundBracket;
+subExpression: This | Identifier | instVar  | value | newDecl | methodCall | crementExpr | notExpr | OpenRoundBracket expression ClosedRoundBracket;
 
 methodCall: receiver? receivingMethod* Identifier OpenRoundBracket argumentList ClosedRoundBracket;
 //int a, {...}, while(a > 10){...}, for(i=0;i<10;i++){...}, if(...){...} else if{...} else{...}
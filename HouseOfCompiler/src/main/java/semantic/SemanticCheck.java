@@ -2,13 +2,21 @@ package semantic;
 
 import java.util.ArrayList;
 import java.util.Objects;
+import java.util.Set;
+import java.util.stream.IntStream;
 
 import common.BaseType;
+import common.CompileListener;
+import common.CompilePhase;
+import common.ExecutionMode;
 import common.Operator;
+import common.PhaseStats;
+import common.PhaseTimer;
 import common.Primitives;
 import common.PrintableVector;
 import common.ReferenceType;
 import common.Type;
+import common.jfr.SemanticCheckEvent;
 import context.Context;
 import context.ScopeContext;
 import semantic.exceptions.AlreadyDefinedException;
@@ -58,25 +66,152 @@ public class SemanticCheck implements SemanticVisitor {
 
     public ArrayList<Exception> errors = new ArrayList<>();
 
+    private final ExecutionMode mode;
+
+    // null checks every class
+    private Set<String> classesToCheck;
+
+    // null skips the per class measurements
+    private CompileListener listener;
+    // the whole check, collects the classes checked on other threads
+    private PhaseTimer phaseTimer;
+
+    public SemanticCheck() {
+        this(ExecutionMode.SERIAL);
+    }
+
+    public SemanticCheck(ExecutionMode mode) {
+        this.mode = mode;
+    }
+
+    /**
+     * Checker for a single class, sharing the already built Context
+     *
+     * @param context
+     * @param fileName
+     */
+    private SemanticCheck(Context context, String fileName) {
+        this(ExecutionMode.SERIAL);
+        this.context = context;
+        this.fileName = fileName;
+        this.currentLocalScope = new ScopeContext(context.getTypes());
+    }
+
     /**
      * @param program
      * @return Program
      * @throws SemanticError
      */
     public static Program generateTast(Program program) throws SemanticError {
-        SemanticCheck semanticCheck = new SemanticCheck();
+        return generateTast(program, ExecutionMode.SERIAL, null, null);
+    }
+
+    /**
+     * @param program
+     * @param mode
+     * @param listener receives the measurements of every checked class and
+     *                 of the whole check
+     * @return Program
+     * @throws SemanticError
+     */
+    public static Program generateTast(Program program, ExecutionMode mode, CompileListener listener)
+            throws SemanticError {
+        return generateTast(program, mode, null, listener);
+    }
+
+    /**
+     * Builds the Context from every class of the program, but only checks the
+     * given classes. Used by incremental compilation.
+     *
+     * @param program
+     * @param classesToCheck identifiers of the classes to check
+     * @return Program
+     * @throws SemanticError
+     */
+    public static Program generateTast(Program program, Set<String> classesToCheck) throws SemanticError {
+        return generateTast(program, classesToCheck, null);
+    }
+
+    /**
+     * @param program
+     * @param classesToCheck identifiers of the classes to check
+     * @param listener       receives the measurements of every checked class
+     *                       and of the whole check
+     * @return Program
+     * @throws SemanticError
+     */
+    public static Program generateTast(Program program, Set<String> classesToCheck, CompileListener listener)
+            throws SemanticError {
+        return generateTast(program, ExecutionMode.SERIAL, classesToCheck, listener);
+    }
+
+    /**
+     * @param program
+     * @return Program
+     * @throws SemanticError
+     */
+    public static Program generateTastParallel(Program program) throws SemanticError {
+        return generateTast(program, ExecutionMode.PARALLEL, null, null);
+    }
+
+    /**
+     * @param program
+     * @param mode
+     * @param classesToCheck identifiers of the classes to check, null checks
+     *                       every class
+     * @param listener       receives the measurements of every checked class
+     *                       and of the whole check, may be null
+     * @return Program
+     * @throws SemanticError
+     */
+    public static Program generateTast(Program program, ExecutionMode mode, Set<String> classesToCheck,
+            CompileListener listener) throws SemanticError {
+        SemanticCheck semanticCheck = new SemanticCheck(mode);
+        semanticCheck.classesToCheck = classesToCheck;
+        semanticCheck.listener = listener;
+        semanticCheck.phaseTimer = listener == null ? null : PhaseTimer.start();
         var result = program.accept(semanticCheck);
+        if (listener != null) {
+            listener.phaseFinished(semanticCheck.phaseTimer.stop(CompilePhase.SEMANTIC_CHECK, null));
+        }
         if (result.isValid()) {
             return program;
         } else {
-            String ANSI_RESET = "\u001B[0m";
-            String ANSI_RED = "\u001B[31m";
-            var errorString = "\n" + ANSI_RED;
-            for (int i = semanticCheck.errors.size() - 1; i >= 0; i--) {
-                errorString += semanticCheck.errors.get(i).getMessage() + "\n";
-            }
-            throw new SemanticError(errorString + ANSI_RESET);
+            throw semanticCheck.toSemanticError();
+        }
+    }
+
+    /**
+     * Checks a single class against a Context that already holds the
+     * signatures of every class of the program. Used by the streaming
+     * compilation, which never has the whole Program at once.
+     *
+     * @param classDecl
+     * @param context
+     * @param fileName  used in the error locations
+     * @return ClassDecl
+     * @throws SemanticError
+     */
+    public static ClassDecl generateTast(ClassDecl classDecl, Context context, String fileName)
+            throws SemanticError {
+        SemanticCheck semanticCheck = new SemanticCheck(context, fileName);
+        if (semanticCheck.checkClass(classDecl, semanticCheck)) {
+            return classDecl;
         }
+        throw semanticCheck.toSemanticError();
+    }
+
+    /**
+     * @return SemanticError all collected errors, the latest first
+     */
+    private SemanticError toSemanticError() {
+        String ANSI_RESET = "\u001B[0m";
+        String ANSI_RED = "\u001B[31m";
+        var errorString = "\n" + ANSI_RED;
+        for (int i = errors.size() - 1; i >= 0; i--) {
+            errorString += errors.get(i).getMessage() + "\n";
+        }
+        return new SemanticError(errorString + ANSI_RESET);
     }
 
     /**
@@ -89,15 +224,84 @@ public class SemanticCheck implements SemanticVisitor {
         context = new Context(toCheck);
         toCheck.setContext(context);
 
-        currentLocalScope = new ScopeContext();
+        // error locations always name the file after the first class
+        if (fileName == null && !toCheck.getClasses().isEmpty()) {
+            this.fileName = toCheck.getClasses().get(0).getIdentifier() + ".java";
+        }
+
+        if (mode == ExecutionMode.PARALLEL) {
+            return typeCheckParallel(toCheck);
+        }
+
+        currentLocalScope = new ScopeContext(context.getTypes());
         var valid = true;
         for (ClassDecl classDecl : toCheck.getClasses()) {
-            valid = classDecl.accept(this).isValid() && valid;
+            if (isSelected(classDecl)) {
+                valid = checkClass(classDecl, this) && valid;
+            }
         }
 
         return new TypeCheckResult(valid, null);
     }
 
+    /**
+     * Checks every class with its own checker state. The errors are merged in
+     * class order afterwards, so the messages match the serial run.
+     *
+     * @param toCheck
+     * @return TypeCheckResult
+     */
+    private TypeCheckResult typeCheckParallel(Program toCheck) {
+        var classes = toCheck.getClasses();
+        SemanticCheck[] checkers = new SemanticCheck[classes.size()];
+        boolean[] results = new boolean[classes.size()];
+        IntStream.range(0, classes.size()).parallel().filter(i -> isSelected(classes.get(i))).forEach(i -> {
+            checkers[i] = new SemanticCheck(context, fileName);
+            results[i] = checkClass(classes.get(i), checkers[i]);
+        });
+
+        var valid = true;
+        for (int i = 0; i < checkers.length; i++) {
+            if (checkers[i] != null) {
+                errors.addAll(checkers[i].errors);
+                valid = results[i] && valid;
+            }
+        }
+        return new TypeCheckResult(valid, null);
+    }
+
+    /**
+     * @param classDecl
+     * @param checker
+     * @return boolean
+     */
+    private boolean checkClass(ClassDecl classDecl, SemanticCheck checker) {
+        SemanticCheckEvent event = new SemanticCheckEvent();
+        event.begin();
+        PhaseTimer timer = listener == null ? null : PhaseTimer.start();
+        boolean valid = classDecl.accept(checker).isValid();
+        if (timer != null) {
+            PhaseStats stats = timer.stop(CompilePhase.SEMANTIC_CHECK, classDecl.getIdentifier());
+            phaseTimer.addClass(stats);
+            listener.phaseFinished(stats);
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.className = classDecl.getIdentifier();
+            event.valid = valid;
+            event.commit();
+        }
+        return valid;
+    }
+
+    /**
+     * @param classDecl
+     * @return boolean
+     */
+    private boolean isSelected(ClassDecl classDecl) {
+        return classesToCheck == null || classesToCheck.contains(classDecl.getIdentifier());
+    }
+
     /**
      * @param toCheck
      * @return TypeCheckResult
@@ -105,6 +309,7 @@ public class SemanticCheck implements SemanticVisitor {
     @Override
     public TypeCheckResult typeCheck(ClassDecl toCheck) {
         var valid = true;
+        int classErrors = errors.size();
         this.currentClass = toCheck; // For the Class-Context
         if (fileName == null) {
             this.fileName = toCheck.getIdentifier() + ".java";
@@ -123,14 +328,34 @@ public class SemanticCheck implements SemanticVisitor {
             new ConstructorDecl().accept(this);
         } else {
             for (ConstructorDecl constructorDecl : toCheck.getConstructorDeclarations()) {
-                valid = constructorDecl.accept(this).isValid() && valid;
+                int memberErrors = errors.size();
+                valid = (constructorDecl.accept(this).isValid()
+                        || dropErrors(constructorDecl.isBroken(), memberErrors)) && valid;
             }
         }
         for (MethodDecl methodDecl : toCheck.getMethodDeclarations()) {
-            valid = methodDecl.accept(this).isValid() && valid;
+            int memberErrors = errors.size();
+            valid = (methodDecl.accept(this).isValid() || dropErrors(methodDecl.isBroken(), memberErrors)) && valid;
         }
+        valid = valid || dropErrors(toCheck.isBroken(), classErrors);
 
-        return new TypeCheckResult(valid, new ReferenceType(toCheck.getIdentifier()));
+        return new TypeCheckResult(valid, context.getTypes().reference(toCheck.getIdentifier()));
+    }
+
+    /**
+     * Errors in a class or member in which the recovering parser skipped
+     * code are most likely caused by the skipped code, e.g. a variable whose
+     * declaration was dropped, so they are not reported
+     *
+     * @param broken     whether the class or member is broken
+     * @param errorCount number of errors before the class or member was checked
+     * @return boolean whether the errors were dropped
+     */
+    private boolean dropErrors(boolean broken, int errorCount) {
+        if (broken) {
+            errors.subList(errorCount, errors.size()).clear();
+        }
+        return broken;
     }
 
     /**
@@ -188,10 +413,11 @@ public class SemanticCheck implements SemanticVisitor {
             valid = valid && result.isValid();
             currentLocalScope.addLocalVar(parameter);
         }
-        currentMethodReturnType = new BaseType(Primitives.VOID);
+        currentMethodReturnType = BaseType.of(Primitives.VOID);
         var result = toCheck.getBlock().accept(this);
         currentLocalScope.popScope();
-        if (result.getType() != null && result.getType() != new BaseType(Primitives.VOID)) {
+        // every return yields a type, so this rejects any return in a constructor
+        if (result.getType() != null) {
             errors.add(new TypeMismatchException(
                     "The return-Type of a Constructor must always be void " +
                             TypeHelper.generateLocationString(toCheck.line, toCheck.column, fileName)));
@@ -229,7 +455,7 @@ public class SemanticCheck implements SemanticVisitor {
         }
         // Check if this method is already declared
 
-        currentMethodReturnType = methodDecl.getType();
+        currentMethodReturnType = context.getTypes().canonical(methodDecl.getType());
         currentNullType = currentMethodReturnType; // Solange nicht in einem Assign oder Methoden-Aufruf dieser Typ
                                                    // gesetzt ist, ist dieser der Rückgabewert der Methode
         var result = methodDecl.getBlock().accept(this);
@@ -237,7 +463,7 @@ public class SemanticCheck implements SemanticVisitor {
         currentLocalScope.popScope();
         var resultType = result.getType();
         if (resultType == null) {
-            resultType = new BaseType(Primitives.VOID);
+            resultType = BaseType.of(Primitives.VOID);
         }
         if (!resultType.equals(methodDecl.getType())) {
             errors.add(new TypeMismatchException("Method-Declaration " + methodDecl.getIdentifier() + " with type "
@@ -342,8 +568,8 @@ public class SemanticCheck implements SemanticVisitor {
 
         // Following check is needed for a void return (void foo(){return;})
         if (returnStmt.getExpression() == null) {
-            returnExpression = new TypeCheckResult(true, new BaseType(Primitives.VOID));
-            returnStmt.setType(new BaseType(Primitives.VOID));
+            returnExpression = new TypeCheckResult(true, BaseType.of(Primitives.VOID));
+            returnStmt.setType(BaseType.of(Primitives.VOID));
         } else {
             returnExpression = returnStmt.getExpression().accept(this);
             returnStmt.setType(returnStmt.getExpression().getType());
@@ -494,7 +720,8 @@ public class SemanticCheck implements SemanticVisitor {
     public TypeCheckResult typeCheck(NewDecl newDecl) {
         var valid = true;
 
-        var newClass = newDecl.getType();
+        var newClass = context.getTypes().canonical(newDecl.getType());
+        newDecl.setType(newClass);
 
         if (!TypeHelper.typeExists(newClass, this.context)) {
             errors.add(new TypeUnkown("Type: " + newClass + " is unknown"
@@ -607,7 +834,7 @@ public class SemanticCheck implements SemanticVisitor {
      */
     @Override
     public TypeCheckResult typeCheck(This aThis) {
-        aThis.setType(currentClass.getIdentifier());
+        aThis.setType(context.getTypes().reference(currentClass.getIdentifier()));
         return new TypeCheckResult(true, aThis.getType());
     }
 
@@ -646,7 +873,7 @@ public class SemanticCheck implements SemanticVisitor {
         // check if the variable is declared in the current class
         try {
             var fieldVar = TypeHelper.getFieldInType(localOrFieldVar.getIdentifier(),
-                    new ReferenceType(this.currentClass.getIdentifier()), context, this.currentClass);
+                    context.getTypes().reference(this.currentClass.getIdentifier()), context, this.currentClass);
 
             if (fieldVar != null) {
                 localOrFieldVar.setType(fieldVar.getType());
@@ -661,7 +888,7 @@ public class SemanticCheck implements SemanticVisitor {
         var importStaticField = context.getImports().get(localOrFieldVar.getIdentifier());
 
         if (importStaticField != null) {
-            var importedType = new ReferenceType(importStaticField);
+            var importedType = context.getTypes().reference(importStaticField);
             localOrFieldVar.setType(importedType);
             return new TypeCheckResult(true, importedType);
         }
@@ -802,7 +1029,7 @@ public class SemanticCheck implements SemanticVisitor {
                         errors.add(errorToThrow);
                         valid = false;
                     } else {
-                        binary.setType(new BaseType(Primitives.BOOL));
+                        binary.setType(BaseType.of(Primitives.BOOL));
                     }
                 }
                 case INT -> {
@@ -810,32 +1037,32 @@ public class SemanticCheck implements SemanticVisitor {
                         errors.add(errorToThrow);
                         valid = false;
                     } else {
-                        binary.setType(new BaseType(isArithmeticOperator ? Primitives.INT : Primitives.BOOL));
+                        binary.setType(BaseType.of(isArithmeticOperator ? Primitives.INT : Primitives.BOOL));
                     }
                 }
                 default -> {
                     errors.add(errorToThrow);
-                    binary.setType(new BaseType(Primitives.VOID));
+                    binary.setType(BaseType.of(Primitives.VOID));
                     valid = false;
                 }
             }
         } else if ((isSame || oneIsNull) && lIsReference) {// Wenn 2 Objekte miteinander verglichen werden
             if (operator == Operator.EQUAL || operator == Operator.NOTEQUAL) {
-                binary.setType(new BaseType(Primitives.BOOL));
+                binary.setType(BaseType.of(Primitives.BOOL));
             } else {
                 errors.add(errorToThrow);
                 valid = false;
             }
-        } else if (isCompareOperator && (Objects.equals(lType, new BaseType(Primitives.CHAR))
-                && Objects.equals(rType, new BaseType(Primitives.INT))
-                || Objects.equals(rType, new BaseType(Primitives.CHAR))
-                        && Objects.equals(lType, new BaseType(Primitives.INT)))) { // Wenn
+        } else if (isCompareOperator && (Objects.equals(lType, BaseType.of(Primitives.CHAR))
+                && Objects.equals(rType, BaseType.of(Primitives.INT))
+                || Objects.equals(rType, BaseType.of(Primitives.CHAR))
+                        && Objects.equals(lType, BaseType.of(Primitives.INT)))) { // Wenn
                                                                                    // z.B.
             // 1=='a'...
-            binary.setType(new BaseType(Primitives.BOOL));
+            binary.setType(BaseType.of(Primitives.BOOL));
         } else {
             errors.add(errorToThrow);
-            binary.setType(new BaseType(Primitives.VOID));
+            binary.setType(BaseType.of(Primitives.VOID));
             valid = false;
         }
 
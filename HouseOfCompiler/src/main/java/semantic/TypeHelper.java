@@ -1,8 +1,8 @@
 package semantic;
 
 import java.util.ArrayList;
-import java.util.Objects;
 
+import codegen.utils.GenUtils;
 import common.AccessModifier;
 import common.BaseType;
 import common.Primitives;
@@ -42,9 +42,7 @@ public class TypeHelper {
      * @return boolean
      */
     public static boolean isBool(Type type) {
-        var boolType = new BaseType(Primitives.BOOL);
-
-        return Objects.equals(boolType, type);
+        return BaseType.of(Primitives.BOOL).equals(type);
     }
 
 
@@ -120,12 +118,21 @@ public class TypeHelper {
                 throw new TypeMismatchException("No declared Method " + methodCall.getIdentifier() + " with Arguments: "
                         + methodCall.printTypes() + " in Type " + type);
             }
-            var foundMethods = new PrintableVector<MethodContext>();
-            var methods = classContext.getMethods().get(methodCall.getIdentifier());
-            if (methods == null) {
-                throw new TypeMismatchException("No declared Method " + methodCall.getIdentifier() + " with Arguments: "
-                        + methodCall.printTypes() + " in Type " + type);
+            var identifier = methodCall.getIdentifier();
+            var arguments = methodCall.getArguments();
+            boolean privateAccess = objectClass.getIdentifier().equals(currentClass.getIdentifier());
+            // a null argument matches every ReferenceType, so only calls without one have an exact signature
+            boolean hasNull = arguments.stream().anyMatch(argument -> argument instanceof Null);
+            var argumentTypes = hasNull ? null : GenUtils.expressionsToTypes(arguments);
+            if (!hasNull) {
+                var resolved = classContext.getResolved(identifier, argumentTypes, privateAccess);
+                if (resolved != null) {
+                    return resolved;
+                }
             }
+            var foundMethods = new PrintableVector<MethodContext>();
+            var methods = hasNull ? classContext.getOverloads(identifier, arguments.size())
+                    : classContext.getOverloads(identifier, argumentTypes);
             for (var method : methods) {
                 if (method.getParameterTypes().size() == methodCall.getArguments().size()) {
                     boolean isSame = true;
@@ -176,6 +183,9 @@ public class TypeHelper {
                         ((Null) argument).setType(parameterType);
                     }
                 }
+                if (!hasNull) {
+                    classContext.putResolved(identifier, argumentTypes, privateAccess, foundMethods.get(0));
+                }
                 return foundMethods.get(0);
             } else {
                 throw new TypeMismatchException("Cannot resolve Method-Call with Arguments: " + methodCall.printTypes()
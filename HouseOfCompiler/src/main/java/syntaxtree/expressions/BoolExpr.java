@@ -18,7 +18,7 @@ public class BoolExpr implements IExpression {
 
     public BoolExpr(boolean value) {
         this.value = value;
-        this.type = new BaseType(Primitives.BOOL);
+        this.type = BaseType.of(Primitives.BOOL);
     }
 
     /**
@@ -18,7 +18,7 @@ public class CharExpr implements IExpression {
 
     public CharExpr(char value) {
         this.value = value;
-        this.type = new BaseType(Primitives.CHAR);
+        this.type = BaseType.of(Primitives.CHAR);
     }
 
     /**
@@ -87,7 +87,7 @@ public class InstVar implements IExpression {
      * @param type
      */
     public void setType(Primitives type) {
-        this.type = new BaseType(type);
+        this.type = BaseType.of(type);
     }
 
     /**
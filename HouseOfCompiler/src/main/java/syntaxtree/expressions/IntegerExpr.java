@@ -18,7 +18,7 @@ public class IntegerExpr implements IExpression {
 
     public IntegerExpr(int value) {
         this.value = value;
-        this.type = new BaseType(Primitives.INT);
+        this.type = BaseType.of(Primitives.INT);
     }
 
     /**
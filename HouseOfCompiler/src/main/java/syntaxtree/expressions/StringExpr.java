@@ -10,12 +10,15 @@ import visitor.codevisitor.MethodCodeVisitor;
 
 public class StringExpr implements IExpression {
 
+    // like BaseType.of, one instance for every string literal
+    private static final ReferenceType STRING = new ReferenceType("java/lang/String");
+
     private String value;
     private Type type;
 
     public StringExpr(String value) {
         this.value = value;
-        this.type = new ReferenceType("java/lang/String");
+        this.type = STRING;
     }
 
     /**
@@ -77,7 +77,7 @@ public class Assign implements IStatementExpression {
      * @param type
      */
     public void setType(Primitives type) {
-        this.type = new BaseType(type);
+        this.type = BaseType.of(type);
     }
 
     /**
@@ -74,7 +74,7 @@ public class CrementStmtExpr implements IStatementExpression {
      * @param type
      */
     public void setType(Primitives type) {
-        this.type = new BaseType(type);
+        this.type = BaseType.of(type);
     }
 
     /**
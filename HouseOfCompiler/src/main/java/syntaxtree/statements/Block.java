@@ -56,7 +56,7 @@ public class Block implements IStatement {
      * @param type
      */
     public void setType(Primitives type) {
-        this.type = new BaseType(type);
+        this.type = BaseType.of(type);
     }
 
     /**
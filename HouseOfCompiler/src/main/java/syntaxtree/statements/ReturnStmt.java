@@ -84,7 +84,7 @@ public class ReturnStmt implements IStatement {
         if (o == null || getClass() != o.getClass())
             return false;
         ReturnStmt that = (ReturnStmt) o;
-        return expression.equals(that.expression) && Objects.equals(type, that.type);
+        return Objects.equals(expression, that.expression) && Objects.equals(type, that.type);
     }
 
     /**
@@ -14,6 +14,8 @@ public class ClassDecl implements Visitable {
     private PrintableVector<FieldDecl> fieldDelcarations;
     private PrintableVector<MethodDecl> methodDeclarations;
     private PrintableVector<ConstructorDecl> constructorDeclarations;
+    // not part of equals, like the positions
+    private boolean broken;
 
     public ClassDecl(String identifier, PrintableVector<FieldDecl> fieldDelcarations,
             PrintableVector<ConstructorDecl> constructorDeclarations, PrintableVector<MethodDecl> methodDeclarations) {
@@ -51,6 +53,21 @@ public class ClassDecl implements Visitable {
         return constructorDeclarations;
     }
 
+    /**
+     * @return boolean whether the recovering parser skipped a syntax error
+     *         inside the class
+     */
+    public boolean isBroken() {
+        return broken;
+    }
+
+    /**
+     * @param broken
+     */
+    public void setBroken(boolean broken) {
+        this.broken = broken;
+    }
+
     /**
      * @param o
      * @return boolean
@@ -21,13 +21,15 @@ public class ConstructorDecl implements Visitable {
     private PrintableVector<MethodParameter> parameterDeclarations;
     private AccessModifier accessModifier;
     private Block block;
+    // not part of equals, like the positions
+    private boolean broken;
 
     public ConstructorDecl(AccessModifier accessModifier, PrintableVector<MethodParameter> parameterDeclarations,
             Block statement) {
         this.accessModifier = accessModifier;
         this.parameterDeclarations = parameterDeclarations;
         this.block = statement;
-        this.type = new BaseType(Primitives.VOID);
+        this.type = BaseType.of(Primitives.VOID);
     }
 
     public ConstructorDecl(AccessModifier accessModifier, PrintableVector<MethodParameter> parameterDeclarations,
@@ -35,7 +37,7 @@ public class ConstructorDecl implements Visitable {
         this.accessModifier = accessModifier;
         this.parameterDeclarations = parameterDeclarations;
         this.block = statement;
-        this.type = new BaseType(Primitives.VOID);
+        this.type = BaseType.of(Primitives.VOID);
 
         this.line = line;
         this.column = col;
@@ -45,7 +47,7 @@ public class ConstructorDecl implements Visitable {
         this.accessModifier = AccessModifier.PUBLIC;
         this.parameterDeclarations = new PrintableVector<>();
         this.block = new Block();
-        this.type = new BaseType(Primitives.VOID);
+        this.type = BaseType.of(Primitives.VOID);
     }
 
     /**
@@ -69,6 +71,21 @@ public class ConstructorDecl implements Visitable {
         return block;
     }
 
+    /**
+     * @return boolean whether the recovering parser skipped a syntax error
+     *         inside the constructor
+     */
+    public boolean isBroken() {
+        return broken;
+    }
+
+    /**
+     * @param broken
+     */
+    public void setBroken(boolean broken) {
+        this.broken = broken;
+    }
+
     /**
      * @param o
      * @return boolean
@@ -10,7 +10,7 @@ import visitor.codevisitor.MethodCodeVisitor;
 public class MainMethodDecl extends MethodDecl {
 
     public MainMethodDecl(Block block) {
-        super(AccessModifier.PUBLIC_STATIC, new BaseType(Primitives.VOID), "main",
+        super(AccessModifier.PUBLIC_STATIC, BaseType.of(Primitives.VOID), "main",
                 new PrintableVector<MethodParameter>(),
                 block);
     }
@@ -20,6 +20,8 @@ public class MethodDecl implements Visitable {
     private PrintableVector<MethodParameter> parameters;
     private Block block;
     private AccessModifier accessModifier;
+    // not part of equals, like the positions
+    private boolean broken;
 
     public MethodDecl(String identifier, PrintableVector<MethodParameter> parameters, Block statement,
             AccessModifier accessModifier) {
@@ -99,6 +101,21 @@ public class MethodDecl implements Visitable {
         this.type = type;
     }
 
+    /**
+     * @return boolean whether the recovering parser skipped a syntax error
+     *         inside the method
+     */
+    public boolean isBroken() {
+        return broken;
+    }
+
+    /**
+     * @param broken
+     */
+    public void setBroken(boolean broken) {
+        this.broken = broken;
+    }
+
     /**
      * @param o
      * @return boolean
@@ -33,7 +33,7 @@ public class MethodParameter implements Visitable {
     }
 
     public MethodParameter(Primitives type, String identifier) {
-        this.type = new BaseType(type);
+        this.type = BaseType.of(type);
         this.identifier = identifier;
     }
 
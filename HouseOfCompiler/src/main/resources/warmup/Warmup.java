@@ -0,0 +1,76 @@
+// Parsed once at startup to fill the lexer and parser DFAs, so it should use
+// every construct of the grammar. It does not need to pass the semantic check.
+class Warmup {
+
+    private int count;
+    public Warmup next;
+    protected boolean flag;
+    char letter;
+
+    public Warmup(int count, Warmup next) {
+        this.count = count;
+        this.next = next;
+        flag = true;
+        letter = 'a';
+    }
+
+    Warmup() {
+    }
+
+    public static void main(String[] args) {
+        Warmup warmup = new Warmup(3, null);
+        System.out.println(warmup.sum(4, 2));
+        System.out.println("warm");
+        System.err.print('c');
+    }
+
+    public int sum(int a, int b) {
+        int result = 0;
+        int i;
+        for (i = 0; i < a; i++) {
+            result = result + a * (b - i) / 2 % 7;
+        }
+        for (int j = 10; j >= 0; j--) {
+            result = result + j;
+            ++result;
+            --result;
+        }
+        while (result > 100 && !flag || result <= -5) {
+            result = result - this.count;
+        }
+        if (result == b) {
+            return result;
+        } else if (result != a) {
+            return -1;
+        } else {
+            result = a = b = 1;
+        }
+        return this.next.next.count + next.getCount() + this.next.getNext().getCount() + sum(a, b);
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public Warmup getNext() {
+        return this.next;
+    }
+
+    public boolean isEmpty() {
+        return !(count > 0) && next == null && !flag;
+    }
+
+    void nothing() {
+        return;
+    }
+}
+
+class Other {
+    Warmup warmup;
+
+    Other() {
+        this.warmup = new Warmup();
+        warmup.next = new Warmup(1, warmup);
+        this.warmup.next.count = 2;
+    }
+}
@@ -1,22 +1,65 @@
 package AST;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import Helper.MockGenerator;
 import Helper.Resources;
 import common.AccessModifier;
+import common.AstAdapter;
+import common.AstMode;
+import common.AstSerializer;
 import common.BaseType;
 import common.Compiler;
+import common.DfaCache;
+import common.LexMode;
+import common.MappedCharStream;
+import common.Operator;
+import common.ParseMode;
 import common.Primitives;
 import common.PrintableVector;
+import common.ReferenceType;
+import common.ThrowingErrorListener;
+import context.Context;
+import parser.JavaSubsetScanner;
+import parser.SignatureScanner;
+import parser.SymbolTokenFactory;
+import parser.generated.JavaSubsetLexer;
+import semantic.SemanticCheck;
+import semantic.exceptions.SemanticError;
+import syntaxtree.expressions.Binary;
+import syntaxtree.expressions.BoolExpr;
+import syntaxtree.expressions.Unary;
+import syntaxtree.statements.ReturnStmt;
 import syntaxtree.structure.ClassDecl;
 import syntaxtree.structure.ConstructorDecl;
 import syntaxtree.structure.FieldDecl;
+import syntaxtree.structure.MethodDecl;
 import syntaxtree.structure.Program;
 
 @DisplayName("Abstract Syntax Tree Generation")
@@ -270,4 +313,433 @@ public class TestRunner {
         assertEquals(expectedAst, generatedAst);
     }
 
+
+    @Test
+    @DisplayName("SLL-First Parsing")
+    void sllFirstParsing() throws Exception {
+        Path resources = Path.of(Resources.class.getClassLoader().getResource("SimpleTests").toURI()).getParent();
+        List<Path> files;
+        try (var paths = Files.walk(resources)) {
+            files = paths.filter(path -> path.toString().endsWith(".java")).sorted().collect(Collectors.toList());
+        }
+        for (Path file : files) {
+            String source = Files.readString(file);
+            assertEquals(parseOrError(source, ParseMode.LL), parseOrError(source, ParseMode.SLL_FIRST),
+                    file.toString());
+        }
+
+        String chained = "class Chained { int f(int b) { int a = b = 123; return a; } }";
+        assertEquals(parse(chained, ParseMode.LL), parse(chained, ParseMode.SLL_FIRST));
+
+        // syntax errors are reported by the LL stage
+        String broken = "class Broken { int x }";
+        var ll = assertThrows(ParseCancellationException.class, () -> parse(broken, ParseMode.LL));
+        var sllFirst = assertThrows(ParseCancellationException.class, () -> parse(broken, ParseMode.SLL_FIRST));
+        assertEquals(ll.getMessage(), sllFirst.getMessage());
+    }
+
+    @Test
+    @DisplayName("Not Precedence")
+    void notPrecedence() {
+        // '!' takes the whole expression to its right, in every parse and AST mode
+        String[][] cases = { { "!x && y", "AND" }, { "!x == y", "EQUAL" }, { "!x || y == x", "OR" } };
+        AstAdapter[] adapters = { new AstAdapter(ParseMode.LL, AstMode.ADAPTERS),
+                new AstAdapter(ParseMode.SLL_FIRST, AstMode.ADAPTERS), new AstAdapter(ParseMode.LL, AstMode.DIRECT),
+                new AstAdapter(ParseMode.SLL_FIRST, AstMode.DIRECT),
+                new AstAdapter(ParseMode.SLL_FIRST, AstMode.RECURSIVE_DESCENT, LexMode.SCANNER) };
+        for (String[] testCase : cases) {
+            String source = "class A { boolean f(boolean x, boolean y) { return " + testCase[0] + "; } }";
+            for (AstAdapter adapter : adapters) {
+                Program program = adapter.getAst(CharStreams.fromString(source));
+                var block = program.getClasses().get(0).getMethodDeclarations().get(0).getBlock();
+                var expression = ((ReturnStmt) block.getStatements().get(0)).getExpression();
+                assertTrue(expression instanceof Unary, testCase[0]);
+                var operand = ((Unary) expression).getExpression();
+                assertTrue(operand instanceof Binary, testCase[0]);
+                assertEquals(Operator.valueOf(testCase[1]), ((Binary) operand).getOperator(), testCase[0]);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Return Without Expression")
+    void returnWithoutExpression() {
+        var empty = new ReturnStmt(1, 2);
+        var withValue = new ReturnStmt(new BoolExpr(true));
+        assertEquals(new ReturnStmt(3, 4), empty);
+        assertEquals(new ReturnStmt(3, 4).hashCode(), empty.hashCode());
+        assertFalse(empty.equals(withValue));
+        assertFalse(withValue.equals(empty));
+    }
+
+    @Test
+    @DisplayName("Memory Mapped Source")
+    void mappedSource(@TempDir Path dir) throws Exception {
+        Path resources = Path.of(Resources.class.getClassLoader().getResource("SimpleTests").toURI()).getParent();
+        List<Path> files;
+        try (var paths = Files.walk(resources)) {
+            files = paths.filter(path -> path.toString().endsWith(".java")).sorted().collect(Collectors.toList());
+        }
+        AstAdapter adapter = new AstAdapter();
+        for (Path file : files) {
+            assertEquals(parseOrError(Files.readString(file), ParseMode.SLL_FIRST), parseOrError(adapter, file),
+                    file.toString());
+        }
+
+        // the UTF-8 fallback and the Latin-1 fast path decode the same char
+        String source = "class Umlaut { char c() { return '\u00e4'; } /* \u00fc */ }";
+        Path utf8 = dir.resolve("Utf8.java");
+        Files.writeString(utf8, source, StandardCharsets.UTF_8);
+        Path latin1 = dir.resolve("Latin1.java");
+        Files.writeString(latin1, source, StandardCharsets.ISO_8859_1);
+        assertFalse(MappedCharStream.open(utf8) instanceof MappedCharStream);
+        assertTrue(MappedCharStream.open(latin1, StandardCharsets.ISO_8859_1) instanceof MappedCharStream);
+        assertEquals(source, MappedCharStream.open(utf8).toString());
+        assertEquals(source, MappedCharStream.open(latin1, StandardCharsets.ISO_8859_1).toString());
+        assertEquals(adapter.getAst(new ByteArrayInputStream(source.getBytes(StandardCharsets.UTF_8))),
+                adapter.getAst(utf8));
+    }
+
+    @Test
+    @DisplayName("Signature Prepass")
+    void signaturePrepass() throws Exception {
+        Path resources = Path.of(Resources.class.getClassLoader().getResource("SimpleTests").toURI()).getParent();
+        List<Path> files;
+        try (var paths = Files.walk(resources)) {
+            files = paths.filter(path -> path.toString().endsWith(".java")).sorted().collect(Collectors.toList());
+        }
+        for (Path file : files) {
+            Object program = parseOrError(Files.readString(file), ParseMode.SLL_FIRST);
+            CommonTokenStream tokens = new CommonTokenStream(new JavaSubsetLexer(CharStreams.fromPath(file)));
+            tokens.fill();
+            var scanned = SignatureScanner.scan(tokens.getTokens());
+            if (!(program instanceof Program)) {
+                continue;
+            }
+            var classes = new Context((Program) program).getClasses();
+            Context context = new Context();
+            scanned.forEach(scannedClass -> context.addClass(scannedClass.getSignature()));
+            assertEquals(classes.keySet(), context.getClasses().keySet(), file.toString());
+            classes.forEach((identifier, clazz) -> assertEquals(clazz.getSignature(),
+                    context.getClasses().get(identifier).getSignature(), file + " " + identifier));
+        }
+
+        assertNull(SignatureScanner.scan(tokens("class Broken { int x }")));
+        assertNull(SignatureScanner.scan(tokens("class Open { void f() { }")));
+        var scanned = SignatureScanner.scan(tokens("class A { } class B { void f() { { } } }"));
+        assertEquals(2, scanned.size());
+        assertEquals(0, scanned.get(0).getStart());
+        assertEquals(3, scanned.get(0).getStop());
+        assertEquals(4, scanned.get(1).getStart());
+    }
+
+    /**
+     * Hand written sources every way of building the AST has to agree on:
+     * method call chains, '!' and mixes of calculations and comparisons
+     */
+    private static final String[] EDGE_CASES = {
+            "class A { A a; void f() { a.f().g().h(1, 2); } }",
+            "class A { A a; void f() { this.a.a.f(1).g(2).h(3).i(4); new A().f().g().h(); f().g(); } }",
+            "class A { boolean x; boolean y; boolean f() { return !x && y; } }",
+            "class A { boolean x; boolean y; boolean f() { return !x == y || !(x) && !!y; } }",
+            "class A { boolean x; boolean f(int y) { return !x == (y < 2); } }",
+            "class A { int x; boolean f(int y) { return (1 + 2 * 3 - y / 5 % 6) < 7 == (x > (8 - 9)); } }",
+            "class A { int x; boolean f(int y) { return x < (x * y) && x != y || (x >= y) == (y <= x); } }",
+            "class A { int x; boolean f(int y) { return (x + y) < x && x == y + 1; } }",
+            "class A { int x; int f(int y) { x = y = (x - y) * -1; return (1 + (2 - 3)) * x - y; } }",
+            "class A { int x; boolean f(int y) { return (x = x - 1) > 0 && x == (y = 2); } }",
+            "class A { int x; boolean f(int y) { return y == x = 3; } }" };
+
+    /**
+     * Like EDGE_CASES, but rejected by every way of building the AST: an
+     * unparenthesized calculation can only end a comparison. Since the grammar
+     * moved assign out of subExpression for the SLL prediction, this includes
+     * an assignment of a calculation as left operand, e.g. x = x - 1 > 0,
+     * which the original grammar read as (x = x - 1) > 0.
+     */
+    private static final String[] REJECTED_EDGE_CASES = {
+            "class A { int x; boolean f(int y) { return x = x - 1 > 0; } }",
+            "class A { int x; void f(int y) { while (x = x * y >= 0) { } } }",
+            "class A { int x; boolean f(int y) { return 1 + 2 * 3 - y / 5 % 6 < 7 == x > 8 - 9; } }",
+            "class A { int x; boolean f(int y) { return x != y && x - 1 == y; } }",
+            "class A { int x; boolean f(int y) { return x < y * 2 || (x + y) < x; } }",
+            "class A { int x; int f(int y) { return -x * -(y - 1); } }" };
+
+    @Test
+    @DisplayName("Direct AST Building")
+    void directAst() throws Exception {
+        Path resources = Path.of(Resources.class.getClassLoader().getResource("SimpleTests").toURI()).getParent();
+        List<Path> files;
+        try (var paths = Files.walk(resources)) {
+            files = paths.filter(path -> path.toString().endsWith(".java")).sorted().collect(Collectors.toList());
+        }
+        for (ParseMode mode : ParseMode.values()) {
+            AstAdapter adapters = new AstAdapter(mode, AstMode.ADAPTERS);
+            AstAdapter direct = new AstAdapter(mode, AstMode.DIRECT);
+            for (Path file : files) {
+                assertEquals(parseOrError(adapters, file), parseOrError(direct, file), mode + " " + file);
+            }
+        }
+
+        String source = "class A { A a; int x; public A(int y) { x = y; } "
+                + "int f(int y, char c) { this.a.x = 3 * (y - 1) / 2 + x % 4 - y; "
+                + "for (int i = 0; i < y; i++) { if (!(i == 2)) { a.f(i, c); } else if (c != 'c') x--; else { } } "
+                + "while (x >= 0) { --x; } return new A(f(1, 'c')).f(x, c); } }";
+        Path file = Files.writeString(Files.createTempFile("Direct", ".java"), source);
+        try {
+            Object expected = parseOrError(new AstAdapter(ParseMode.SLL_FIRST, AstMode.ADAPTERS), file);
+            assertTrue(expected instanceof Program, expected.toString());
+            assertEquals(expected, parseOrError(new AstAdapter(ParseMode.SLL_FIRST, AstMode.DIRECT), file));
+        } finally {
+            Files.delete(file);
+        }
+
+        for (ParseMode mode : ParseMode.values()) {
+            AstAdapter adapters = new AstAdapter(mode, AstMode.ADAPTERS);
+            AstAdapter direct = new AstAdapter(mode, AstMode.DIRECT);
+            for (String edgeCase : EDGE_CASES) {
+                assertEquals(adapters.getAst(CharStreams.fromString(edgeCase)),
+                        direct.getAst(CharStreams.fromString(edgeCase)), mode + " " + edgeCase);
+            }
+            for (String edgeCase : REJECTED_EDGE_CASES) {
+                assertThrows(ParseCancellationException.class,
+                        () -> adapters.getAst(CharStreams.fromString(edgeCase)), mode + " " + edgeCase);
+                assertThrows(ParseCancellationException.class,
+                        () -> direct.getAst(CharStreams.fromString(edgeCase)), mode + " " + edgeCase);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Hand Written Scanner")
+    void scannerTokens() throws Exception {
+        Path resources = Path.of(Resources.class.getClassLoader().getResource("SimpleTests").toURI()).getParent();
+        List<Path> files;
+        try (var paths = Files.walk(resources)) {
+            files = paths.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+        }
+        for (Path file : files) {
+            assertEquals(lex(new JavaSubsetLexer(CharStreams.fromPath(file))),
+                    lex(new JavaSubsetScanner(CharStreams.fromPath(file))), file.toString());
+        }
+
+        String[] sources = { "x-1 - 2--y++ +z", "publicX public static void main(String[] args) public static",
+                "\"a\" + \"b\"\n\"c\"", "''' '' 'a'", "a /**/ b /*/ c */ d // e\r\nf", "/* open",
+                "a>=b<c==d!=e=!f", "a && b || c", "a & b", "'ab'", "'\n'", "\"open\n", "#", "\u00e4 x", "" };
+        for (String source : sources) {
+            assertEquals(lex(new JavaSubsetLexer(CharStreams.fromString(source))),
+                    lex(new JavaSubsetScanner(CharStreams.fromString(source))), source);
+        }
+    }
+
+    @Test
+    @DisplayName("PrintableVector")
+    void printableVector() {
+        PrintableVector<String> list = new PrintableVector<>();
+        assertThrows(NoSuchElementException.class, list::firstElement);
+        for (int i = 0; i < 10; i++) {
+            list.add("e" + i);
+        }
+        list.add(0, null);
+        list.remove(5);
+        list.set(1, "first");
+        assertEquals(10, list.size());
+        assertNull(list.firstElement());
+        assertEquals("e9", list.lastElement());
+        assertEquals(List.of("first", "e1", "e2", "e3", "e5", "e6", "e7", "e8", "e9"), list.subList(1, 10));
+        assertEquals("1: first\n2: e1\n3: e2\n", list.subList(0, 4).stream().collect(
+                Collectors.toCollection(PrintableVector::new)).toString());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(10));
+    }
+
+    @Test
+    @DisplayName("Symbols")
+    void symbols() {
+        String source = "class A { A a; int x; int f(int x) { return this.a.f(x); } }";
+        AstAdapter[] adapters = { new AstAdapter(ParseMode.SLL_FIRST, AstMode.ADAPTERS),
+                new AstAdapter(ParseMode.SLL_FIRST, AstMode.DIRECT),
+                new AstAdapter(ParseMode.SLL_FIRST, AstMode.RECURSIVE_DESCENT, LexMode.SCANNER) };
+        for (AstAdapter adapter : adapters) {
+            Program program = adapter.getAst(CharStreams.fromString(source));
+            for (Program ast : List.of(program, AstSerializer.read(AstSerializer.write(program)))) {
+                ClassDecl clazz = ast.getClasses().get(0);
+                FieldDecl field = clazz.getFieldDelcarations().get(0);
+                MethodDecl method = clazz.getMethodDeclarations().get(0);
+                assertSame(clazz.getIdentifier(), ((ReferenceType) field.getType()).getIdentifier());
+                assertSame(SymbolTokenFactory.intern("x"), clazz.getFieldDelcarations().get(1).getIdentifier());
+                assertSame(SymbolTokenFactory.intern("x"), method.getParameters().get(0).getIdentifier());
+                assertSame(SymbolTokenFactory.intern("f"), method.getIdentifier());
+            }
+        }
+
+        // the table is bounded and cleared with the DfaCache
+        for (int i = 0; i <= SymbolTokenFactory.MAX_SYMBOLS + 1; i++) {
+            SymbolTokenFactory.intern("symbol" + i);
+        }
+        assertTrue(SymbolTokenFactory.size() <= SymbolTokenFactory.MAX_SYMBOLS + 1);
+        new DfaCache().reset();
+        assertEquals(0, SymbolTokenFactory.size());
+    }
+
+    @Test
+    @DisplayName("Recursive Descent Parser")
+    void recursiveDescent() throws Exception {
+        Path resources = Path.of(Resources.class.getClassLoader().getResource("SimpleTests").toURI()).getParent();
+        List<Path> files;
+        try (var paths = Files.walk(resources)) {
+            files = paths.filter(path -> path.toString().endsWith(".java")).sorted().collect(Collectors.toList());
+        }
+        AstAdapter adapters = new AstAdapter(ParseMode.SLL_FIRST, AstMode.ADAPTERS);
+        AstAdapter descent = new AstAdapter(ParseMode.SLL_FIRST, AstMode.RECURSIVE_DESCENT, LexMode.SCANNER);
+        for (Path file : files) {
+            Object expected = parseOrError(adapters, file);
+            Object actual = parseOrError(descent, file);
+            if (expected instanceof Program) {
+                assertEquals(expected, actual, file.toString());
+                // semantic errors carry the positions of the nodes
+                assertEquals(checkOrError((Program) expected), checkOrError((Program) actual), file.toString());
+            } else {
+                assertTrue(actual instanceof String, file.toString());
+            }
+        }
+
+        String[] sources = { "class A { A a; int x; public A(int y) { x = y; } "
+                + "int f(int y, char c) { this.a.x = 3 * (y - 1) / 2 + x % 4 - y; a.a.f(1, c).f(2, c); "
+                + "for (int i = 0; i < y; i++) { if (!(i == 2)) { a.f(i, c); } else if (c != 'c') x--; else { } } "
+                + "while (x >= 0 && true || x < (y) * 2) { --this.x; } return new A(f(1, 'c')).f(x, c); } }",
+                "class A { void f() { return this.x.y = (1 + 2); } } class B { }", "class A { } trailing tokens" };
+        for (String source : sources) {
+            Object expected = adapters.getAst(CharStreams.fromString(source));
+            assertEquals(expected, descent.getAst(CharStreams.fromString(source)), source);
+        }
+        for (String edgeCase : EDGE_CASES) {
+            assertEquals(adapters.getAst(CharStreams.fromString(edgeCase)),
+                    descent.getAst(CharStreams.fromString(edgeCase)), edgeCase);
+        }
+        for (String edgeCase : REJECTED_EDGE_CASES) {
+            assertThrows(ParseCancellationException.class, () -> descent.getAst(CharStreams.fromString(edgeCase)),
+                    edgeCase);
+        }
+
+        String[] broken = { "", "class A { int x }", "class A { void f() { x; } }",
+                "class A { void f() { a = (b) * 2 < c; } }",
+                "class A { void f() { return new A().x; } }", "class A { void f() { f().x; } }", "class A {" };
+        for (String source : broken) {
+            assertThrows(ParseCancellationException.class, () -> adapters.getAst(CharStreams.fromString(source)),
+                    source);
+            assertThrows(ParseCancellationException.class, () -> descent.getAst(CharStreams.fromString(source)),
+                    source);
+        }
+    }
+
+    @Test
+    @DisplayName("AST Serializer")
+    void astSerializer() throws Exception {
+        Path resources = Path.of(Resources.class.getClassLoader().getResource("SimpleTests").toURI()).getParent();
+        List<Path> files;
+        try (var paths = Files.walk(resources)) {
+            files = paths.filter(path -> path.toString().endsWith(".java")).sorted().collect(Collectors.toList());
+        }
+        AstAdapter adapter = new AstAdapter();
+        for (Path file : files) {
+            if (!(parseOrError(adapter, file) instanceof Program program)) {
+                continue;
+            }
+            Program copy = AstSerializer.read(AstSerializer.write(program));
+            assertEquals(program, copy, file.toString());
+            assertEquals(program.toString(), copy.toString(), file.toString());
+            // semantic errors carry the positions of the nodes
+            String errors = checkOrError(copy);
+            assertEquals(checkOrError(program), errors, file.toString());
+            if (errors.isEmpty()) {
+                // the types set by the check are kept
+                Program typedCopy = AstSerializer.read(AstSerializer.write(program));
+                assertEquals(program, typedCopy, file.toString());
+                assertEquals(program.toString(), typedCopy.toString(), file.toString());
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> AstSerializer.read(new byte[] { 1, 2, 3, 4 }));
+        assertThrows(IllegalArgumentException.class,
+                () -> AstSerializer.read(new byte[] { 0x48, 0x4f, 0x43, 0x41, 2, 1 }));
+    }
+
+    /**
+     * @param program
+     * @return String the semantic error message, empty if there is none
+     */
+    private static String checkOrError(Program program) {
+        try {
+            SemanticCheck.generateTast(program);
+            return "";
+        } catch (SemanticError e) {
+            return e.getMessage();
+        }
+    }
+
+    /**
+     * @param lexer
+     * @return List<String> every token with its position, or the syntax error
+     */
+    private static List<String> lex(Lexer lexer) {
+        lexer.removeErrorListeners();
+        lexer.addErrorListener(ThrowingErrorListener.INSTANCE);
+        List<String> tokens = new ArrayList<>();
+        try {
+            Token token;
+            do {
+                token = lexer.nextToken();
+                tokens.add(token.getType() + " " + token.getText() + " " + token.getLine() + ":"
+                        + token.getCharPositionInLine() + " " + token.getStartIndex() + "-" + token.getStopIndex());
+            } while (token.getType() != Token.EOF);
+        } catch (ParseCancellationException e) {
+            tokens.add(e.getMessage());
+        }
+        return tokens;
+    }
+
+    /**
+     * @param source
+     * @return List<Token>
+     */
+    private static List<Token> tokens(String source) {
+        CommonTokenStream tokens = new CommonTokenStream(new JavaSubsetLexer(CharStreams.fromString(source)));
+        tokens.fill();
+        return tokens.getTokens();
+    }
+
+    /**
+     * @param adapter
+     * @param file
+     * @return Object the Program or the syntax error message
+     * @throws IOException
+     */
+    private static Object parseOrError(AstAdapter adapter, Path file) throws IOException {
+        try {
+            return adapter.getAst(file);
+        } catch (ParseCancellationException e) {
+            return e.getMessage();
+        }
+    }
+
+    /**
+     * @param source
+     * @param mode
+     * @return Object the Program or the syntax error message
+     */
+    private static Object parseOrError(String source, ParseMode mode) {
+        try {
+            return parse(source, mode);
+        } catch (ParseCancellationException e) {
+            return e.getMessage();
+        }
+    }
+
+    /**
+     * @param source
+     * @param mode
+     * @return Program
+     */
+    private static Program parse(String source, ParseMode mode) {
+        return new AstAdapter(mode).getAst(new ByteArrayInputStream(source.getBytes()));
+    }
 }
@@ -1,22 +1,62 @@
 package All;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.InputStream;
 import java.io.PrintStream;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Modifier;
-
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import jdk.jfr.consumer.RecordingFile;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import Benchmark.SyntheticProgram;
 import Helper.ReflectLoader;
+import main.CompileClient;
+import main.CompileServer;
 import Helper.Resources;
+import common.AstAdapter;
+import common.AstCache;
+import common.AstMode;
+import common.CompilePhase;
 import common.Compiler;
+import common.CompilerFactory;
+import common.DfaCache;
+import common.ExecutionMode;
+import common.IncrementalCompiler;
+import common.LexMode;
+import common.ParseMode;
+import common.PhaseStats;
+import common.StatsCollector;
+import common.StreamingCompiler;
+import common.SyntaxError;
+import common.jfr.CompilerRecording;
 import semantic.exceptions.SemanticError;
 import syntaxtree.structure.Program;
 
@@ -1251,4 +1291,472 @@ public class TestRunner {
         fail("Should have thrown an exception");
 
     }
+
+    @Test
+    @DisplayName("Batch Compilation")
+    void batchCompilation(@TempDir Path outDir) {
+        ClassLoader classLoader = Resources.class.getClassLoader();
+        String passing = classLoader.getResource("SimpleTests/FourClasses.java").getFile();
+        String failing = classLoader.getResource("FailTests/WhileBool.java").getFile();
+
+        var results = Compiler.getFactory().compileBatch(List.of(passing, failing), outDir.toString());
+
+        assertEquals(2, results.size());
+        assertEquals(new File(failing).getPath(), results.get(0).getFileName());
+        assertTrue(!results.get(0).isSuccess());
+        assertTrue(results.get(1).isSuccess());
+        assertTrue(outDir.resolve("FourClasses.class").toFile().exists());
+
+        // the class files cannot be written into a file
+        results = Compiler.getFactory().compileBatch(List.of(passing),
+                outDir.resolve("FourClasses.class").toString());
+        assertFalse(results.get(0).isSuccess());
+    }
+
+    @Test
+    @DisplayName("Batch Compilation of duplicate classes")
+    void batchCompilationDuplicates(@TempDir Path sources, @TempDir Path outDir) throws Exception {
+        Path first = Files.writeString(sources.resolve("First.java"), "class Shared { } class First { }");
+        Path second = Files.writeString(sources.resolve("Second.java"), "class Second { } class Shared { }");
+        Path third = Files.writeString(sources.resolve("Third.java"), "class Third { }");
+
+        var results = Compiler.getFactory().compileBatch(List.of(sources.toString()), outDir.toString());
+
+        assertEquals(3, results.size());
+        assertEquals("Class Shared is also declared in " + second, results.get(0).getError());
+        assertEquals("Class Shared is also declared in " + first, results.get(1).getError());
+        assertTrue(results.get(2).isSuccess());
+        assertEquals(third.toString(), results.get(2).getFileName());
+        assertFalse(outDir.resolve("Shared.class").toFile().exists());
+        assertFalse(outDir.resolve("First.class").toFile().exists());
+        assertTrue(outDir.resolve("Third.class").toFile().exists());
+    }
+
+    @Test
+    @DisplayName("Compile Server")
+    void compileServer(@TempDir Path outDir, @TempDir Path tokenDir) throws Exception {
+        CompileServer server = new CompileServer(Compiler.getFactory(), 0, tokenDir.resolve("tokens"));
+        Thread serverThread = new Thread(server::serve);
+        serverThread.start();
+        try {
+            if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+                assertEquals(PosixFilePermissions.fromString("rw-------"),
+                        Files.getPosixFilePermissions(server.getTokenFile()));
+                assertEquals(PosixFilePermissions.fromString("rwx------"),
+                        Files.getPosixFilePermissions(tokenDir.resolve("tokens")));
+            }
+            Path wrongToken = Files.writeString(tokenDir.resolve("wrong.token"), "guessed");
+            CompileClient client = new CompileClient(server.getPort(), server.getTokenFile());
+            String file = new File(Resources.class.getClassLoader().getResource("SimpleTests/FourClasses.java")
+                    .getFile()).getAbsolutePath();
+            String failing = new File(Resources.class.getClassLoader().getResource("FailTests/WhileBool.java")
+                    .getFile()).getAbsolutePath();
+
+            assertEquals(1, new CompileClient(server.getPort(), wrongToken).send(CompileServer.COMPILE, file,
+                    outDir.toString()));
+            assertFalse(outDir.resolve("FourClasses.class").toFile().exists());
+            assertEquals(0, client.send(CompileServer.COMPILE, file, outDir.toString()));
+            assertTrue(outDir.resolve("FourClasses.class").toFile().exists());
+            assertEquals(1, client.send(CompileServer.COMPILE, failing, outDir.toString()));
+            // the output directory is a file, so writing the classes fails
+            assertEquals(1, client.send(CompileServer.COMPILE, file, outDir.resolve("FourClasses.class").toString()));
+            assertEquals(1, new CompileClient(server.getPort(), wrongToken).send(CompileServer.SHUTDOWN));
+
+            // idle and flooding connections are closed without an answer
+            server.setReadTimeout(200);
+            try (Socket idle = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+                idle.setSoTimeout(10_000);
+                assertEquals(-1, idle.getInputStream().read());
+            }
+            try (Socket flooding = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+                flooding.setSoTimeout(10_000);
+                try {
+                    flooding.getOutputStream().write(new byte[CompileServer.MAX_LINE_CHARS + 1]);
+                    assertEquals(-1, flooding.getInputStream().read());
+                } catch (SocketException e) {
+                    // reset by the server while still writing
+                }
+            }
+            assertEquals(0, client.send(CompileServer.PING));
+            assertEquals(0, client.send(CompileServer.SHUTDOWN));
+        } finally {
+            server.close();
+            serverThread.join();
+        }
+        assertFalse(server.getTokenFile().toFile().exists());
+    }
+
+    @Test
+    @DisplayName("Incremental Compilation")
+    void incrementalCompilation(@TempDir Path outDir) throws Exception {
+        String source = Files.readString(Path.of(
+                Resources.class.getClassLoader().getResource("SimpleTests/FourClasses.java").toURI()));
+        IncrementalCompiler compiler = new IncrementalCompiler(Compiler.getFactory());
+
+        assertEquals(List.of("FourClasses", "Test", "Test2", "Test3"),
+                compiler.compile(new ByteArrayInputStream(source.getBytes()), outDir.toString()));
+        assertEquals(List.of(), compiler.compile(new ByteArrayInputStream(source.getBytes()), outDir.toString()));
+
+        assertTrue(outDir.resolve("Test2.class").toFile().delete());
+        assertEquals(List.of("Test2"),
+                compiler.compile(new ByteArrayInputStream(source.getBytes()), outDir.toString()));
+
+        // a body-only change in Test3 leaves its signature and thus its dependents untouched
+        String changed = source.replace("return this.y;", "return this.x;");
+        assertEquals(List.of("Test3"),
+                compiler.compile(new ByteArrayInputStream(changed.getBytes()), outDir.toString()));
+
+        // a signature change recompiles everything that can reach Test3
+        changed = changed.replace("public int getY()", "public int getZ()");
+        assertEquals(List.of("FourClasses", "Test", "Test2", "Test3"),
+                compiler.compile(new ByteArrayInputStream(changed.getBytes()), outDir.toString()));
+
+        // the file is parsed by the AstAdapter of the factory, with its modes and its cache
+        CompilerFactory factory = Compiler.getFactory();
+        AstCache cache = new AstCache();
+        factory.setAstMode(AstMode.RECURSIVE_DESCENT);
+        factory.setLexMode(LexMode.SCANNER);
+        factory.setAstCache(cache);
+        IncrementalCompiler configured = new IncrementalCompiler(factory, ExecutionMode.PARALLEL, null);
+        Path configuredOut = outDir.resolve("configured");
+        assertEquals(List.of("FourClasses", "Test", "Test2", "Test3"),
+                configured.compile(new ByteArrayInputStream(source.getBytes()), configuredOut.toString()));
+        assertEquals(List.of(), configured.compile(new ByteArrayInputStream(source.getBytes()),
+                configuredOut.toString()));
+        assertEquals(1, cache.getHits());
+        Path whole = outDir.resolve("whole");
+        Compiler.getFactory().compile(new ByteArrayInputStream(source.getBytes()), whole.toString());
+        for (String clazz : List.of("FourClasses", "Test", "Test2", "Test3")) {
+            assertArrayEquals(Files.readAllBytes(whole.resolve(clazz + ".class")),
+                    Files.readAllBytes(configuredOut.resolve(clazz + ".class")), clazz);
+        }
+    }
+
+    @Test
+    @DisplayName("Streaming Compilation")
+    void streamingCompilation(@TempDir Path outDir) throws Exception {
+        Path whole = outDir.resolve("whole");
+        Path streamed = outDir.resolve("streamed");
+        StreamingCompiler compiler = new StreamingCompiler(ParseMode.SLL_FIRST);
+        for (String file : List.of("SimpleTests/FourClasses.java", "Integration/Dijkstra.java",
+                "Integration/LinkedList.java")) {
+            Compiler.getFactory().compile(Resources.getFileAsStream(file), whole.toString());
+            var written = compiler.compile(CharStreams.fromStream(Resources.getFileAsStream(file)),
+                    streamed.toString());
+            for (String clazz : written) {
+                assertArrayEquals(Files.readAllBytes(whole.resolve(clazz + ".class")),
+                        Files.readAllBytes(streamed.resolve(clazz + ".class")), clazz);
+            }
+        }
+
+        Path parallel = outDir.resolve("parallel");
+        var written = new StreamingCompiler(ParseMode.SLL_FIRST, ExecutionMode.PARALLEL).compile(
+                CharStreams.fromStream(Resources.getFileAsStream("Integration/Dijkstra.java")), parallel.toString());
+        for (String clazz : written) {
+            assertArrayEquals(Files.readAllBytes(whole.resolve(clazz + ".class")),
+                    Files.readAllBytes(parallel.resolve(clazz + ".class")), clazz);
+        }
+
+        Path scanner = outDir.resolve("scanner");
+        written = new StreamingCompiler(ParseMode.SLL_FIRST, LexMode.SCANNER, ExecutionMode.SERIAL, null).compile(
+                CharStreams.fromStream(Resources.getFileAsStream("Integration/Dijkstra.java")), scanner.toString());
+        assertFalse(written.isEmpty());
+        for (String clazz : written) {
+            assertArrayEquals(Files.readAllBytes(whole.resolve(clazz + ".class")),
+                    Files.readAllBytes(scanner.resolve(clazz + ".class")), clazz);
+        }
+
+        CompilerFactory factory = Compiler.getFactory();
+        factory.setStreaming(true);
+        assertThrows(SemanticError.class,
+                () -> factory.compile(Resources.getFileAsStream("FailTests/AssignFail.java"), streamed.toString()));
+    }
+
+    @Test
+    @DisplayName("Streaming Compilation writes the classes before the first error")
+    void streamingCompilationError(@TempDir Path outDir) {
+        String source = "class A { int f() { return 1; } } class B { int g() { return true; } } "
+                + "class C { int h() { return 2; } }";
+        for (ExecutionMode mode : ExecutionMode.values()) {
+            Path out = outDir.resolve(mode.name());
+            assertThrows(SemanticError.class, () -> new StreamingCompiler(ParseMode.SLL_FIRST, mode)
+                    .compile(CharStreams.fromString(source), out.toString()));
+            assertTrue(out.resolve("A.class").toFile().exists(), mode.name());
+            assertFalse(out.resolve("B.class").toFile().exists(), mode.name());
+            assertFalse(out.resolve("C.class").toFile().exists(), mode.name());
+        }
+    }
+
+    @Test
+    @DisplayName("Typed AST")
+    void typedAst(@TempDir Path outDir) throws Exception {
+        Path source = outDir.resolve("Dijkstra.java");
+        Files.copy(Resources.getFileAsStream("Integration/Dijkstra.java"), source);
+        Path tast = outDir.resolve("Dijkstra.tast");
+        Path whole = outDir.resolve("whole");
+        Path generated = outDir.resolve("generated");
+        CompilerFactory compiler = Compiler.getFactory();
+        compiler.compile(source.toString(), whole.toString());
+        compiler.writeTast(source.toString(), tast.toString());
+        // a fresh compiler has to generate the same classes without the source
+        Compiler.getFactory().generateTast(tast.toString(), generated.toString());
+        try (var classes = Files.list(whole)) {
+            for (Path clazz : classes.toList()) {
+                assertArrayEquals(Files.readAllBytes(clazz), Files.readAllBytes(generated.resolve(clazz.getFileName())),
+                        clazz.toString());
+            }
+        }
+        assertTrue(Files.size(tast) < Files.size(source));
+    }
+
+    @Test
+    @DisplayName("AST Cache")
+    void astCache(@TempDir Path outDir) throws Exception {
+        byte[] source = Resources.getFileAsStream("Integration/Dijkstra.java").readAllBytes();
+        Path cacheDir = outDir.resolve("cache");
+        AstCache cache = new AstCache(1, cacheDir);
+        CompilerFactory compiler = Compiler.getFactory();
+        compiler.setAstCache(cache);
+
+        Program parsed = compiler.getAstAdapter().getAst(new ByteArrayInputStream(source));
+        assertEquals(1, cache.getMisses());
+        Program expected = Compiler.getFactory().getAstAdapter().getAst(new ByteArrayInputStream(source));
+        assertEquals(expected, parsed);
+        // checking the first program must not change the cached one
+        compiler.getTastAdapter().getTast(parsed);
+        Program cached = compiler.getAstAdapter().getAst(new ByteArrayInputStream(source));
+        assertEquals(1, cache.getHits());
+        assertEquals(expected.toString(), cached.toString());
+
+        compiler.compile(new ByteArrayInputStream(source), outDir.toString());
+        assertEquals(2, cache.getHits());
+
+        // the least recently used source is dropped, the disk still has it
+        compiler.getAstAdapter().getAst(Resources.getFileAsStream("SimpleTests/EmptyClass.java"));
+        assertEquals(1, cache.size());
+        AstCache restored = new AstCache(1, cacheDir);
+        Program loaded = restored.get(AstCache.hash(source));
+        assertEquals(expected, loaded);
+        assertEquals(1, restored.getHits());
+        assertEquals(1, restored.size());
+        // later hits are served from memory, each with its own copy
+        Program again = restored.get(AstCache.hash(source));
+        assertEquals(expected, again);
+        assertNotSame(loaded, again);
+        assertEquals(2, restored.getHits());
+        assertEquals(null, restored.get(AstCache.hash(new byte[0])));
+    }
+
+    @Test
+    @DisplayName("Recovering Parse")
+    void recoveringParse(@TempDir Path outDir) {
+        String source = String.join("\n", "class A {", "    int x;", "    void f() {", "        x = ;",
+                "        boolean b = 1;", "    }", "    int g( { return 1; }", "    void h() { x = 1 1; }", "}");
+        CompilerFactory factory = Compiler.getFactory();
+        factory.setAstMode(AstMode.RECOVERING);
+        SyntaxError error = assertThrows(SyntaxError.class,
+                () -> factory.compile(new ByteArrayInputStream(source.getBytes()), outDir.toString()));
+        assertEquals(3, error.getErrors().size(), error.getMessage());
+        assertTrue(error.getErrors().get(0).endsWith("(4:12)"), error.getMessage());
+        assertTrue(error.getErrors().get(1).endsWith("(7:11)"), error.getMessage());
+        assertTrue(error.getErrors().get(2).endsWith("(8:21)"), error.getMessage());
+        // g lost its signature, so A is broken and none of its semantic errors are reported
+        assertEquals(2, error.getProgram().getClasses().get(0).getMethodDeclarations().size());
+        assertEquals(recoveringMessage(error.getErrors()), error.getMessage());
+
+        // the other modes stop at the first error
+        ParseCancellationException first = assertThrows(ParseCancellationException.class,
+                () -> Compiler.getFactory().compile(new ByteArrayInputStream(source.getBytes()), outDir.toString()));
+        assertTrue(first.getMessage().contains("(4:12)"), first.getMessage());
+    }
+
+    @Test
+    @DisplayName("Recovering Parse Semantic Errors")
+    void recoveringParseSemanticErrors(@TempDir Path outDir) {
+        CompilerFactory factory = Compiler.getFactory();
+        factory.setAstMode(AstMode.RECOVERING);
+
+        // the dropped declaration of x must not show up as semantic errors
+        SyntaxError error = assertThrows(SyntaxError.class, () -> factory.compile(
+                new ByteArrayInputStream("class A { int f() { int x = ; x = 2; return x; } }".getBytes()),
+                outDir.toString()));
+        assertEquals(recoveringMessage(List.of("no viable alternative at input ';' (1:28)")), error.getMessage());
+
+        // f lost its signature, so calls of f in A are not checked
+        error = assertThrows(SyntaxError.class, () -> factory.compile(
+                new ByteArrayInputStream("class A { int f( { return 1; } int g() { return f(); } }".getBytes()),
+                outDir.toString()));
+        assertEquals(recoveringMessage(List.of("no viable alternative at input '{' (1:17)")), error.getMessage());
+
+        // f keeps its signature for B, the intact g is still checked
+        String source = String.join("\n", "class A {", "    int f() { int x = ; x = 2; return x; }",
+                "    int g() { return true; }", "}", "class B {", "    int h(A a) { return a.f(); }", "}");
+        error = assertThrows(SyntaxError.class,
+                () -> factory.compile(new ByteArrayInputStream(source.getBytes()), outDir.toString()));
+        assertEquals(recoveringMessage(List.of("no viable alternative at input ';' (2:22)"),
+                "Method-Declaration g with type int has at least one Mismatching return Type: (A.java:3:5)",
+                "Return-Type mismatch:  cannot convert from boolean to int (A.java:3:15)"), error.getMessage());
+    }
+
+    /**
+     * @param syntaxErrors
+     * @param semanticErrors in the order of the SemanticError message
+     * @return String message of the SyntaxError of a recovering parse
+     */
+    private static String recoveringMessage(List<String> syntaxErrors, String... semanticErrors) {
+        String message = new SyntaxError(syntaxErrors, null).getMessage();
+        if (semanticErrors.length == 0) {
+            return message;
+        }
+        return message + "\n\u001B[31m" + String.join("\n", semanticErrors) + "\n\u001B[0m";
+    }
+
+    @Test
+    @DisplayName("Synthetic Program")
+    void syntheticProgram() {
+        SyntheticProgram generator = new SyntheticProgram(20, 4);
+        generator.setNestingDepth(4);
+        generator.setExpressionDepth(4);
+        generator.setCallDensity(0.5);
+        assertEquals(generator.generate(), generator.generate());
+
+        Program tast = Compiler.getFactory().getTastAdapter().getTast(generator.toAst());
+        var bc = Compiler.getFactory().getProgramGenerator().generateBytecode(tast);
+        assertEquals(20, bc.size());
+        assertTrue(bc.containsKey(SyntheticProgram.CLASS_PREFIX + "19"));
+    }
+
+    @Test
+    @DisplayName("Compile Stats")
+    void compileStats(@TempDir Path outDir) {
+        CompilerFactory compiler = Compiler.getFactory();
+        StatsCollector stats = new StatsCollector();
+        compiler.addCompileListener(stats);
+        compiler.compile(Resources.getFileAsStream("SimpleTests/FourClasses.java"), outDir.toString());
+
+        var collected = stats.getStats();
+        assertEquals(1, collected.stream().filter(s -> s.getPhase() == CompilePhase.PARSE).count());
+        // four classes and the whole phase
+        assertEquals(5, collected.stream().filter(s -> s.getPhase() == CompilePhase.SEMANTIC_CHECK).count());
+        assertEquals(5, collected.stream().filter(s -> s.getPhase() == CompilePhase.CODEGEN).count());
+        assertTrue(collected.stream().allMatch(s -> s.getWallNanos() >= 0));
+        assertTrue(stats.toJson().contains("\"class\": \"Test3\""));
+
+        compiler.removeCompileListener(stats);
+        compiler.compile(Resources.getFileAsStream("SimpleTests/FourClasses.java"), outDir.toString());
+        assertEquals(collected.size(), stats.getStats().size());
+    }
+
+    @Test
+    @DisplayName("Compile Stats of parallel phases")
+    void compileStatsParallel(@TempDir Path outDir) {
+        CompilerFactory compiler = Compiler.getFactory();
+        compiler.setSemanticMode(ExecutionMode.PARALLEL);
+        compiler.setCodegenMode(ExecutionMode.PARALLEL);
+        StatsCollector stats = new StatsCollector();
+        compiler.addCompileListener(stats);
+        compiler.compile(new ByteArrayInputStream(new SyntheticProgram(50, 5).generate().getBytes()),
+                outDir.toString());
+
+        for (CompilePhase phase : List.of(CompilePhase.SEMANTIC_CHECK, CompilePhase.CODEGEN)) {
+            var collected = stats.getStats().stream().filter(s -> s.getPhase() == phase)
+                    .collect(Collectors.toList());
+            assertEquals(51, collected.size(), phase.name());
+            PhaseStats total = collected.get(50);
+            assertNull(total.getClassName());
+            // the whole phase covers the classes handled by the worker threads
+            if (total.getAllocatedBytes() >= 0) {
+                assertTrue(total.getAllocatedBytes() >= collected.subList(0, 50).stream()
+                        .mapToLong(PhaseStats::getAllocatedBytes).sum(), phase.name());
+            }
+            if (total.getCpuNanos() >= 0) {
+                assertTrue(total.getCpuNanos() >= collected.subList(0, 50).stream()
+                        .mapToLong(PhaseStats::getCpuNanos).sum(), phase.name());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Compile Stats of incremental and streaming compilation")
+    void compileStatsIncrementalStreaming(@TempDir Path outDir) {
+        for (boolean incremental : List.of(true, false)) {
+            CompilerFactory compiler = Compiler.getFactory();
+            compiler.setIncremental(incremental);
+            compiler.setStreaming(!incremental);
+            StatsCollector stats = new StatsCollector();
+            compiler.addCompileListener(stats);
+            compiler.compile(Resources.getFileAsStream("SimpleTests/FourClasses.java"),
+                    outDir.resolve(String.valueOf(incremental)).toString());
+
+            var collected = stats.getStats();
+            // incremental compilation parses the file as a whole, streaming compilation every class on its own
+            assertEquals(incremental ? 1 : 5, collected.stream().filter(s -> s.getPhase() == CompilePhase.PARSE)
+                    .count());
+            for (CompilePhase phase : CompilePhase.values()) {
+                assertEquals(1, collected.stream()
+                        .filter(s -> s.getPhase() == phase && s.getClassName() == null).count(), phase.name());
+            }
+            assertEquals(5, collected.stream().filter(s -> s.getPhase() == CompilePhase.SEMANTIC_CHECK).count());
+            assertEquals(5, collected.stream().filter(s -> s.getPhase() == CompilePhase.CODEGEN).count());
+        }
+    }
+
+    @Test
+    @DisplayName("Flight Recorder Events")
+    void flightRecorderEvents(@TempDir Path outDir) throws Exception {
+        Path file = outDir.resolve("compile.jfr");
+        try (CompilerRecording recording = new CompilerRecording(file)) {
+            Compiler.getFactory().compile(Resources.getFileAsStream("SimpleTests/FourClasses.java"),
+                    outDir.toString());
+        }
+
+        var events = RecordingFile.readAllEvents(file);
+        assertEquals(1, events.stream().filter(e -> e.getEventType().getName().equals("houseofcompiler.Parse"))
+                .count());
+        assertEquals(4, events.stream()
+                .filter(e -> e.getEventType().getName().equals("houseofcompiler.SemanticCheck")).count());
+        var getX = events.stream()
+                .filter(e -> e.getEventType().getName().equals("houseofcompiler.MethodGeneration")
+                        && e.getString("className").equals("Test3") && e.getString("methodName").equals("getX"))
+                .findFirst().orElseThrow();
+        // aload_0, getfield, ireturn
+        assertEquals(3, getX.getInt("instructionCount"));
+    }
+
+    @Test
+    @DisplayName("DFA Cache")
+    void dfaCache(@TempDir Path outDir) throws Exception {
+        DfaCache cache = new DfaCache();
+        cache.warmUp();
+        Path unrecorded = outDir.resolve("unrecorded.snapshot");
+        cache.saveSnapshot(unrecorded);
+        DfaCache empty = new DfaCache();
+        empty.warmUp(unrecorded);
+        assertEquals(0, empty.getStates());
+
+        cache = new DfaCache();
+        cache.setRecording(true);
+        cache.warmUp();
+        int states = cache.getStates();
+        assertTrue(states > 0);
+        assertTrue(cache.getMisses() > 0);
+
+        // a warm cache answers the same input without computing new states
+        CharStream source = CharStreams.fromStream(Resources.getFileAsStream(DfaCache.WARMUP_CORPUS));
+        long hitsBefore = cache.getHits();
+        AstAdapter.parse(cache.createParser(source), ParseMode.SLL_FIRST);
+        assertEquals(states, cache.getStates());
+        assertTrue(cache.getHits() > hitsBefore);
+
+        Path snapshot = outDir.resolve("dfa.snapshot");
+        cache.saveSnapshot(snapshot);
+        DfaCache restored = new DfaCache();
+        restored.warmUp(snapshot);
+        assertEquals(states, restored.getStates());
+
+        cache.setMaxStates(states - 1);
+        cache.parsed(source, cache.getMisses());
+        assertEquals(0, cache.getStates());
+        assertEquals(1, cache.getResets());
+    }
 }
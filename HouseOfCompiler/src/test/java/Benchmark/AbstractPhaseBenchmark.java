@@ -0,0 +1,94 @@
+package Benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ListTokenSource;
+import org.antlr.v4.runtime.Token;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+import codegen.ProgramGenerator;
+import parser.adapter.ProgramAdapter;
+import parser.generated.JavaSubsetLexer;
+import parser.generated.JavaSubsetParser;
+import semantic.SemanticCheck;
+import syntaxtree.structure.Program;
+
+/**
+ * Measures every compiler phase on its own. Each phase gets the finished
+ * output of the previous phase from the setup, so a regression shows up in
+ * exactly one benchmark. Subclasses choose the inputs.
+ *
+ * Run with: mvn -P benchmark verify (adds -prof gc for the allocation rate)
+ */
+@State(Scope.Benchmark)
+public abstract class AbstractPhaseBenchmark {
+
+    private byte[] source;
+    private List<? extends Token> tokens;
+    private JavaSubsetParser.ProgramContext parseTree;
+    private Program unchecked;
+    private Program tast;
+
+    /**
+     * @return byte[] source of the program to compile
+     * @throws IOException
+     */
+    protected abstract byte[] loadSource() throws IOException;
+
+    @Setup
+    public void setup() throws IOException {
+        source = loadSource();
+        tokens = lex();
+        parseTree = parse();
+        unchecked = adapt();
+        tast = semanticCheck();
+    }
+
+    /**
+     * The check annotates the tree it is given, so every run of the check
+     * gets a fresh AST. The other phases do not need one and skip the work.
+     *
+     * @param params
+     */
+    @Setup(Level.Invocation)
+    public void freshAst(BenchmarkParams params) {
+        if (params.getBenchmark().endsWith(".semanticCheck")) {
+            unchecked = adapt();
+        }
+    }
+
+    @Benchmark
+    public List<? extends Token> lex() throws IOException {
+        return new JavaSubsetLexer(CharStreams.fromStream(new ByteArrayInputStream(source))).getAllTokens();
+    }
+
+    @Benchmark
+    public JavaSubsetParser.ProgramContext parse() {
+        return new JavaSubsetParser(new CommonTokenStream(new ListTokenSource(tokens))).program();
+    }
+
+    @Benchmark
+    public Program adapt() {
+        return ProgramAdapter.adapt(parseTree);
+    }
+
+    @Benchmark
+    public Program semanticCheck() {
+        return SemanticCheck.generateTast(unchecked);
+    }
+
+    @Benchmark
+    public HashMap<String, byte[]> codegen() {
+        return ProgramGenerator.generate(tast);
+    }
+}
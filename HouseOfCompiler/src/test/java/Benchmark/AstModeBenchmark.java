@@ -0,0 +1,67 @@
+package Benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.antlr.v4.runtime.CharStreams;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import common.AstAdapter;
+import common.AstMode;
+import common.DfaCache;
+import common.LexMode;
+import common.ParseMode;
+import syntaxtree.structure.Program;
+
+/**
+ * Source to syntaxtree time of the ANTLR parser with the adapters, the ANTLR
+ * parser with the DirectAstBuilder and the RecursiveDescentParser, all on the
+ * hand written scanner
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AstModeBenchmark {
+
+    @Param({ "Integration/Dijkstra.java", "synthetic:100" })
+    public String input;
+
+    @Param({ "ADAPTERS", "DIRECT", "RECURSIVE_DESCENT" })
+    public AstMode mode;
+
+    private String source;
+    private AstAdapter astAdapter;
+
+    @Setup
+    public void setup() throws IOException {
+        if (input.startsWith("synthetic:")) {
+            source = new SyntheticProgram(Integer.parseInt(input.substring("synthetic:".length())), 5).generate();
+        } else {
+            try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream(input)) {
+                source = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+            }
+        }
+        DfaCache.getShared().warmUp();
+        astAdapter = new AstAdapter(ParseMode.SLL_FIRST, mode, LexMode.SCANNER);
+    }
+
+    @Benchmark
+    public Program getAst() {
+        return astAdapter.getAst(CharStreams.fromString(source));
+    }
+}
@@ -0,0 +1,68 @@
+package Benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Token;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import common.DfaCache;
+import common.LexMode;
+import parser.JavaSubsetScanner;
+
+/**
+ * Lexing time of the generated JavaSubsetLexer (on the warm shared DFA)
+ * against the hand written JavaSubsetScanner
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LexerBenchmark {
+
+    @Param({ "SimpleTests/OperatorStacking.java", "Integration/Dijkstra.java", "synthetic:100" })
+    public String input;
+
+    @Param({ "ANTLR", "SCANNER" })
+    public LexMode mode;
+
+    private String source;
+
+    @Setup
+    public void setup() throws IOException {
+        if (input.startsWith("synthetic:")) {
+            source = new SyntheticProgram(Integer.parseInt(input.substring("synthetic:".length())), 5).generate();
+        } else {
+            try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream(input)) {
+                source = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+            }
+        }
+        DfaCache.getShared().warmUp();
+    }
+
+    @Benchmark
+    public List<? extends Token> lex() {
+        CharStream charStream = CharStreams.fromString(source);
+        Lexer lexer = mode == LexMode.SCANNER ? new JavaSubsetScanner(charStream)
+                : DfaCache.getShared().createLexer(charStream);
+        return lexer.getAllTokens();
+    }
+}
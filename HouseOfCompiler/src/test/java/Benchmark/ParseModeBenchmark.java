@@ -0,0 +1,70 @@
+package Benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ListTokenSource;
+import org.antlr.v4.runtime.Token;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import common.AstAdapter;
+import common.ParseMode;
+import parser.generated.JavaSubsetLexer;
+import parser.generated.JavaSubsetParser;
+
+/**
+ * Parse time of full LL prediction against SLL first (with the LL fallback)
+ * on the test programs
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParseModeBenchmark {
+
+    @Param({ "SimpleTests/FourClasses.java", "SimpleTests/OperatorStacking.java", "Integration/LinkedList.java",
+            "Integration/Dijkstra.java", "synthetic:100" })
+    public String input;
+
+    @Param({ "LL", "SLL_FIRST" })
+    public ParseMode mode;
+
+    private List<? extends Token> tokens;
+
+    @Setup
+    public void setup() throws IOException {
+        byte[] source;
+        if (input.startsWith("synthetic:")) {
+            source = new SyntheticProgram(Integer.parseInt(input.substring("synthetic:".length())), 5).generate()
+                    .getBytes(StandardCharsets.UTF_8);
+        } else {
+            try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream(input)) {
+                source = inputStream.readAllBytes();
+            }
+        }
+        tokens = new JavaSubsetLexer(CharStreams.fromStream(new ByteArrayInputStream(source))).getAllTokens();
+    }
+
+    @Benchmark
+    public JavaSubsetParser.ProgramContext parse() {
+        return AstAdapter.parse(new JavaSubsetParser(new CommonTokenStream(new ListTokenSource(tokens))), mode);
+    }
+}
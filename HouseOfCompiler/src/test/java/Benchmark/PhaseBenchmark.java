@@ -0,0 +1,48 @@
+package Benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of every phase for the programs from src/test/resources and
+ * "synthetic:N" for N classes of the SyntheticProgram.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PhaseBenchmark extends AbstractPhaseBenchmark {
+
+    @Param({ "SimpleTests/FourClasses.java", "Integration/LinkedList.java", "Integration/Dijkstra.java",
+            "synthetic:10", "synthetic:100", "synthetic:1000" })
+    public String input;
+
+    /**
+     * @return byte[]
+     * @throws IOException
+     */
+    @Override
+    protected byte[] loadSource() throws IOException {
+        if (input.startsWith("synthetic:")) {
+            return new SyntheticProgram(Integer.parseInt(input.substring("synthetic:".length())), 5).generate()
+                    .getBytes(StandardCharsets.UTF_8);
+        }
+        try (InputStream inputStream = PhaseBenchmark.class.getClassLoader().getResourceAsStream(input)) {
+            if (inputStream == null) {
+                throw new IOException("Resource not found: " + input);
+            }
+            return inputStream.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package Benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time of a single run of every phase for SyntheticPrograms from 1 KLOC to
+ * 1 MLOC, to see how each phase grows with the size of the input.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = { "-Xmx4g", "-Xss16m" })
+public class ScalingBenchmark extends AbstractPhaseBenchmark {
+
+    @Param({ "1000", "10000", "100000", "1000000" })
+    public int lines;
+
+    /**
+     * @return byte[]
+     */
+    @Override
+    protected byte[] loadSource() {
+        return SyntheticProgram.ofLines(lines).generate().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,100 @@
+package Benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenFactory;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ListTokenSource;
+import org.antlr.v4.runtime.Token;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+import codegen.ProgramGenerator;
+import common.DfaCache;
+import parser.adapter.ProgramAdapter;
+import parser.generated.JavaSubsetLexer;
+import parser.generated.JavaSubsetParser;
+import semantic.SemanticCheck;
+import syntaxtree.structure.Program;
+
+/**
+ * Lexing with and without the SymbolTokenFactory, and the semantic check
+ * plus code generation of the resulting trees, whose name lookups are what
+ * the symbols are meant to speed up. Run with -prof gc to see the strings
+ * the plain tokens allocate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SymbolBenchmark {
+
+    @Param({ "Integration/Dijkstra.java", "synthetic:100" })
+    public String input;
+
+    @Param({ "true", "false" })
+    public boolean symbols;
+
+    private String source;
+    private JavaSubsetParser.ProgramContext parseTree;
+    private Program unchecked;
+
+    @Setup
+    public void setup() throws IOException {
+        if (input.startsWith("synthetic:")) {
+            source = new SyntheticProgram(Integer.parseInt(input.substring("synthetic:".length())), 5).generate();
+        } else {
+            try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream(input)) {
+                source = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+            }
+        }
+        DfaCache.getShared().warmUp();
+        parseTree = new JavaSubsetParser(new CommonTokenStream(new ListTokenSource(lex()))).program();
+    }
+
+    /**
+     * The check annotates the tree it is given, so every run of it gets a
+     * fresh AST.
+     *
+     * @param params
+     */
+    @Setup(Level.Invocation)
+    public void freshAst(BenchmarkParams params) {
+        if (params.getBenchmark().endsWith(".checkAndGenerate")) {
+            unchecked = ProgramAdapter.adapt(parseTree);
+        }
+    }
+
+    @Benchmark
+    public List<? extends Token> lex() {
+        JavaSubsetLexer lexer = DfaCache.getShared().createLexer(CharStreams.fromString(source));
+        if (!symbols) {
+            lexer.setTokenFactory(CommonTokenFactory.DEFAULT);
+        }
+        return lexer.getAllTokens();
+    }
+
+    @Benchmark
+    public HashMap<String, byte[]> checkAndGenerate() {
+        return ProgramGenerator.generate(SemanticCheck.generateTast(unchecked));
+    }
+}
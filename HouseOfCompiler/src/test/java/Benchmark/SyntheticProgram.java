@@ -0,0 +1,211 @@
+package Benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import common.Compiler;
+import syntaxtree.structure.Program;
+
+/**
+ * Generates valid JavaSubset programs of a chosen size and shape for the
+ * scaling benchmarks. Every class Synthetic<i> has an int field, a reference
+ * to the next class and the configured number of int methods (int a, int b).
+ * The method bodies nest if/while statements up to the nesting depth, use
+ * arithmetic expressions of the expression depth and call other methods
+ * (of the same or the next class) with the probability of the call density.
+ * The same seed always produces the same program.
+ */
+public class SyntheticProgram {
+
+    public static final String CLASS_PREFIX = "Synthetic";
+
+    private final int classes;
+    private final int methods;
+    private int nestingDepth = 2;
+    private int expressionDepth = 3;
+    private double callDensity = 0.3;
+    private long seed = 42;
+
+    public SyntheticProgram(int classes, int methods) {
+        if (classes < 1 || methods < 1) {
+            throw new IllegalArgumentException("A program needs at least one class and one method");
+        }
+        this.classes = classes;
+        this.methods = methods;
+    }
+
+    /**
+     * Program of the default shape with about the given number of lines
+     *
+     * @param lines
+     * @return SyntheticProgram
+     */
+    public static SyntheticProgram ofLines(int lines) {
+        int linesPerClass = new SyntheticProgram(1, 5).lineCount();
+        return new SyntheticProgram(Math.max(1, lines / linesPerClass), 5);
+    }
+
+    public void setNestingDepth(int nestingDepth) {
+        this.nestingDepth = nestingDepth;
+    }
+
+    public void setExpressionDepth(int expressionDepth) {
+        this.expressionDepth = expressionDepth;
+    }
+
+    /**
+     * @param callDensity probability (0..1) that a statement is a method call
+     */
+    public void setCallDensity(double callDensity) {
+        this.callDensity = callDensity;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * @return String the source of the whole program
+     */
+    public String generate() {
+        Random random = new Random(seed);
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < classes; i++) {
+            appendClass(builder, i, random);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * @return int
+     */
+    public int lineCount() {
+        return (int) generate().lines().count();
+    }
+
+    /**
+     * @return InputStream
+     */
+    public InputStream toInputStream() {
+        return new ByteArrayInputStream(generate().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Streams the program straight into the AstAdapter
+     *
+     * @return Program
+     */
+    public Program toAst() {
+        return Compiler.getFactory().getAstAdapter().getAst(toInputStream());
+    }
+
+    /**
+     * @param file
+     * @throws IOException
+     */
+    public void writeTo(Path file) throws IOException {
+        Files.writeString(file, generate());
+    }
+
+    /**
+     * @param builder
+     * @param index
+     * @param random
+     */
+    private void appendClass(StringBuilder builder, int index, Random random) {
+        String name = CLASS_PREFIX + index;
+        String next = CLASS_PREFIX + ((index + 1) % classes);
+        builder.append("class ").append(name).append(" {\n");
+        builder.append("    public int value;\n");
+        builder.append("    public ").append(next).append(" next;\n\n");
+        builder.append("    public ").append(name).append("(int value) {\n");
+        builder.append("        this.value = value;\n");
+        builder.append("    }\n");
+        for (int i = 0; i < methods; i++) {
+            builder.append("\n    public int m").append(i).append("(int a, int b) {\n");
+            builder.append("        int x = a;\n");
+            appendStatements(builder, 2, nestingDepth, random);
+            builder.append("        return x;\n");
+            builder.append("    }\n");
+        }
+        builder.append("}\n\n");
+    }
+
+    /**
+     * Two simple statements and, while the depth allows it, one nested if or
+     * while containing the next level
+     *
+     * @param builder
+     * @param indent
+     * @param depth
+     * @param random
+     */
+    private void appendStatements(StringBuilder builder, int indent, int depth, Random random) {
+        for (int i = 0; i < 2; i++) {
+            indent(builder, indent).append("x = ").append(random.nextDouble() < callDensity ? call(random)
+                    : expression(expressionDepth, random)).append(";\n");
+        }
+        if (depth <= 0) {
+            return;
+        }
+        if (random.nextBoolean()) {
+            indent(builder, indent).append("if (x < ").append(expression(expressionDepth, random)).append(") {\n");
+            appendStatements(builder, indent + 1, depth - 1, random);
+            indent(builder, indent).append("} else {\n");
+            indent(builder, indent + 1).append("x = b;\n");
+            indent(builder, indent).append("}\n");
+        } else {
+            indent(builder, indent).append("while (x < b) {\n");
+            appendStatements(builder, indent + 1, depth - 1, random);
+            indent(builder, indent + 1).append("x++;\n");
+            indent(builder, indent).append("}\n");
+        }
+    }
+
+    /**
+     * @param depth
+     * @param random
+     * @return String operand (operator operand)* with parenthesised operands
+     *         of the next level
+     */
+    private String expression(int depth, Random random) {
+        String leaf = switch (random.nextInt(4)) {
+            case 0 -> "a";
+            case 1 -> "b";
+            case 2 -> "this.value";
+            default -> String.valueOf(1 + random.nextInt(9));
+        };
+        if (depth <= 0) {
+            return leaf;
+        }
+        String operator = switch (random.nextInt(3)) {
+            case 0 -> " + ";
+            case 1 -> " - ";
+            default -> " * ";
+        };
+        return leaf + operator + "(" + expression(depth - 1, random) + ")";
+    }
+
+    /**
+     * @param random
+     * @return String call of a method of this or the next class
+     */
+    private String call(Random random) {
+        String receiver = random.nextBoolean() ? "this." : "this.next.";
+        return "x + " + receiver + "m" + random.nextInt(methods) + "(x, b)";
+    }
+
+    /**
+     * @param builder
+     * @param indent
+     * @return StringBuilder
+     */
+    private static StringBuilder indent(StringBuilder builder, int indent) {
+        return builder.append("    ".repeat(indent));
+    }
+}
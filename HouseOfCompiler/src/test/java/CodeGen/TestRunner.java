@@ -1,5 +1,6 @@
 package CodeGen;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -15,6 +16,7 @@ import Helper.MockGenerator;
 import Helper.ReflectLoader;
 import Helper.Resources;
 import common.Compiler;
+import common.ExecutionMode;
 import common.PrintableVector;
 import syntaxtree.structure.ClassDecl;
 import syntaxtree.structure.ConstructorDecl;
@@ -353,4 +355,18 @@ public class TestRunner {
         }
     }
 
+    @Test
+    @DisplayName("Parallel Codegen matches Serial Codegen")
+    void parallelCodegen() {
+        Program program = Resources.getProgram("SimpleTests/FourClasses.java");
+        Program tast = Compiler.getFactory().getTastAdapter().getTast(program);
+        var compiler = Compiler.getFactory();
+        var serial = compiler.getProgramGenerator().generateBytecode(tast);
+        compiler.setCodegenMode(ExecutionMode.PARALLEL);
+        var parallel = compiler.getProgramGenerator().generateBytecode(tast);
+
+        assertEquals(serial.keySet(), parallel.keySet());
+        serial.forEach((clazz, bytecode) -> assertArrayEquals(bytecode, parallel.get(clazz), clazz));
+    }
+
 }
@@ -1,9 +1,13 @@
 package TAST;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.io.FileNotFoundException;
+import java.util.List;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
@@ -12,10 +16,17 @@ import org.junit.jupiter.api.Test;
 import Helper.MockGenerator;
 import Helper.Resources;
 import common.AccessModifier;
+import common.AstSerializer;
 import common.BaseType;
 import common.Compiler;
+import common.ExecutionMode;
 import common.Primitives;
 import common.PrintableVector;
+import common.ReferenceType;
+import common.TypeTable;
+import context.Context;
+import context.ScopeContext;
+import semantic.exceptions.AlreadyDefinedException;
 import semantic.exceptions.SemanticError;
 import syntaxtree.structure.ClassDecl;
 import syntaxtree.structure.ConstructorDecl;
@@ -321,4 +332,91 @@ public class TestRunner {
         assertEquals(expectedTast, generatedTast);
     }
 
+    @Test
+    @DisplayName("Parallel SemanticCheck matches Serial SemanticCheck")
+    void parallelSemanticCheck() {
+        var compiler = Compiler.getFactory();
+        compiler.setSemanticMode(ExecutionMode.PARALLEL);
+
+        Program expectedTast = Compiler.getFactory().getTastAdapter()
+                .getTast(Resources.getProgram("SimpleTests/FourClasses.java"));
+        Program generatedTast = compiler.getTastAdapter().getTast(Resources.getProgram("SimpleTests/FourClasses.java"));
+        assertEquals(expectedTast, generatedTast);
+
+        String expectedErrors = assertThrows(SemanticError.class, () -> Compiler.getFactory().getTastAdapter()
+                .getTast(Resources.getProgram("FailTests/MethodAccessTests.java"))).getMessage();
+        String generatedErrors = assertThrows(SemanticError.class, () -> compiler.getTastAdapter()
+                .getTast(Resources.getProgram("FailTests/MethodAccessTests.java"))).getMessage();
+        assertEquals(expectedErrors, generatedErrors);
+    }
+
+    @Test
+    @DisplayName("Canonical Types")
+    void canonicalTypes() {
+        Program tast = Compiler.getFactory().getTastAdapter()
+                .getTast(Resources.getProgram("SimpleTests/FourClasses.java"));
+        var types = tast.getContext().getTypes();
+        assertSame(BaseType.of(Primitives.INT), types.canonical(new BaseType(Primitives.INT)));
+        assertSame(types.reference("Test"), types.canonical(new ReferenceType("Test")));
+        tast.getContext().getClasses().values().forEach(classContext -> {
+            classContext.getFields().values()
+                    .forEach(field -> assertSame(types.canonical(field.getType()), field.getType()));
+            classContext.getMethods().values().forEach(overloads -> overloads.forEach(method -> {
+                assertSame(types.canonical(method.getType()), method.getType());
+                method.getParameterTypes().forEach(type -> assertSame(types.canonical(type), type));
+            }));
+        });
+
+        // the BaseTypes of a deserialized AST, e.g. from the AstCache, are the shared ones, too
+        Program read = AstSerializer.read(AstSerializer.write(Resources.getProgram("SimpleTests/FourClasses.java")));
+        read.getClasses().forEach(clazz -> clazz.getFieldDelcarations().stream()
+                .filter(field -> field.getType() instanceof BaseType)
+                .forEach(field -> assertSame(types.canonical(field.getType()), field.getType())));
+    }
+
+    @Test
+    @DisplayName("OverloadIndex")
+    void overloadIndex() {
+        var context = new Context(Resources.getProgram("FailTests/MultipleMethodsConflict.java"));
+        var classContext = context.getClasses().get("MultipleMethodsConflict");
+        var self = new ReferenceType("MultipleMethodsConflict");
+        assertEquals(2, classContext.getOverloads("test", 2).size());
+        assertEquals(1, classContext.getOverloads("test", List.of(self, self)).size());
+        assertEquals(0, classContext.getOverloads("test", List.of(self)).size());
+        assertEquals(0, classContext.getOverloads("missing", 0).size());
+
+        Program tast = Compiler.getFactory().getTastAdapter()
+                .getTast(Resources.getProgram("SimpleTests/MethodCallParams.java"));
+        var resolved = tast.getContext().getClasses().get("MethodCallParams").getResolved("foo",
+                List.of(BaseType.of(Primitives.INT)), true);
+        assertSame(tast.getContext().getClasses().get("MethodCallParams").getMethods().get("foo").get(0), resolved);
+    }
+
+    @Test
+    @DisplayName("ScopeTable")
+    void scopeTable() {
+        var scope = new ScopeContext(new TypeTable());
+        var intType = BaseType.of(Primitives.INT);
+        scope.pushScope();
+        scope.addLocalVar("a", intType);
+        for (int depth = 0; depth < 40; depth++) {
+            scope.pushScope();
+            scope.addLocalVar("v" + depth, new ReferenceType("T" + depth));
+        }
+        assertSame(intType, scope.getLocalVar("a"));
+        assertEquals(new ReferenceType("T39"), scope.getLocalVar("v39"));
+        assertThrows(AlreadyDefinedException.class, () -> scope.addLocalVar("v3", intType));
+        for (int depth = 39; depth >= 20; depth--) {
+            scope.popScope();
+        }
+        assertFalse(scope.contains("v20"));
+        assertEquals(new ReferenceType("T19"), scope.getLocalVar("v19"));
+        scope.addLocalVar("v30", intType);
+        assertSame(intType, scope.getLocalVar("v30"));
+        scope.popScope();
+        assertNull(scope.getLocalVar("v30"));
+        assertNull(scope.getLocalVar("v19"));
+        assertSame(intType, scope.getLocalVar("a"));
+    }
+
 }